@@ -0,0 +1,24 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 캐시 무효화는 커밋 이후에 실행 (커밋 전에 비우면 동시 조회가 이전 값을 다시 채울 수 있음)
+final class CacheTransactions {
+
+    private CacheTransactions() {
+    }
+
+    static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
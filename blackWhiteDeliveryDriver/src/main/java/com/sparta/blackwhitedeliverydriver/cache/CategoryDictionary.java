@@ -0,0 +1,119 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import com.sparta.blackwhitedeliverydriver.entity.Category;
+import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j(topic = "CategoryDictionary")
+@Component
+public class CategoryDictionary {
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate readTemplate;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    public CategoryDictionary(CategoryRepository categoryRepository, PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        // 커밋 이후 호출될 수 있으므로 항상 별도의 읽기 트랜잭션에서 로딩
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Category> categories = readTemplate.execute(status -> categoryRepository.findAll());
+        Snapshot newSnapshot = Snapshot.of(categories);
+        snapshot.set(newSnapshot);
+        log.info("카테고리 사전 로딩 완료 (version: {}, size: {})", newSnapshot.version, newSnapshot.idByName.size());
+    }
+
+    // 다른 노드에서 변경된 경우 버전 비교로 감지
+    @Scheduled(fixedDelayString = "${category.dictionary.check-interval-ms:30000}")
+    public void reloadIfStale() {
+        String currentVersion = readTemplate.execute(status -> Snapshot.versionOf(
+                categoryRepository.count(), categoryRepository.findMaxLastModifiedDate()));
+        if (!Objects.equals(currentVersion, snapshot.get().version)) {
+            load();
+        }
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 사전을 다시 로딩
+    public void refreshAfterCommit() {
+        CacheTransactions.runAfterCommit(this::load);
+    }
+
+    public Optional<UUID> findIdByName(String name) {
+        UUID categoryId = snapshot.get().idByName.get(name);
+        if (categoryId != null) {
+            return Optional.of(categoryId);
+        }
+        // 다른 노드에서 막 생성된 카테고리일 수 있으므로 DB 확인 후 재로딩
+        Optional<Category> category = categoryRepository.findByName(name);
+        category.ifPresent(found -> load());
+        return category.map(Category::getCategoryId);
+    }
+
+    public Optional<String> findNameById(UUID categoryId) {
+        String name = snapshot.get().nameById.get(categoryId);
+        if (name != null) {
+            return Optional.of(name);
+        }
+        Optional<Category> category = categoryRepository.findById(categoryId);
+        category.ifPresent(found -> load());
+        return category.map(Category::getName);
+    }
+
+    public String getVersion() {
+        return snapshot.get().version;
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), null);
+
+        private final Map<String, UUID> idByName;
+        private final Map<UUID, String> nameById;
+        private final String version;
+
+        private Snapshot(Map<String, UUID> idByName, Map<UUID, String> nameById, String version) {
+            this.idByName = idByName;
+            this.nameById = nameById;
+            this.version = version;
+        }
+
+        private static Snapshot of(List<Category> categories) {
+            Map<String, UUID> idByName = new HashMap<>();
+            Map<UUID, String> nameById = new HashMap<>();
+            LocalDateTime maxLastModifiedDate = null;
+            for (Category category : categories) {
+                idByName.put(category.getName(), category.getCategoryId());
+                nameById.put(category.getCategoryId(), category.getName());
+                LocalDateTime lastModifiedDate = category.getLastModifiedDate();
+                if (lastModifiedDate != null && (maxLastModifiedDate == null || lastModifiedDate.isAfter(maxLastModifiedDate))) {
+                    maxLastModifiedDate = lastModifiedDate;
+                }
+            }
+            return new Snapshot(Map.copyOf(idByName), Map.copyOf(nameById), versionOf(categories.size(), maxLastModifiedDate));
+        }
+
+        // 행 수 + 최종 수정 시각 -> 생성/수정/삭제 모두 버전이 바뀜
+        private static String versionOf(long count, LocalDateTime maxLastModifiedDate) {
+            return count + "@" + maxLastModifiedDate;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.blackwhitedeliverydriver.dto.ProductResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 점포별 메뉴 스냅샷 (공개 + 미삭제 음식 전체) -> 정렬 기준별로 미리 정렬해두고 페이지는 메모리에서 잘라서 반환
+// 지표: cache.gets{cache=menu,result=hit|miss}, cache.evictions, cache.size
+@Component
+public class MenuCache {
+    private static final String CACHE_NAME = "menu";
+    private static final Comparator<Product> TIE_BREAKER = Comparator.comparing(Product::getProductId);
+    private static final Map<String, Comparator<Product>> COMPARATORS = Map.of(
+            "createdDate", Comparator.comparing(Product::getCreatedDate, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())),
+            "lastModifiedDate", Comparator.comparing(Product::getLastModifiedDate, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())),
+            "name", Comparator.comparing(Product::getName),
+            "price", Comparator.comparing(Product::getPrice)
+    );
+
+    private final Cache<UUID, Menu> cache;
+
+    public MenuCache(MeterRegistry meterRegistry,
+                     @Value("${menu.cache.max-size:1000}") long maxSize,
+                     @Value("${menu.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public static boolean isSortable(String sortBy) {
+        return COMPARATORS.containsKey(sortBy);
+    }
+
+    public Menu get(UUID storeId, Supplier<List<Product>> loader) {
+        return cache.get(storeId, key -> Menu.of(loader.get()));
+    }
+
+    public void evictAfterCommit(UUID storeId) {
+        CacheTransactions.runAfterCommit(() -> cache.invalidate(storeId));
+    }
+
+    public void evictAfterCommit(Collection<UUID> storeIds) {
+        CacheTransactions.runAfterCommit(() -> cache.invalidateAll(storeIds));
+    }
+
+    public static final class Menu {
+        private final Map<String, List<ProductResponseDto>> productsBySort;
+
+        private Menu(Map<String, List<ProductResponseDto>> productsBySort) {
+            this.productsBySort = productsBySort;
+        }
+
+        private static Menu of(List<Product> products) {
+            Map<String, List<ProductResponseDto>> productsBySort = new HashMap<>();
+            COMPARATORS.forEach((sortBy, comparator) -> productsBySort.put(sortBy, products.stream()
+                    .sorted(comparator.thenComparing(TIE_BREAKER))
+                    .map(ProductResponseDto::from)
+                    .toList()));
+            return new Menu(Map.copyOf(productsBySort));
+        }
+
+        // 오름차순 정렬 목록 (내림차순은 호출 측에서 뒤에서부터 자름)
+        public List<ProductResponseDto> sortedBy(String sortBy) {
+            return productsBySort.get(sortBy);
+        }
+    }
+}
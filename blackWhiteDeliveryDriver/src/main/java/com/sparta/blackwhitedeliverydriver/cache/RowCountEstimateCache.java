@@ -0,0 +1,43 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 관리자 목록용 테이블 행 수 추정치 (pg_class.reltuples, ANALYZE / autovacuum 기준) -> COUNT(*) 대신 사용
+// p_order, p_pay 는 보관 기간이 지난 행이 아카이브로 옮겨지므로 추정치가 보관 기간 건수에 가까움
+@Component
+public class RowCountEstimateCache {
+    private static final String CACHE_NAME = "rowCountEstimate";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Optional<Long>> cache;
+
+    public RowCountEstimateCache(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                 @Value("${pagination.count-estimate.ttl-seconds:60}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 통계가 아직 없으면 (reltuples = -1) null
+    public Long get(String table) {
+        return cache.get(table, this::load).orElse(null);
+    }
+
+    private Optional<Long> load(String table) {
+        Long estimate = jdbcTemplate.query("SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)",
+                rs -> rs.next() ? rs.getLong(1) : null, table);
+        return Optional.ofNullable(estimate).filter(count -> count >= 0);
+    }
+}
@@ -0,0 +1,69 @@
+package com.sparta.blackwhitedeliverydriver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.blackwhitedeliverydriver.dto.StoreResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 점포 상세 조회 캐시 (storeId + 조회 조건) -> 최대 크기 + TTL 로 제한
+// 지표: cache.gets{cache=storeDetail,result=hit|miss}, cache.evictions, cache.size
+@Component
+public class StoreDetailCache {
+    private static final String CACHE_NAME = "storeDetail";
+
+    private final Cache<Key, StoreResponseDto> cache;
+
+    public StoreDetailCache(MeterRegistry meterRegistry,
+                            @Value("${store.detail-cache.max-size:2000}") long maxSize,
+                            @Value("${store.detail-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public StoreResponseDto get(UUID storeId, boolean isExceptDelete, boolean isPublic, Supplier<StoreResponseDto> loader) {
+        return cache.get(new Key(storeId, isExceptDelete, isPublic), key -> loader.get());
+    }
+
+    public void evictAfterCommit(UUID storeId) {
+        evictAfterCommit(List.of(storeId));
+    }
+
+    public void evictAfterCommit(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        CacheTransactions.runAfterCommit(() -> cache.invalidateAll(keysOf(storeIds)));
+    }
+
+    // 카테고리 이름 변경 등 여러 점포에 걸친 변경
+    public void evictAllAfterCommit() {
+        CacheTransactions.runAfterCommit(cache::invalidateAll);
+    }
+
+    private static List<Key> keysOf(Collection<UUID> storeIds) {
+        List<Key> keys = new ArrayList<>();
+        for (UUID storeId : storeIds) {
+            keys.add(new Key(storeId, true, true));
+            keys.add(new Key(storeId, true, false));
+            keys.add(new Key(storeId, false, true));
+            keys.add(new Key(storeId, false, false));
+        }
+        return keys;
+    }
+
+    private record Key(UUID storeId, boolean isExceptDelete, boolean isPublic) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayCancelResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayOrderResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayReadyResponseDto;
+import com.sparta.blackwhitedeliverydriver.util.PayUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+// 카카오페이 API 전용 클라이언트 -> 커넥션 풀 공유(HTTP/1.1 keep-alive), 연결 / 응답 / 풀 대기 타임아웃 지정
+// 지표: http.client.requests{uri=/payment/ready|approve|cancel|order} (호출 지연), kakaopay.pool.leased|available|pending|max (풀 사용량)
+@Component
+public class KakaoPayClient implements DisposableBean {
+    private static final String POOL_METRIC = "kakaopay.pool";
+
+    private final PayUtil payUtil;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+
+    public KakaoPayClient(RestTemplateBuilder builder, MeterRegistry meterRegistry, PayUtil payUtil,
+                          @Value("${pay.client.base-url:https://open-api.kakaopay.com/online/v1}") String baseUrl,
+                          @Value("${pay.client.connect-timeout-ms:1000}") long connectTimeoutMs,
+                          @Value("${pay.client.read-timeout-ms:5000}") long readTimeoutMs,
+                          @Value("${pay.client.pool-timeout-ms:1000}") long poolTimeoutMs,
+                          @Value("${pay.client.max-total:100}") int maxTotal,
+                          @Value("${pay.client.max-per-route:50}") int maxPerRoute,
+                          @Value("${pay.client.idle-timeout-seconds:30}") long idleTimeoutSeconds) {
+        this.payUtil = payUtil;
+        // 카카오페이는 단일 호스트(route) -> 사실상 max-per-route 가 동시 호출 상한
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleTimeoutSeconds))
+                .build();
+        this.restTemplate = builder
+                .rootUri(baseUrl)
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+
+        registerPoolGauge(meterRegistry, "leased", "사용 중인 커넥션", PoolStats::getLeased);
+        registerPoolGauge(meterRegistry, "available", "유휴 커넥션", PoolStats::getAvailable);
+        registerPoolGauge(meterRegistry, "pending", "커넥션 대기 요청", PoolStats::getPending);
+        registerPoolGauge(meterRegistry, "max", "최대 커넥션", PoolStats::getMax);
+    }
+
+    public PayReadyResponseDto ready(Map<String, String> parameters) {
+        return post("/payment/ready", parameters, PayReadyResponseDto.class);
+    }
+
+    public PayApproveResponseDto approve(Map<String, String> parameters) {
+        return post("/payment/approve", parameters, PayApproveResponseDto.class);
+    }
+
+    public PayCancelResponseDto cancel(Map<String, String> parameters) {
+        return post("/payment/cancel", parameters, PayCancelResponseDto.class);
+    }
+
+    // 결제 상태 조회 (응답을 받지 못한 승인 / 취소 정리용)
+    public PayOrderResponseDto order(Map<String, String> parameters) {
+        return post("/payment/order", parameters, PayOrderResponseDto.class);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+
+    private <T> T post(String path, Map<String, String> parameters, Class<T> responseType) {
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(parameters, payUtil.getHeaders());
+        return restTemplate.postForObject(path, request, responseType);
+    }
+
+    private void registerPoolGauge(MeterRegistry meterRegistry, String name, String description,
+                                   ToDoubleFunction<PoolStats> value) {
+        Gauge.builder(POOL_METRIC + "." + name, connectionManager, manager -> value.applyAsDouble(manager.getTotalStats()))
+                .description(description)
+                .register(meterRegistry);
+    }
+}
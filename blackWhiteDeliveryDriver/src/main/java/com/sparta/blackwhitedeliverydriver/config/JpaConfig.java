@@ -1,9 +1,17 @@
 package com.sparta.blackwhitedeliverydriver.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+
+    // 기본 JpaTransactionManager 대신 소프트 삭제 필터를 켜는 트랜잭션 매니저 사용
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new SoftDeleteFilterTransactionManager();
+    }
 }
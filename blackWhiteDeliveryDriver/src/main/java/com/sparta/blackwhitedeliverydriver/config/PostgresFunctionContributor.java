@@ -0,0 +1,19 @@
+package com.sparta.blackwhitedeliverydriver.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+// JPQL 에서 쓰는 PostgreSQL 전용 함수 (META-INF/services 로 등록)
+public class PostgresFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        // 영업 구간 [start, end) 에 minute 포함 여부 -> int4range GiST 인덱스 식과 같은 형태로 렌더링
+        functionContributions.getFunctionRegistry()
+                .registerPattern("window_contains", "(int4range(?1, ?2) @> ?3)", booleanType);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sparta.blackwhitedeliverydriver.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 스케줄러 스레드 수는 spring.task.scheduling.pool.size (기본 1 -> 느린 주기 작업이 나머지를 모두 막음)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
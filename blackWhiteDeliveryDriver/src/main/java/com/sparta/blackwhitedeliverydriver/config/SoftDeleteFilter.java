@@ -0,0 +1,31 @@
+package com.sparta.blackwhitedeliverydriver.config;
+
+import com.sparta.blackwhitedeliverydriver.entity.BaseEntity;
+import jakarta.persistence.EntityManager;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+// 삭제된 행까지 조회해야 하는 경우(관리자 조회, 이름 중복 확인)에만 필터를 잠시 끔
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteFilter {
+
+    private final EntityManager entityManager;
+
+    public <T> T includeDeleted(Supplier<T> query) {
+        Session session = entityManager.unwrap(Session.class);
+        boolean enabled = session.getEnabledFilter(BaseEntity.SOFT_DELETE_FILTER) != null;
+        if (enabled) {
+            session.disableFilter(BaseEntity.SOFT_DELETE_FILTER);
+        }
+        try {
+            return query.get();
+        } finally {
+            if (enabled) {
+                session.enableFilter(BaseEntity.SOFT_DELETE_FILTER);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.blackwhitedeliverydriver.config;
+
+import com.sparta.blackwhitedeliverydriver.entity.BaseEntity;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 모든 트랜잭션에서 소프트 삭제 필터를 켠 상태로 시작 -> JPQL/파생 쿼리는 deleted_date IS NULL 행만 조회
+// (findById 등 식별자 조회와 네이티브 쿼리에는 적용되지 않음)
+public class SoftDeleteFilterTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (holder != null) {
+            holder.getEntityManager().unwrap(Session.class).enableFilter(BaseEntity.SOFT_DELETE_FILTER);
+        }
+    }
+}
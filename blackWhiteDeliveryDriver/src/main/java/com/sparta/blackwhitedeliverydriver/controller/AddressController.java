@@ -3,6 +3,7 @@ package com.sparta.blackwhitedeliverydriver.controller;
 import com.sparta.blackwhitedeliverydriver.dto.AddressIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.AddressRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.AddressResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
 import com.sparta.blackwhitedeliverydriver.service.AddressService;
 import jakarta.validation.Valid;
@@ -65,6 +66,19 @@ public class AddressController {
         return ResponseEntity.status(HttpStatus.OK).body(addressResponseDtos);
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponseDto<AddressResponseDto>> getAllAddressesSlice(
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam("isAsc") boolean isAsc,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        // 사용자의 주소를 다음 페이지 여부와 함께 가져온다 (count 쿼리 없음)
+        SliceResponseDto<AddressResponseDto> addressResponseDtos = addressService.getAllAddressesSlice(userDetails.getUsername(), page-1, size, sortBy, isAsc);
+
+        return ResponseEntity.status(HttpStatus.OK).body(addressResponseDtos);
+    }
+
     @GetMapping("/current")
     public ResponseEntity<AddressResponseDto> getCurrentAddress(@AuthenticationPrincipal UserDetailsImpl userDetails) {
         // 사용자의 현재(기본) 배송지를 가져온다
@@ -4,6 +4,7 @@ import com.sparta.blackwhitedeliverydriver.dto.BasketAddRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketUpdateRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
 import com.sparta.blackwhitedeliverydriver.service.BasketService;
 import jakarta.validation.Valid;
@@ -68,6 +69,23 @@ public class BasketController {
         return ResponseEntity.status(HttpStatus.OK).body(responseDtoList);
     }
 
+    @Secured({"ROLE_CUSTOMER", "ROLE_MANAGER", "ROLE_MASTER"})
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponseDto<BasketGetResponseDto>> getBasketsSlice(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "sortBy", defaultValue = "createdDate") String sortBy,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc) {
+
+        //장바구니 리스트 조회 (count 쿼리 없음)
+        SliceResponseDto<BasketGetResponseDto> responseDtoList = basketService.getBasketsSlice(userDetails.getUsername(),
+                page - 1, size, sortBy, isAsc);
+
+        //200 응답
+        return ResponseEntity.status(HttpStatus.OK).body(responseDtoList);
+    }
+
     @Secured({"ROLE_CUSTOMER"})
     @PutMapping
     public ResponseEntity<BasketResponseDto> updateBasket(@AuthenticationPrincipal UserDetailsImpl userDetails,
@@ -92,4 +110,19 @@ public class BasketController {
                 productName, page - 1, size, sortBy, isAsc);
         return ResponseEntity.ok(baskets);
     }
+
+    @Secured({"ROLE_CUSTOMER"})
+    @GetMapping("/search/slice")
+    public ResponseEntity<SliceResponseDto<BasketGetResponseDto>> searchBasketsSlice(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("productName") String productName,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "sortBy", defaultValue = "createdDate") String sortBy,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc) {
+
+        SliceResponseDto<BasketGetResponseDto> baskets = basketService.searchBasketsByProductNameSlice(
+                userDetails.getUsername(), productName, page - 1, size, sortBy, isAsc);
+        return ResponseEntity.ok(baskets);
+    }
 }
@@ -3,6 +3,7 @@ package com.sparta.blackwhitedeliverydriver.controller;
 import com.sparta.blackwhitedeliverydriver.dto.CategoryIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.CategoryRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.CategoryResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.service.CategoryService;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -41,6 +42,18 @@ public class CategoryController {
         return ResponseEntity.status(HttpStatus.OK).body(categoryResponseDtos);
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponseDto<CategoryResponseDto>> getAllCategoriesSlice(
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam("isAsc") boolean isAsc) {
+
+        SliceResponseDto<CategoryResponseDto> categoryResponseDtos = categoryService.getAllCategoriesSlice(page-1, size, sortBy, isAsc);
+
+        return ResponseEntity.status(HttpStatus.OK).body(categoryResponseDtos);
+    }
+
     @Secured({"ROLE_MANAGER", "ROLE_MASTER"})
     @PostMapping("/")
     public ResponseEntity<CategoryIdResponseDto> createCategory(@RequestBody CategoryRequestDto requestDto) {
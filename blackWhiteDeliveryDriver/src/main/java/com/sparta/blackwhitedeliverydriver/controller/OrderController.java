@@ -1,10 +1,12 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderAddRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderUpdateRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
 import com.sparta.blackwhitedeliverydriver.service.OrderService;
 import jakarta.validation.Valid;
@@ -68,6 +70,49 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.OK).body(responseList);
     }
 
+    @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponseDto<OrderGetResponseDto>> getOrdersSlice(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam("isAsc") boolean isAsc) {
+        //주문 목록 조회 (count 쿼리 없음)
+        SliceResponseDto<OrderGetResponseDto> responseList = orderService.getOrdersSlice(userDetails.getUsername(),
+                page - 1, size, sortBy, isAsc);
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(responseList);
+    }
+
+    @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponseDto<OrderGetResponseDto>> getOrdersByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("size") int size,
+            @RequestParam("isAsc") boolean isAsc) {
+        //주문 목록 조회 (커서 기반)
+        CursorResponseDto<OrderGetResponseDto> responseList = orderService.getOrdersByCursor(userDetails.getUsername(),
+                cursor, size, isAsc);
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(responseList);
+    }
+
+    @Secured({"ROLE_CUSTOMER"})
+    @GetMapping("/archive")
+    public ResponseEntity<CursorResponseDto<OrderGetResponseDto>> getArchivedOrdersByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("size") int size,
+            @RequestParam("isAsc") boolean isAsc) {
+        //보관 기간이 지난 주문 목록 조회 (커서 기반)
+        CursorResponseDto<OrderGetResponseDto> responseList = orderService.getArchivedOrdersByCursor(
+                userDetails.getUsername(), cursor, size, isAsc);
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(responseList);
+    }
+
     @Secured({"ROLE_OWNER", "ROLE_MASTER", "ROLE_MANAGER"})
     @GetMapping("/stores/{storeId}")//테스트 완료
     public ResponseEntity<Page<OrderGetResponseDto>> getOrdersByStore(
@@ -85,6 +130,22 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.OK).body(responseList);
     }
 
+    @Secured({"ROLE_OWNER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping("/stores/{storeId}/slice")
+    public ResponseEntity<SliceResponseDto<OrderGetResponseDto>> getOrdersByStoreSlice(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam("isAsc") boolean isAsc,
+            @PathVariable UUID storeId) {
+        //주문 목록 조회 (count 쿼리 없음)
+        SliceResponseDto<OrderGetResponseDto> responseList = orderService.getOrdersByStoreSlice(
+                userDetails.getUsername(), page - 1, size, sortBy, isAsc, storeId);
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(responseList);
+    }
+
     @Secured({"ROLE_OWNER", "ROEL_MASTER", "ROLE_MANAGER"})
     @PutMapping
     public ResponseEntity<OrderResponseDto> updateOrderStatus(@AuthenticationPrincipal UserDetailsImpl userDetails,
@@ -119,4 +180,19 @@ public class OrderController {
 
         return ResponseEntity.ok(responseList);
     }
+
+    @Secured({"ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping("/search/slice")
+    public ResponseEntity<SliceResponseDto<OrderGetResponseDto>> searchOrdersSlice(
+            @RequestParam("storeName") String storeName,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam("isAsc") boolean isAsc) {
+        // 서비스 호출 (count 쿼리 없음)
+        SliceResponseDto<OrderGetResponseDto> responseList = orderService.searchOrdersByStoreNameSlice(
+                storeName, page-1, size, sortBy, isAsc);
+
+        return ResponseEntity.ok(responseList);
+    }
 }
\ No newline at end of file
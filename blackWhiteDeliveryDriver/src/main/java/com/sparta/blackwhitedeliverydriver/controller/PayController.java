@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayGetResponseDto;
@@ -7,6 +8,8 @@ import com.sparta.blackwhitedeliverydriver.dto.PayReadyResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayRefundRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayRefundResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.RefundStatusResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
 import com.sparta.blackwhitedeliverydriver.service.PayService;
 import jakarta.validation.Valid;
@@ -66,6 +69,17 @@ public class PayController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @Secured({"ROLE_CUSTOMER", "ROLE_OWNER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping("/refunds/{orderId}")
+    public ResponseEntity<RefundStatusResponseDto> getRefundStatus(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                   @PathVariable UUID orderId) {
+        //거절 주문 환불 처리 상태 조회
+        RefundStatusResponseDto response = payService.getRefundStatus(userDetails.getUsername(), orderId);
+
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
     @GetMapping
     public ResponseEntity<Page<PayGetResponseDto>> getPays(@AuthenticationPrincipal UserDetailsImpl userDetails,
@@ -81,6 +95,51 @@ public class PayController {
         return ResponseEntity.status(HttpStatus.OK).body(responses);
     }
 
+    @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponseDto<PayGetResponseDto>> getPaysSlice(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                            @RequestParam("page") int page,
+                                                                            @RequestParam("size") int size,
+                                                                            @RequestParam("sortBy") String sortBy,
+                                                                            @RequestParam("isAsc") boolean isAsc) {
+        //pay 목록 조회 (count 쿼리 없음)
+        SliceResponseDto<PayGetResponseDto> responses = payService.getPaysSlice(userDetails.getUsername(), page - 1, size,
+                sortBy, isAsc);
+
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(responses);
+    }
+
+    @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponseDto<PayGetResponseDto>> getPaysByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("size") int size,
+            @RequestParam("isAsc") boolean isAsc) {
+        //pay 목록 조회 (커서 기반)
+        CursorResponseDto<PayGetResponseDto> responses = payService.getPaysByCursor(userDetails.getUsername(), cursor,
+                size, isAsc);
+
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(responses);
+    }
+
+    @Secured({"ROLE_CUSTOMER"})
+    @GetMapping("/archive")
+    public ResponseEntity<CursorResponseDto<PayGetResponseDto>> getArchivedPaysByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("size") int size,
+            @RequestParam("isAsc") boolean isAsc) {
+        //보관 기간이 지난 pay 목록 조회 (커서 기반)
+        CursorResponseDto<PayGetResponseDto> responses = payService.getArchivedPaysByCursor(userDetails.getUsername(),
+                cursor, size, isAsc);
+
+        //200 반환
+        return ResponseEntity.status(HttpStatus.OK).body(responses);
+    }
+
     @Secured({"ROLE_CUSTOMER", "ROLE_MASTER", "ROLE_MANAGER"})
     @GetMapping("/{payId}")
     public ResponseEntity<PayGetDetailResponseDto> getPayDetail(@AuthenticationPrincipal UserDetailsImpl userDetails,
@@ -106,4 +165,19 @@ public class PayController {
 
         return ResponseEntity.ok(response);
     }
+
+    @Secured({"ROLE_MASTER", "ROLE_MANAGER"})
+    @GetMapping("/search/slice")
+    public ResponseEntity<SliceResponseDto<PayGetResponseDto>> searchPaymentsSlice(
+            @RequestParam("storeName") String storeName,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam("isAsc") boolean isAsc) {
+
+        SliceResponseDto<PayGetResponseDto> response = payService.searchPaymentsByStoreNameSlice(storeName, page-1, size,
+                sortBy, isAsc);
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -2,16 +2,23 @@ package com.sparta.blackwhitedeliverydriver.controller;
 
 import com.sparta.blackwhitedeliverydriver.dto.CreateProductRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductIdResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportRowDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.ProductSearchResponseDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
+import com.sparta.blackwhitedeliverydriver.service.ProductSearchService;
 import com.sparta.blackwhitedeliverydriver.service.ProductService;
+import com.sparta.blackwhitedeliverydriver.util.ProductCsvReader;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -31,6 +38,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
 
     @GetMapping("/")
     public ResponseEntity<?> getProducts(
@@ -48,6 +56,24 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.OK).body(productResponseDtoPage);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<?> searchProducts(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        // 전체 점포 음식 검색 (관련도 순)
+        List<ProductSearchResponseDto> productSearchResponseDtoList = productSearchService.search(keyword, page - 1, size);
+        return ResponseEntity.status(HttpStatus.OK).body(productSearchResponseDtoList);
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocompleteProducts(@RequestParam("keyword") String keyword) {
+        // 음식명 자동완성 (접두어)
+        List<String> productNames = productSearchService.autocomplete(keyword);
+        return ResponseEntity.status(HttpStatus.OK).body(productNames);
+    }
+
     @Secured({"ROLE_OWNER", "ROLE_MANAGER", "ROLE_MASTER"})
     @PostMapping("/")
     public ResponseEntity<?> createProductByOwner(@RequestBody CreateProductRequestDto requestDto,
@@ -56,6 +82,27 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(productIdResponseDto);
     }
 
+    @Secured({"ROLE_OWNER"})
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importProducts(@RequestParam UUID storeId,
+                                            @RequestBody List<ProductImportRowDto> rows,
+                                            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        // 음식 일괄 등록 (JSON 배열)
+        ProductImportResponseDto productImportResponseDto = productService.importProducts(storeId, rows, userDetails);
+        return ResponseEntity.status(HttpStatus.CREATED).body(productImportResponseDto);
+    }
+
+    @Secured({"ROLE_OWNER"})
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<?> importProductsFromCsv(@RequestParam UUID storeId,
+                                                   InputStream csv,
+                                                   @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        // 음식 일괄 등록 (CSV 스트림)
+        List<ProductImportRowDto> rows = ProductCsvReader.read(csv, ProductService.MAX_IMPORT_ROWS);
+        ProductImportResponseDto productImportResponseDto = productService.importProducts(storeId, rows, userDetails);
+        return ResponseEntity.status(HttpStatus.CREATED).body(productImportResponseDto);
+    }
+
     @Secured({"ROLE_OWNER", "ROLE_MANAGER", "ROLE_MASTER"})
     @PutMapping("/{productId}")
     public ResponseEntity<?> updateProduct(@PathVariable UUID productId, @RequestBody ProductRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails){
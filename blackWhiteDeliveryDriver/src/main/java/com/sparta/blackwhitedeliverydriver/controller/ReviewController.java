@@ -1,8 +1,10 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
 import com.sparta.blackwhitedeliverydriver.service.ReviewService;
 import jakarta.validation.Valid;
@@ -52,6 +54,33 @@ public class ReviewController {
         return ResponseEntity.status(HttpStatus.OK).body(responseDtos);
     }
 
+    @GetMapping("/store/slice")
+    public ResponseEntity<SliceResponseDto<ReviewResponseDto>> getAllReviewsByStoreIdSlice(
+            @RequestParam UUID storeId,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam("isAsc") boolean isAsc) {
+
+        SliceResponseDto<ReviewResponseDto> responseDtos = reviewService.getAllReviewsByStoreIdSlice(
+                storeId, page - 1, size, sortBy, isAsc);
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseDtos);
+    }
+
+    @GetMapping("/store/cursor")
+    public ResponseEntity<CursorResponseDto<ReviewResponseDto>> getAllReviewsByStoreIdAndCursor(
+            @RequestParam UUID storeId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam("size") int size,
+            @RequestParam("isAsc") boolean isAsc) {
+
+        CursorResponseDto<ReviewResponseDto> responseDtos = reviewService.getAllReviewsByStoreIdAndCursor(
+                storeId, cursor, size, isAsc);
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseDtos);
+    }
+
     @GetMapping("/user")
     public ResponseEntity<Page<ReviewResponseDto>> getAllReviewsByUsername(
             @RequestParam String username,
@@ -66,6 +95,20 @@ public class ReviewController {
         return ResponseEntity.status(HttpStatus.OK).body(responseDtos);
     }
 
+    @GetMapping("/user/slice")
+    public ResponseEntity<SliceResponseDto<ReviewResponseDto>> getAllReviewsByUsernameSlice(
+            @RequestParam String username,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam("isAsc") boolean isAsc) {
+
+        SliceResponseDto<ReviewResponseDto> responseDtos = reviewService.getAllReviewsByUsernameSlice(
+                username, page - 1, size, sortBy, isAsc);
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseDtos);
+    }
+
     @GetMapping("/{reviewId}")
     public ResponseEntity<ReviewResponseDto> getReview(@PathVariable UUID reviewId) {
         ReviewResponseDto responseDto = reviewService.getReview(reviewId);
@@ -1,16 +1,22 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreIdResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.StoreRatingResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreByMasterRequestDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
+import com.sparta.blackwhitedeliverydriver.service.StoreRatingService;
+import com.sparta.blackwhitedeliverydriver.service.StoreSearchService;
 import com.sparta.blackwhitedeliverydriver.service.StoreService;
 import jakarta.validation.Valid;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
@@ -31,6 +37,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StoreRatingService storeRatingService;
 
     @GetMapping("/")
     public ResponseEntity<?> getStores(
@@ -38,11 +45,40 @@ public class StoreController {
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "sortBy", defaultValue = "createdDate") String sortBy,
             @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc,
+            @RequestParam(value = "openNow", defaultValue = "false") boolean openNow,
+            @RequestParam(value = "openAt", required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime openAt,
             Sort sort
     ){
         // 전체 점포 목록 조회
         List<StoreResponseDto> storeResponseDtoPage = storeService.getStores(
-                page - 1, size, sortBy, isAsc
+                page - 1, size, sortBy, isAsc, resolveOpenAt(openNow, openAt)
+        );
+
+        return ResponseEntity.status(HttpStatus.OK).body(storeResponseDtoPage);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getStoresByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc
+    ){
+        // 전체 점포 목록 조회 (커서 기반)
+        CursorResponseDto<StoreResponseDto> storeResponseDtoCursor = storeService.getStoresByCursor(cursor, size, isAsc);
+
+        return ResponseEntity.status(HttpStatus.OK).body(storeResponseDtoCursor);
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyStores(
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "sortBy", defaultValue = StoreService.SORT_BY_DISTANCE) String sortBy,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ){
+        // 현재 배송지 근처 점포 조회 (distance, rating 정렬)
+        List<StoreResponseDto> storeResponseDtoPage = storeService.getNearbyStores(
+                userDetails.getUsername(), page - 1, size, sortBy
         );
 
         return ResponseEntity.status(HttpStatus.OK).body(storeResponseDtoPage);
@@ -58,6 +94,15 @@ public class StoreController {
         return ResponseEntity.status(HttpStatus.OK).body(storeResponseDto);
     }
 
+    @GetMapping("/{storeId}/rating")
+    public ResponseEntity<?> getStoreRating(
+            @PathVariable("storeId") UUID storeId
+    ){
+        // 점포 평점 분포 조회 (집계 컬럼만 조회)
+        StoreRatingResponseDto storeRatingResponseDto = storeRatingService.getRating(storeId);
+        return ResponseEntity.status(HttpStatus.OK).body(storeRatingResponseDto);
+    }
+
     @Secured({"ROLE_MANAGER", "ROLE_MASTER"})
     @GetMapping("/{storeId}/public-switch")
     public ResponseEntity<?> publicSwitch(
@@ -88,12 +133,14 @@ public class StoreController {
             @RequestParam("storeName") String storeName,
             @RequestParam(value = "page", defaultValue = "1") int page,
             @RequestParam(value = "size", defaultValue = "10") int size,
-            @RequestParam(value = "sortBy", defaultValue = "createdDate") String sortBy,
-            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc
+            @RequestParam(value = "sortBy", defaultValue = StoreSearchService.SORT_BY_RELEVANCE) String sortBy,
+            @RequestParam(value = "isAsc", defaultValue = "true") boolean isAsc,
+            @RequestParam(value = "openNow", defaultValue = "false") boolean openNow,
+            @RequestParam(value = "openAt", required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime openAt
     ){
 
         List<StoreResponseDto> storeResponseDtoPage = storeService.searchStores(
-                storeName, page -1, size, sortBy, isAsc
+                storeName, page -1, size, sortBy, isAsc, resolveOpenAt(openNow, openAt)
         );
         return ResponseEntity.status(HttpStatus.OK).body(storeResponseDtoPage);
     }
@@ -147,4 +194,10 @@ public class StoreController {
 
         return ResponseEntity.status(HttpStatus.OK).body(storeIdResponseDto);
     }
+
+    // openAt 지정 시 해당 시각, openNow 이면 현재 시각 기준 영업 중 필터
+    private LocalTime resolveOpenAt(boolean openNow, LocalTime openAt) {
+        if (openAt != null) { return openAt; }
+        return openNow ? LocalTime.now() : null;
+    }
 }
@@ -1,6 +1,7 @@
 package com.sparta.blackwhitedeliverydriver.controller;
 
 import com.sparta.blackwhitedeliverydriver.dto.SignupRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.UsernameResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.UpdateUserRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.UserResponseDto;
@@ -75,6 +76,20 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(responseDtos);
     }
 
+    @GetMapping("/search/slice")
+    public ResponseEntity<SliceResponseDto<UserResponseDto>> searchUserSlice(
+            @RequestParam String keyword,
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam("sortBy") String sortBy,
+            @RequestParam("isAsc") boolean isAsc,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        SliceResponseDto<UserResponseDto> responseDtos = userService.searchUserSlice(
+                keyword, page - 1, size, sortBy, isAsc, userDetails.getUsername());
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseDtos);
+    }
+
     @PutMapping("/")
     public ResponseEntity<UsernameResponseDto> updateUser(@Valid @RequestBody UpdateUserRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
         // 사용자 정보 업데이트
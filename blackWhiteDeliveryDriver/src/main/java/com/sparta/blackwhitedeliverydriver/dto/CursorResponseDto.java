@@ -0,0 +1,38 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponseDto<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // size + 1 건을 조회해 다음 페이지 존재 여부를 판단 (count 쿼리 없음)
+    public static <E, T> CursorResponseDto<T> of(List<E> rows, int size, Function<E, LocalDateTime> createdDateOf,
+                                                 Function<E, UUID> idOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encode(createdDateOf.apply(last), idOf.apply(last));
+        }
+        return CursorResponseDto.<T>builder()
+                .content(content.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.sparta.blackwhitedeliverydriver.dto;
 
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrder;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrderProduct;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
 import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
@@ -42,4 +44,18 @@ public class OrderGetDetailResponseDto {
                                 Collectors.toList()))
                 .build();
     }
+
+    public static OrderGetDetailResponseDto ofArchived(ArchivedOrder order, List<ArchivedOrderProduct> orderProducts) {
+        return OrderGetDetailResponseDto.builder()
+                .orderId(order.getId())
+                .storeId(order.getStore().getStoreId())
+                .username(order.getUser().getUsername())
+                .status(order.getStatus())
+                .type(order.getType())
+                .finalPay(order.getFinalPay())
+                .discountRate(order.getDiscountRate())
+                .discountAmount(order.getDiscountAmount())
+                .products(orderProducts.stream().map(orderProduct -> ProductResponseDto.from(orderProduct.getProduct())).toList())
+                .build();
+    }
 }
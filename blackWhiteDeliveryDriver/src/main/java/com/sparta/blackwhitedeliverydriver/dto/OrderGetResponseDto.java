@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.dto;
 
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrder;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
 import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
@@ -35,4 +36,17 @@ public class OrderGetResponseDto {
                 .discountAmount(order.getDiscountAmount())
                 .build();
     }
+
+    public static OrderGetResponseDto fromArchivedOrder(ArchivedOrder order) {
+        return OrderGetResponseDto.builder()
+                .orderId(order.getId())
+                .storeId(order.getStore().getStoreId())
+                .username(order.getUser().getUsername())
+                .status(order.getStatus())
+                .type(order.getType())
+                .finalPay(order.getFinalPay())
+                .discountRate(order.getDiscountRate())
+                .discountAmount(order.getDiscountAmount())
+                .build();
+    }
 }
@@ -1,5 +1,7 @@
 package com.sparta.blackwhitedeliverydriver.dto;
 
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrderProduct;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedPay;
 import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
 import com.sparta.blackwhitedeliverydriver.entity.Pay;
 import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
@@ -37,4 +39,17 @@ public class PayGetDetailResponseDto {
                 .canceledAt(pay.getCanceledAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static PayGetDetailResponseDto ofArchived(ArchivedPay pay, List<ArchivedOrderProduct> products) {
+        return PayGetDetailResponseDto.builder()
+                .payId(pay.getId())
+                .order(OrderGetDetailResponseDto.ofArchived(pay.getOrder(), products))
+                .itemName(pay.getItemName())
+                .payStatus(pay.getPayStatus())
+                .payAmount(pay.getPayAmount())
+                .refundAmount(pay.getRefundAmount())
+                .approvedAt(pay.getApprovedAt())
+                .canceledAt(pay.getCanceledAt())
+                .build();
+    }
+}
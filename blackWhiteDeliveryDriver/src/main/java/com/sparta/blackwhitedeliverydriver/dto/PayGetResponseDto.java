@@ -1,5 +1,6 @@
 package com.sparta.blackwhitedeliverydriver.dto;
 
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedPay;
 import com.sparta.blackwhitedeliverydriver.entity.Pay;
 import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
 import java.time.LocalDateTime;
@@ -34,4 +35,15 @@ public class PayGetResponseDto {
                 .build();
     }
 
+    public static PayGetResponseDto fromArchivedPay(ArchivedPay pay) {
+        return PayGetResponseDto.builder()
+                .payId(pay.getId())
+                .itemName(pay.getItemName())
+                .payStatus(pay.getPayStatus())
+                .payAmount(pay.getPayAmount())
+                .refundAmount(pay.getRefundAmount())
+                .approvedAt(pay.getApprovedAt())
+                .canceledAt(pay.getCanceledAt())
+                .build();
+    }
 }
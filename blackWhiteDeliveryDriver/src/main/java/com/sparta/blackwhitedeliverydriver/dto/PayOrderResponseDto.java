@@ -0,0 +1,25 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class PayOrderResponseDto {
+
+    private String tid; // 결제 고유 번호
+    private String cid; // 가맹점 코드
+    private String status; // 결제 상태 (SUCCESS_PAYMENT, CANCEL_PAYMENT, PART_CANCEL_PAYMENT 등)
+    private String partner_order_id; // 가맹점 주문 번호
+    private String partner_user_id; // 가맹점 회원 ID
+    private String payment_method_type; // 결제 수단
+    private Amount amount; // 결제 금액 정보
+    private Amount canceled_amount; // 누계 취소 금액
+    private Amount cancel_available_amount; // 남은 취소 금액
+    private String item_name; // 상품 이름
+    private String item_code; // 상품 코드
+    private int quantity; // 상품 수량
+    private String created_at; // 결제 준비 요청 시각
+    private String approved_at; // 결제 승인 시각
+    private String canceled_at; // 결제 취소 시각
+}
@@ -0,0 +1,14 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportErrorDto {
+    private int rowNum; // 1부터 시작 (CSV는 헤더 제외)
+    private String productName;
+    private String message;
+}
@@ -0,0 +1,19 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResponseDto {
+    private UUID storeId;
+    private int totalCnt;
+    private int importedCnt;
+    private List<ProductImportErrorDto> errors;
+}
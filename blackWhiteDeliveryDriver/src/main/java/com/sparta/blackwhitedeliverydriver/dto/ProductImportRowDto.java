@@ -0,0 +1,17 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportRowDto {
+    private String productName;
+    private Integer price;
+    private String imgUrl;
+    private String productIntro;
+}
@@ -0,0 +1,35 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResponseDto {
+    private UUID productId;
+    private String name;
+    private Integer price;
+    private String imgUrl;
+    private String productIntro;
+    private UUID storeId;
+    private String storeName;
+
+    public static ProductSearchResponseDto from(Product product, Store store) {
+        return ProductSearchResponseDto.builder()
+                .productId(product.getProductId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .imgUrl(product.getImgUrl())
+                .productIntro(product.getProductIntro())
+                .storeId(store.getStoreId())
+                .storeName(store.getStoreName())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import com.sparta.blackwhitedeliverydriver.entity.RefundOutbox;
+import com.sparta.blackwhitedeliverydriver.entity.RefundOutboxStatusEnum;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefundStatusResponseDto {
+    private UUID orderId;
+    private RefundOutboxStatusEnum status;
+    private Integer amount;
+    private Integer attemptCount;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+    private String lastError;
+
+    public static RefundStatusResponseDto fromRefundOutbox(RefundOutbox refundOutbox) {
+        return RefundStatusResponseDto.builder()
+                .orderId(refundOutbox.getOrderId())
+                .status(refundOutbox.getStatus())
+                .amount(refundOutbox.getAmount())
+                .attemptCount(refundOutbox.getAttemptCount())
+                .requestedAt(refundOutbox.getCreatedDate())
+                .completedAt(refundOutbox.getCompletedAt())
+                .lastError(refundOutbox.getLastError())
+                .build();
+    }
+}
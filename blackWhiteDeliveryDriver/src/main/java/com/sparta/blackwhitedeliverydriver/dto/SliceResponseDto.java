@@ -0,0 +1,35 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponseDto<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long estimatedTotal; // 관리자 화면용 추정 건수 (통계 기반, 없으면 null)
+
+    // size + 1 건을 조회해 다음 페이지 존재 여부를 판단 (count 쿼리 없음)
+    public static <T> SliceResponseDto<T> from(Slice<T> slice) {
+        return from(slice, null);
+    }
+
+    public static <T> SliceResponseDto<T> from(Slice<T> slice, Long estimatedTotal) {
+        return SliceResponseDto.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber() + 1) // 요청과 같이 1부터 시작
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .estimatedTotal(estimatedTotal)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreRatingResponseDto {
+    private UUID storeId;
+    private Integer reviewCnt;
+    private Double avgRating;
+    private Integer oneStarCnt;
+    private Integer twoStarCnt;
+    private Integer threeStarCnt;
+    private Integer fourStarCnt;
+    private Integer fiveStarCnt;
+}
@@ -1,6 +1,7 @@
 package com.sparta.blackwhitedeliverydriver.dto;
 
 import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCard;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -46,7 +47,27 @@ public class StoreResponseDto {
                 .detailAddr(store.getDetailAddr())
                 .storeIntro(store.getStoreIntro())
                 .category(categoryNames)
-                .avgRating((double)store.getRating() / store.getReviewCnt())
+                .avgRating(store.getAvgRating())
+                .build();
+    }
+
+    public static StoreResponseDto from(StoreCard storeCard) {
+        return StoreResponseDto.builder()
+                .storeId(storeCard.getStoreId())
+                .storeName(storeCard.getStoreName())
+                .phoneNumber(storeCard.getPhoneNumber())
+                .openTime(storeCard.getOpenTime())
+                .closeTime(storeCard.getCloseTime())
+                .imgUrl(storeCard.getImgUrl())
+                .zipNum(storeCard.getZipNum())
+                .city(storeCard.getCity())
+                .district(storeCard.getDistrict())
+                .streetName(storeCard.getStreetName())
+                .streetNumber(storeCard.getStreetNumber())
+                .detailAddr(storeCard.getDetailAddr())
+                .storeIntro(storeCard.getStoreIntro())
+                .category(storeCard.getCategory())
+                .avgRating(storeCard.getAvgRating())
                 .build();
     }
 }
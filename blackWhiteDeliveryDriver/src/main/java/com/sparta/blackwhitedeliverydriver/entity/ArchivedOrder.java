@@ -0,0 +1,62 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// 보관 기간이 지나 p_order_archive 로 옮겨진 주문 (읽기 전용, 이동은 OrderArchiveService)
+// PK 는 (id, created_date) 이지만 id 만으로 유일
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Immutable
+@Table(name = "p_order_archive")
+public class ArchivedOrder extends BaseEntity {
+    @Id
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id")
+    private Store store;
+
+    @Column(nullable = false)
+    private Integer finalPay;
+
+    @Column(nullable = false)
+    private Integer discountRate;
+
+    @Column(nullable = false)
+    private Integer discountAmount;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private OrderStatusEnum status;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private OrderTypeEnum type;
+
+    private String tid;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedDate;
+}
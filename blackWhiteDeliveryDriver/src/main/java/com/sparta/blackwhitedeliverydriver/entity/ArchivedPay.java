@@ -0,0 +1,53 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// p_pay_archive (읽기 전용)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Immutable
+@Table(name = "p_pay_archive")
+public class ArchivedPay extends BaseEntity {
+    @Id
+    private UUID id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private ArchivedOrder order;
+
+    @Column(nullable = false)
+    private String tid;
+
+    @Column(nullable = false)
+    private String itemName;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private PayStatusEnum payStatus;
+
+    @Column(nullable = false)
+    private Integer payAmount;
+
+    private Integer refundAmount;
+
+    private LocalDateTime approvedAt;
+    private LocalDateTime canceledAt;
+}
@@ -16,6 +16,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
+    public static final String SOFT_DELETE_FILTER = "softDeleteFilter";
+
     @CreatedDate
     private LocalDateTime createdDate;
 
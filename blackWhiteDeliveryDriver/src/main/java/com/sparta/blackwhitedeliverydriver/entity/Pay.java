@@ -1,12 +1,12 @@
 package com.sparta.blackwhitedeliverydriver.entity;
 
 import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayOrderResponseDto;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
@@ -28,10 +28,10 @@ import lombok.NoArgsConstructor;
 public class Pay extends BaseEntity {
     @Id
     @Column(nullable = false, unique = true)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     private Order order;
 
@@ -64,6 +64,18 @@ public class Pay extends BaseEntity {
                 .build();
     }
 
+    // 승인 응답을 받지 못한 경우 결제 상태 조회 결과로 생성
+    public static Pay of(Order order, PayOrderResponseDto orderResponse) {
+        return Pay.builder()
+                .order(order)
+                .payStatus(PayStatusEnum.SUCCESS)
+                .itemName(orderResponse.getItem_name())
+                .tid(orderResponse.getTid())
+                .payAmount(orderResponse.getAmount().getTotal())
+                .approvedAt(LocalDateTime.parse(orderResponse.getApproved_at()))
+                .build();
+    }
+
     public void updateByRefund(PayStatusEnum payStatusEnum, int total, String canceledAt) {
         this.payStatus = payStatusEnum;
         this.refundAmount = total;
@@ -0,0 +1,70 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 외부 결제 호출 기록 -> 호출 전에 PENDING 으로 커밋, 응답 후 별도 트랜잭션에서 SUCCEEDED / FAILED
+// 응답을 반영하지 못한 PENDING 은 PaymentReconciliationService 가 게이트웨이 조회로 정리
+// 주문은 아카이브로 옮겨지므로 FK 없이 order_id 만 보관
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "p_payment_attempt")
+public class PaymentAttempt extends BaseEntity {
+    @Id
+    @Column(nullable = false, unique = true)
+    @UuidV7Id
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private PaymentAttemptTypeEnum type;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private PaymentAttemptStatusEnum status;
+
+    private String tid;
+
+    private Integer amount;
+
+    private String failReason;
+
+    public static PaymentAttempt of(UUID orderId, PaymentAttemptTypeEnum type, String tid, Integer amount) {
+        return PaymentAttempt.builder()
+                .orderId(orderId)
+                .type(type)
+                .status(PaymentAttemptStatusEnum.PENDING)
+                .tid(tid)
+                .amount(amount)
+                .build();
+    }
+
+    public boolean isPending() {
+        return this.status.equals(PaymentAttemptStatusEnum.PENDING);
+    }
+
+    public void succeed(String tid) {
+        this.status = PaymentAttemptStatusEnum.SUCCEEDED;
+        this.tid = tid;
+    }
+
+    public void fail(String failReason) {
+        this.status = PaymentAttemptStatusEnum.FAILED;
+        this.failReason = failReason;
+    }
+}
@@ -0,0 +1,16 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PaymentAttemptTypeEnum {
+    READY(null),
+    APPROVE(OrderStatusEnum.PENDING),
+    REFUND(OrderStatusEnum.CANCEL),
+    REJECT_REFUND(OrderStatusEnum.REJECTED);
+
+    // 성공 시 변경할 주문 상태
+    private final OrderStatusEnum orderStatus;
+}
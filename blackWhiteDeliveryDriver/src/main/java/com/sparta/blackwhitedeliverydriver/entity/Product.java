@@ -1,6 +1,7 @@
 package com.sparta.blackwhitedeliverydriver.entity;
 
 import com.sparta.blackwhitedeliverydriver.dto.CreateProductRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportRowDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductRequestDto;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
 import jakarta.persistence.Column;
@@ -11,11 +12,14 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.GenericGenerator;
 
 @Entity
@@ -24,6 +28,7 @@ import org.hibernate.annotations.GenericGenerator;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "p_product")
+@Filter(name = BaseEntity.SOFT_DELETE_FILTER)
 public class Product extends BaseEntity {
     @Id
     @GeneratedValue(generator = "UUID")
@@ -41,6 +46,8 @@ public class Product extends BaseEntity {
     private String imgUrl;
     @Column(name = "product_intro", nullable = false)
     private String productIntro;
+    @Column(name = "search_text", columnDefinition = "text")
+    private String searchText; // 검색용 (음식명 + 소개, 소문자) -> 트라이그램 인덱스
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_store_id", nullable = false)
@@ -53,6 +60,19 @@ public class Product extends BaseEntity {
                 .isPublic(true)
                 .imgUrl(requestDto.getImgUrl())
                 .productIntro(requestDto.getProductIntro())
+                .searchText(toSearchText(requestDto.getProductName(), requestDto.getProductIntro()))
+                .store(store)
+                .build();
+    }
+
+    public static Product from(ProductImportRowDto rowDto, Store store) {
+        return Product.builder()
+                .name(rowDto.getProductName())
+                .price(rowDto.getPrice())
+                .isPublic(true)
+                .imgUrl(rowDto.getImgUrl())
+                .productIntro(rowDto.getProductIntro())
+                .searchText(toSearchText(rowDto.getProductName(), rowDto.getProductIntro()))
                 .store(store)
                 .build();
     }
@@ -62,5 +82,10 @@ public class Product extends BaseEntity {
         this.price = requestDto.getPrice();
         this.imgUrl = requestDto.getImgUrl();
         this.productIntro = requestDto.getProductIntro();
+        this.searchText = toSearchText(this.name, this.productIntro);
+    }
+
+    public static String toSearchText(String name, String productIntro) {
+        return (Objects.toString(name, "") + " " + Objects.toString(productIntro, "")).toLowerCase(Locale.ROOT);
     }
 }
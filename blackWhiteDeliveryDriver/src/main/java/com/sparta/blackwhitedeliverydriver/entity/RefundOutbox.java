@@ -0,0 +1,87 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 환불 요청 아웃박스 -> 주문 상태 변경과 같은 트랜잭션에서 기록, RefundOutboxService 워커가 게이트웨이 환불 처리
+// 결제(tid)당 하나 (uk_refund_outbox_tid), 주문은 아카이브로 옮겨지므로 FK 없이 order_id 만 보관
+// next_attempt_at: PENDING 이면 다음 시도 시각, PROCESSING 이면 점유 만료 시각 (워커가 죽으면 만료 후 다시 가져감)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "p_refund_outbox")
+public class RefundOutbox extends BaseEntity {
+    @Id
+    @Column(nullable = false, unique = true)
+    @UuidV7Id
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(nullable = false, unique = true)
+    private String tid;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private RefundOutboxStatusEnum status;
+
+    @Column(nullable = false)
+    private Integer attemptCount;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+
+    private LocalDateTime completedAt;
+
+    public static RefundOutbox of(UUID orderId, String tid, int amount) {
+        return RefundOutbox.builder()
+                .orderId(orderId)
+                .tid(tid)
+                .amount(amount)
+                .status(RefundOutboxStatusEnum.PENDING)
+                .attemptCount(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public boolean isProcessing() {
+        return this.status.equals(RefundOutboxStatusEnum.PROCESSING);
+    }
+
+    public void succeed() {
+        this.status = RefundOutboxStatusEnum.SUCCEEDED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void retry(String lastError, LocalDateTime nextAttemptAt) {
+        this.status = RefundOutboxStatusEnum.PENDING;
+        this.attemptCount++;
+        this.lastError = lastError;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void fail(String lastError) {
+        this.status = RefundOutboxStatusEnum.FAILED;
+        this.attemptCount++;
+        this.lastError = lastError;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,5 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+public enum RefundOutboxStatusEnum {
+    PENDING, PROCESSING, SUCCEEDED, FAILED;
+}
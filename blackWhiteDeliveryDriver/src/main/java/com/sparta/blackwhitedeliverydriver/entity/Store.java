@@ -17,6 +17,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.GenericGenerator;
 
 @Entity
@@ -25,6 +27,7 @@ import org.hibernate.annotations.GenericGenerator;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "p_stores")
+@Filter(name = BaseEntity.SOFT_DELETE_FILTER)
 public class Store extends BaseEntity {
     @Id
     @GeneratedValue(generator = "UUID")
@@ -41,10 +44,30 @@ public class Store extends BaseEntity {
     private LocalTime openTime;
     @Column(name = "close_time", nullable = false)
     private LocalTime closeTime;
-    @Column(name = "rating", nullable = false)
+    // 평점 합산 / 분포 (1~5점) / 평균 -> StoreRatingService에서 원자적 UPDATE로만 갱신
+    // updatable = false: 점포 수정 시 dirty flush 가 오래된 값으로 덮어쓰지 않도록
+    @Column(name = "rating", nullable = false, updatable = false)
     private Integer rating = 0; // 매장 평점 합산
-    @Column(name = "review_cnt", nullable = false)
+    @Column(name = "review_cnt", nullable = false, updatable = false)
     private Integer reviewCnt = 0;
+    @ColumnDefault("0")
+    @Column(name = "one_star_cnt", nullable = false, updatable = false)
+    private Integer oneStarCnt = 0;
+    @ColumnDefault("0")
+    @Column(name = "two_star_cnt", nullable = false, updatable = false)
+    private Integer twoStarCnt = 0;
+    @ColumnDefault("0")
+    @Column(name = "three_star_cnt", nullable = false, updatable = false)
+    private Integer threeStarCnt = 0;
+    @ColumnDefault("0")
+    @Column(name = "four_star_cnt", nullable = false, updatable = false)
+    private Integer fourStarCnt = 0;
+    @ColumnDefault("0")
+    @Column(name = "five_star_cnt", nullable = false, updatable = false)
+    private Integer fiveStarCnt = 0;
+    @ColumnDefault("0")
+    @Column(name = "avg_rating", nullable = false, updatable = false)
+    private Double avgRating = 0.0;
     @Column(name = "img_url")
     private String imgUrl;
     @Column(name = "zip_num", nullable = false)
@@ -86,6 +109,12 @@ public class Store extends BaseEntity {
                 .isPublic(false)
                 .rating(0)
                 .reviewCnt(0)
+                .oneStarCnt(0)
+                .twoStarCnt(0)
+                .threeStarCnt(0)
+                .fourStarCnt(0)
+                .fiveStarCnt(0)
+                .avgRating(0.0)
                 .user(user)
                 .build();
     }
@@ -105,15 +134,6 @@ public class Store extends BaseEntity {
         this.storeIntro = requestDto.getStoreIntro();
     }
 
-    public void updateRating(int rating) {
-        this.rating += rating;
-        this.reviewCnt++;
-    }
-
-    public void updateRating(int previousRating, int updatedRating) {
-        this.rating = rating - previousRating + updatedRating;
-    }
-
     public void updateByMaster(StoreByMasterRequestDto requestDto, UserDetailsImpl userDetails) {
         this.storeName = requestDto.getStoreName();
         this.phoneNumber = requestDto.getPhoneNumber();
@@ -0,0 +1,217 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
+
+// 점포 목록 조회용 비정규화 테이블 (p_stores + p_store_category + p_category)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "p_store_card") // 인덱스는 db/migration 에서 관리
+public class StoreCard implements Persistable<UUID> {
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    public static final int NO_WINDOW = -1;
+    private static final int ZIP_SECTOR_LENGTH = 3;
+    private static final int MAX_ZIP_LENGTH = 6;
+
+    @Id
+    @Column(name = "store_id", updatable = false, nullable = false)
+    private UUID storeId;
+    @Column(name = "store_name", nullable = false)
+    private String storeName;
+    @Column(name = "phone_number", nullable = false)
+    private String phoneNumber;
+    @Column(name = "status", nullable = false)
+    private Boolean status;
+    @Column(name = "open_time", nullable = false)
+    private LocalTime openTime;
+    @Column(name = "close_time", nullable = false)
+    private LocalTime closeTime;
+    @Column(name = "img_url")
+    private String imgUrl;
+    @Column(name = "zip_num", nullable = false)
+    private String zipNum;
+    @Column(name = "city", nullable = false)
+    private String city;
+    @Column(name = "district", nullable = false)
+    private String district;
+    @Column(name = "street_name", nullable = false)
+    private String streetName;
+    @Column(name = "street_number", nullable = false)
+    private String streetNumber;
+    @Column(name = "detail_addr", nullable = false)
+    private String detailAddr;
+    @Column(name = "store_intro", nullable = false)
+    private String storeIntro;
+    @Column(name = "category", nullable = false)
+    private String category; // 카테고리 이름 (", " 구분)
+    // 평점은 등록 시에만 복사, 이후에는 평점 합산 쿼리(foldIntoStores, syncAllRatings)로만 갱신
+    @Column(name = "rating", nullable = false, updatable = false)
+    private Integer rating;
+    @Column(name = "review_cnt", nullable = false, updatable = false)
+    private Integer reviewCnt;
+    @Column(name = "avg_rating", nullable = false, updatable = false)
+    private Double avgRating;
+    @Column(name = "is_public", nullable = false)
+    private Boolean isPublic;
+    @Column(name = "owner_username", nullable = false)
+    private String ownerUsername;
+    @Column(name = "created_date")
+    private LocalDateTime createdDate; // 점포 등록일 (정렬용)
+    @Column(name = "deleted_date")
+    private LocalDateTime deletedDate;
+    // 영업 시간을 자정을 넘지 않는 두 구간 [start, end) (분 단위)으로 분리해 저장
+    // ex) 22:00 ~ 02:00 -> open [1320, 1440), wrap [0, 120) / 24시간 -> open [0, 1440), wrap 없음(-1)
+    @ColumnDefault("-1")
+    @Column(name = "open_window_start", nullable = false)
+    private Integer openWindowStart;
+    @ColumnDefault("-1")
+    @Column(name = "open_window_end", nullable = false)
+    private Integer openWindowEnd;
+    @ColumnDefault("-1")
+    @Column(name = "wrap_window_start", nullable = false)
+    private Integer wrapWindowStart;
+    @ColumnDefault("-1")
+    @Column(name = "wrap_window_end", nullable = false)
+    private Integer wrapWindowEnd;
+    // 지역 버킷: 시/구 코드, 우편번호 앞 3자리(시군구 구역), 우편번호 숫자(거리 근사용)
+    @Column(name = "region_code")
+    private String regionCode;
+    @Column(name = "zip_sector")
+    private String zipSector;
+    @Column(name = "zip_code")
+    private Integer zipCode;
+    @Column(name = "search_text", columnDefinition = "text")
+    private String searchText; // 검색용 (점포명 + 소개 + 카테고리, 소문자) -> 트라이그램 인덱스
+
+    // ID를 직접 할당하므로 save 시 merge(SELECT) 대신 persist 되도록 신규 여부를 관리
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public UUID getId() {
+        return storeId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public static StoreCard from(Store store, String categoryNames) {
+        StoreCard storeCard = StoreCard.builder()
+                .storeId(store.getStoreId())
+                .ownerUsername(store.getUser().getUsername())
+                .rating(store.getRating())
+                .reviewCnt(store.getReviewCnt())
+                .avgRating(store.getAvgRating())
+                .build();
+        storeCard.update(store);
+        storeCard.updateCategory(categoryNames);
+        return storeCard;
+    }
+
+    public void update(Store store) {
+        this.storeName = store.getStoreName();
+        this.phoneNumber = store.getPhoneNumber();
+        this.status = store.getStatus();
+        this.openTime = store.getOpenTime();
+        this.closeTime = store.getCloseTime();
+        this.imgUrl = store.getImgUrl();
+        this.zipNum = store.getZipNum();
+        this.city = store.getCity();
+        this.district = store.getDistrict();
+        this.streetName = store.getStreetName();
+        this.streetNumber = store.getStreetNumber();
+        this.detailAddr = store.getDetailAddr();
+        this.storeIntro = store.getStoreIntro();
+        this.isPublic = store.getIsPublic();
+        this.createdDate = store.getCreatedDate();
+        this.deletedDate = store.getDeletedDate();
+        updateOpenWindow(store.getOpenTime(), store.getCloseTime());
+        this.regionCode = toRegionCode(store.getCity(), store.getDistrict());
+        this.zipSector = toZipSector(store.getZipNum());
+        this.zipCode = toZipCode(store.getZipNum());
+        updateSearchText();
+    }
+
+    // 시/구 중 하나라도 없으면 null (":" 같은 값이 다른 불완전 주소와 일치하지 않도록)
+    public static String toRegionCode(String city, String district) {
+        String cityCode = Objects.toString(city, "").replaceAll("\\s", "");
+        String districtCode = Objects.toString(district, "").replaceAll("\\s", "");
+        if (cityCode.isEmpty() || districtCode.isEmpty()) { return null; }
+        return cityCode + ":" + districtCode;
+    }
+
+    // 우편번호가 3자리 미만이면 null
+    public static String toZipSector(String zipNum) {
+        String digits = Objects.toString(zipNum, "").replaceAll("\\D", "");
+        if (digits.length() < ZIP_SECTOR_LENGTH) { return null; }
+        return digits.substring(0, ZIP_SECTOR_LENGTH);
+    }
+
+    public static Integer toZipCode(String zipNum) {
+        String digits = Objects.toString(zipNum, "").replaceAll("\\D", "");
+        if (digits.isEmpty() || digits.length() > MAX_ZIP_LENGTH) { return null; }
+        return Integer.valueOf(digits);
+    }
+
+    public static int toMinute(LocalTime time) {
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+    }
+
+    private void updateOpenWindow(LocalTime openTime, LocalTime closeTime) {
+        int openMinute = toMinute(openTime);
+        int closeMinute = toMinute(closeTime);
+        this.wrapWindowStart = NO_WINDOW;
+        this.wrapWindowEnd = NO_WINDOW;
+        if (openMinute == closeMinute) {
+            this.openWindowStart = 0;
+            this.openWindowEnd = MINUTES_PER_DAY;
+        } else if (openMinute < closeMinute) {
+            this.openWindowStart = openMinute;
+            this.openWindowEnd = closeMinute;
+        } else {
+            this.openWindowStart = openMinute;
+            this.openWindowEnd = MINUTES_PER_DAY;
+            this.wrapWindowStart = 0;
+            this.wrapWindowEnd = closeMinute;
+        }
+    }
+
+    public void updateCategory(String categoryNames) {
+        this.category = categoryNames;
+        updateSearchText();
+    }
+
+    private void updateSearchText() {
+        this.searchText = String.join(" ", Objects.toString(storeName, ""), Objects.toString(storeIntro, ""), Objects.toString(category, ""))
+                .toLowerCase(Locale.ROOT);
+    }
+}
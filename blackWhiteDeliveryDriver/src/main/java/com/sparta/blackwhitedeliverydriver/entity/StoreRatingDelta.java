@@ -0,0 +1,56 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 점포 평점 변경분 (append-only) -> StoreRatingService 배치에서 p_stores 로 합산 후 삭제
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "p_store_rating_delta")
+public class StoreRatingDelta {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+    @Column(name = "sum_delta", nullable = false)
+    private Integer sumDelta;
+    @Column(name = "cnt_delta", nullable = false)
+    private Integer cntDelta;
+    @Column(name = "one_delta", nullable = false)
+    private Integer oneDelta;
+    @Column(name = "two_delta", nullable = false)
+    private Integer twoDelta;
+    @Column(name = "three_delta", nullable = false)
+    private Integer threeDelta;
+    @Column(name = "four_delta", nullable = false)
+    private Integer fourDelta;
+    @Column(name = "five_delta", nullable = false)
+    private Integer fiveDelta;
+
+    public static StoreRatingDelta of(UUID storeId, int sumDelta, int cntDelta, int[] starDelta) {
+        return StoreRatingDelta.builder()
+                .storeId(storeId)
+                .sumDelta(sumDelta)
+                .cntDelta(cntDelta)
+                .oneDelta(starDelta[0])
+                .twoDelta(starDelta[1])
+                .threeDelta(starDelta[2])
+                .fourDelta(starDelta[3])
+                .fiveDelta(starDelta[4])
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import com.sparta.blackwhitedeliverydriver.util.UuidV7;
+import java.lang.reflect.Member;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+public class UuidV7IdGenerator implements IdentifierGenerator {
+
+    public UuidV7IdGenerator(UuidV7Id config, Member member, CustomIdGeneratorCreationContext context) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return UuidV7.generate();
+    }
+}
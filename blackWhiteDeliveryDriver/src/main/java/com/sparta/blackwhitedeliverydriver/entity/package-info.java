@@ -0,0 +1,5 @@
+// 소프트 삭제 필터 -> 트랜잭션 시작 시 활성화 (SoftDeleteFilterTransactionManager)
+@FilterDef(name = BaseEntity.SOFT_DELETE_FILTER, defaultCondition = "deleted_date IS NULL")
+package com.sparta.blackwhitedeliverydriver.entity;
+
+import org.hibernate.annotations.FilterDef;
@@ -7,7 +7,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum ProductExceptionMessage {
     PRODUCT_NOT_FOUND("존재하지 않는 음식 정보입니다."),
-    DUPLICATED_STORE_NAME("중복된 음식입니다.");
+    DUPLICATED_STORE_NAME("중복된 음식입니다."),
+    INVALID_SORT_BY("지원하지 않는 정렬 기준입니다."),
+    INVALID_IMPORT_FILE("일괄 등록 파일 형식이 올바르지 않습니다."),
+    IMPORT_ROW_LIMIT_EXCEEDED("한 번에 등록할 수 있는 음식 수를 초과했습니다."),
+    REQUIRED_FIELD_MISSING("필수 항목이 누락되었습니다."),
+    INVALID_PRICE("가격이 올바르지 않습니다.");
     private final String message;
 
 
@@ -1,16 +1,36 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
+import com.sparta.blackwhitedeliverydriver.dto.AddressResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Address;
 import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AddressRepository extends JpaRepository<Address, UUID> {
-    Page<Address> findAllByUserAndDeletedByIsNullAndDeletedDateIsNull(User user, Pageable pageable);
+public interface AddressRepository extends SoftDeleteRepository<Address, UUID> {
+    // 목록 조회는 엔티티 대신 응답 DTO로 바로 조회
+    @Query(value = "SELECT new com.sparta.blackwhitedeliverydriver.dto.AddressResponseDto(a.id, a.zipNum, a.city, a.district," +
+            " a.streetName, a.streetNum, a.detailAddr, a.requestDetails) FROM Address a" +
+            " WHERE a.user = :user AND a.deletedBy IS NULL AND a.deletedDate IS NULL",
+            countQuery = "SELECT COUNT(a) FROM Address a WHERE a.user = :user AND a.deletedBy IS NULL AND a.deletedDate IS NULL")
+    Page<AddressResponseDto> findResponsesByUser(@Param("user") User user, Pageable pageable);
+
+    // slice: size + 1 건 조회로 다음 페이지 여부만 판단 (count 쿼리 없음)
+    @Query("SELECT new com.sparta.blackwhitedeliverydriver.dto.AddressResponseDto(a.id, a.zipNum, a.city, a.district," +
+            " a.streetName, a.streetNum, a.detailAddr, a.requestDetails) FROM Address a" +
+            " WHERE a.user = :user AND a.deletedBy IS NULL AND a.deletedDate IS NULL")
+    Slice<AddressResponseDto> findResponseSliceByUser(@Param("user") User user, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Address a SET a.deletedDate = :deletedDate, a.deletedBy = :deletedBy"
+            + " WHERE a.user = :user AND a.deletedDate IS NULL")
+    int softDeleteAllByUser(@Param("user") User user, @Param("deletedBy") String deletedBy,
+                            @Param("deletedDate") LocalDateTime deletedDate);
 }
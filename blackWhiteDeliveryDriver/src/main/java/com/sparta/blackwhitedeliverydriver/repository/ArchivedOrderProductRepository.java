@@ -0,0 +1,17 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrder;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrderProduct;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedOrderProductRepository extends Repository<ArchivedOrderProduct, UUID> {
+    // 주문 상세: 음식 정보 포함 -> 음식을 함께 조회
+    @EntityGraph(attributePaths = "product")
+    @Query("SELECT op FROM ArchivedOrderProduct op WHERE op.order = :order AND op.deletedDate IS NULL")
+    List<ArchivedOrderProduct> findAllByOrderAndNotDeleted(@Param("order") ArchivedOrder order);
+}
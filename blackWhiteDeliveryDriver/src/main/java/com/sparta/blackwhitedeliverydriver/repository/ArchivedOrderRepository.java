@@ -0,0 +1,29 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrder;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+// 아카이브 주문 조회 (읽기 전용 -> 저장 메서드 없음)
+public interface ArchivedOrderRepository extends Repository<ArchivedOrder, UUID> {
+    Optional<ArchivedOrder> findById(UUID id);
+
+    // 커서 페이징 (createdDate, id) 기준 seek -> idx_order_archive_user (user_id, created_date)
+    @Query("SELECT o FROM ArchivedOrder o WHERE o.user = :user AND o.deletedDate IS NULL" +
+            " AND (o.createdDate, o.id) > (:createdDate, :id)" +
+            " ORDER BY o.createdDate ASC, o.id ASC")
+    List<ArchivedOrder> findAllByUserAndCursorAsc(@Param("user") User user, @Param("createdDate") LocalDateTime createdDate,
+                                                  @Param("id") UUID id, Pageable pageable);
+    @Query("SELECT o FROM ArchivedOrder o WHERE o.user = :user AND o.deletedDate IS NULL" +
+            " AND (o.createdDate, o.id) < (:createdDate, :id)" +
+            " ORDER BY o.createdDate DESC, o.id DESC")
+    List<ArchivedOrder> findAllByUserAndCursorDesc(@Param("user") User user, @Param("createdDate") LocalDateTime createdDate,
+                                                   @Param("id") UUID id, Pageable pageable);
+}
@@ -0,0 +1,29 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedPay;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+// 아카이브 결제 조회 (읽기 전용 -> 저장 메서드 없음)
+public interface ArchivedPayRepository extends Repository<ArchivedPay, UUID> {
+    Optional<ArchivedPay> findById(UUID id);
+
+    // 커서 페이징: 사용자의 아카이브 주문(idx_order_archive_user) -> 주문별 결제(idx_pay_archive_order)
+    @Query("SELECT p FROM ArchivedPay p WHERE p.order.user = :user AND p.deletedDate IS NULL" +
+            " AND (p.createdDate, p.id) > (:createdDate, :id)" +
+            " ORDER BY p.createdDate ASC, p.id ASC")
+    List<ArchivedPay> findAllByUserAndCursorAsc(@Param("user") User user, @Param("createdDate") LocalDateTime createdDate,
+                                                @Param("id") UUID id, Pageable pageable);
+    @Query("SELECT p FROM ArchivedPay p WHERE p.order.user = :user AND p.deletedDate IS NULL" +
+            " AND (p.createdDate, p.id) < (:createdDate, :id)" +
+            " ORDER BY p.createdDate DESC, p.id DESC")
+    List<ArchivedPay> findAllByUserAndCursorDesc(@Param("user") User user, @Param("createdDate") LocalDateTime createdDate,
+                                                 @Param("id") UUID id, Pageable pageable);
+}
@@ -2,23 +2,56 @@ package com.sparta.blackwhitedeliverydriver.repository;
 
 import com.sparta.blackwhitedeliverydriver.entity.Basket;
 import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface BasketRepository extends JpaRepository<Basket, UUID> {
+public interface BasketRepository extends SoftDeleteRepository<Basket, UUID> {
     List<Basket> findAllByUser(User user);
 
-    @Query("SELECT b FROM Basket b WHERE b.user = :user AND b.deletedDate IS NULL")
+    @Query("SELECT b FROM Basket b WHERE b.user = :user")
     List<Basket> findAllByUserAndNotDeleted(User user);
 
-    @Query("SELECT b FROM Basket b WHERE b.user = :user AND b.deletedDate IS NULL")
+    // 장바구니 목록: 응답에 점포명, 음식명 포함 -> 점포, 음식을 함께 조회
+    @EntityGraph(attributePaths = {"store", "product"})
+    @Query("SELECT b FROM Basket b WHERE b.user = :user")
     Page<Basket> findAllByUserAndNotDeleted(User user, Pageable pageable);
 
-    @Query("SELECT b FROM Basket b WHERE b.product.name LIKE %:productName% AND b.user = :user AND b.deletedDate IS NULL")
+    @EntityGraph(attributePaths = {"store", "product"})
+    Page<Basket> findAll(Pageable pageable);
+
+    // slice: size + 1 건 조회로 다음 페이지 여부만 판단 (count 쿼리 없음)
+    @EntityGraph(attributePaths = {"store", "product"})
+    @Query("SELECT b FROM Basket b WHERE b.user = :user")
+    Slice<Basket> findSliceByUserAndNotDeleted(@Param("user") User user, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"store", "product"})
+    @Query("SELECT b FROM Basket b")
+    Slice<Basket> findSliceBy(Pageable pageable);
+
+    // 주문 생성용: 음식, 가게를 함께 조회해 품목별 지연 로딩을 막음
+    @Query("SELECT b FROM Basket b JOIN FETCH b.product JOIN FETCH b.store WHERE b.user = :user")
+    List<Basket> findAllByUserAndNotDeletedWithProduct(@Param("user") User user);
+
+    @Modifying
+    @Query("UPDATE Basket b SET b.deletedDate = :deletedDate, b.deletedBy = :deletedBy"
+            + " WHERE b.user = :user AND b.deletedDate IS NULL")
+    int softDeleteAllByUser(@Param("user") User user, @Param("deletedBy") String deletedBy,
+                            @Param("deletedDate") LocalDateTime deletedDate);
+
+    @EntityGraph(attributePaths = {"store", "product"})
+    @Query("SELECT b FROM Basket b WHERE b.product.name LIKE %:productName% AND b.user = :user")
     Page<Basket> findByProductNameContainingAndUserAndNotDeleted(@Param("productName") String productName, User user, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"store", "product"})
+    @Query("SELECT b FROM Basket b WHERE b.product.name LIKE %:productName% AND b.user = :user")
+    Slice<Basket> findSliceByProductNameContainingAndUserAndNotDeleted(@Param("productName") String productName, @Param("user") User user,
+                                                                        Pageable pageable);
 }
@@ -1,10 +1,21 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
 import com.sparta.blackwhitedeliverydriver.entity.Category;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
     Optional<Category> findByName(String name);
+
+    // slice: size + 1 건 조회로 다음 페이지 여부만 판단 (count 쿼리 없음)
+    @Query("SELECT c FROM Category c")
+    Slice<Category> findSliceBy(Pageable pageable);
+
+    @Query("SELECT MAX(c.lastModifiedDate) FROM Category c")
+    LocalDateTime findMaxLastModifiedDate();
 }
@@ -0,0 +1,63 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+// 보관 기간이 지난 완료 · 취소 · 거절 주문을 아카이브 테이블(월 파티션)로 이동
+// 리뷰가 달린 주문은 리뷰(p_review -> p_order FK, 점포 평점 재계산)에서 참조하므로 옮기지 않음
+public interface OrderArchiveRepository extends Repository<Order, UUID> {
+    String ARCHIVABLE = "o.status IN ('COMPLETED', 'CANCEL', 'REJECTED') AND o.created_date < :cutoff" +
+            " AND NOT EXISTS (SELECT 1 FROM p_review r WHERE r.order_id = o.id)";
+
+    @Query(value = "SELECT MIN(o.created_date) FROM p_order o WHERE " + ARCHIVABLE, nativeQuery = true)
+    LocalDateTime findOldestArchivableCreatedDate(@Param("cutoff") LocalDateTime cutoff);
+
+    // 다른 노드의 아카이브 작업과 겹치지 않도록 SKIP LOCKED
+    @Query(value = "SELECT o.id FROM p_order o WHERE " + ARCHIVABLE +
+            " ORDER BY o.created_date LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<UUID> lockArchivableOrderIds(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = "WITH moved AS (" +
+            "   DELETE FROM p_order_product op USING p_order o" +
+            "   WHERE op.order_id = o.id AND o.id IN (:orderIds)" +
+            "   RETURNING op.*, o.created_date AS order_created_date" +
+            " )" +
+            " INSERT INTO p_order_product_archive (id, product_id, order_id, quantity, price, created_date, created_by," +
+            "   last_modified_date, last_modified_by, deleted_date, deleted_by)" +
+            " SELECT id, product_id, order_id, quantity, price, COALESCE(created_date, order_created_date), created_by," +
+            "   last_modified_date, last_modified_by, deleted_date, deleted_by FROM moved", nativeQuery = true)
+    int moveOrderProducts(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Modifying
+    @Query(value = "WITH moved AS (" +
+            "   DELETE FROM p_pay p USING p_order o" +
+            "   WHERE p.order_id = o.id AND o.id IN (:orderIds)" +
+            "   RETURNING p.*, o.created_date AS order_created_date" +
+            " )" +
+            " INSERT INTO p_pay_archive (id, order_id, tid, item_name, pay_status, pay_amount, refund_amount, approved_at," +
+            "   canceled_at, created_date, created_by, last_modified_date, last_modified_by, deleted_date, deleted_by)" +
+            " SELECT id, order_id, tid, item_name, pay_status, pay_amount, refund_amount, approved_at," +
+            "   canceled_at, COALESCE(created_date, order_created_date), created_by, last_modified_date, last_modified_by," +
+            "   deleted_date, deleted_by FROM moved", nativeQuery = true)
+    int movePays(@Param("orderIds") Collection<UUID> orderIds);
+
+    // 주문 음식 / 결제를 먼저 옮긴 뒤 호출 (FK)
+    @Modifying
+    @Query(value = "WITH moved AS (" +
+            "   DELETE FROM p_order WHERE id IN (:orderIds) RETURNING *" +
+            " )" +
+            " INSERT INTO p_order_archive (id, user_id, store_id, final_pay, discount_rate, discount_amount, status, type," +
+            "   tid, created_date, created_by, last_modified_date, last_modified_by, deleted_date, deleted_by)" +
+            " SELECT id, user_id, store_id, final_pay, discount_rate, discount_amount, status, type," +
+            "   tid, created_date, created_by, last_modified_date, last_modified_by, deleted_date, deleted_by FROM moved",
+            nativeQuery = true)
+    int moveOrders(@Param("orderIds") Collection<UUID> orderIds);
+}
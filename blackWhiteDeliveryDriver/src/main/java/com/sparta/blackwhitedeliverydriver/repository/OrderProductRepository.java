@@ -2,13 +2,23 @@ package com.sparta.blackwhitedeliverydriver.repository;
 
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface OrderProductRepository extends JpaRepository<OrderProduct, UUID> {
+public interface OrderProductRepository extends SoftDeleteRepository<OrderProduct, UUID> {
+    // 주문 상세: 음식 정보 포함 -> 음식을 함께 조회
+    @EntityGraph(attributePaths = "product")
     @Query("SELECT op FROM OrderProduct op WHERE op.order = :order AND op.deletedDate IS NULL")
     List<OrderProduct> findAllByOrderAndNotDeleted(@Param("order") Order order);
+
+    @Modifying
+    @Query("UPDATE OrderProduct op SET op.deletedDate = :deletedDate, op.deletedBy = :deletedBy"
+            + " WHERE op.order = :order AND op.deletedDate IS NULL")
+    int softDeleteAllByOrder(@Param("order") Order order, @Param("deletedBy") String deletedBy,
+                             @Param("deletedDate") LocalDateTime deletedDate);
 }
@@ -1,13 +1,16 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.Store;
 import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,12 +18,56 @@ import org.springframework.data.repository.query.Param;
 public interface OrderRepository extends JpaRepository<Order, UUID> {
     List<Order> findAllByUser(User user);
     Optional<Order> findByTid(String tid);
-    @Query("SELECT o FROM Order o WHERE o.user = :user AND o.deletedDate IS NULL")
-    Page<Order> findAllByUserAndNotDeleted(User user, Pageable pageable);
-    @Query("SELECT o FROM Order o WHERE o.store = :store AND o.deletedDate IS NULL")
-    Page<Order> findAllByStoreAndNotDeleted(Store store, Pageable pageable);
-    @Query("SELECT o FROM Order o WHERE o.store.storeName LIKE %:storeName%") // 관리자용 deletedAt이 null이 아닌 것도 포함
-    Page<Order> findByStoreNameContaining(@Param("storeName") String storeName, Pageable pageable);
-    @Query("SELECT o FROM Order o WHERE o.user = :user AND o.status = 'CREATE' AND o.deletedDate IS NULL")
+    @Query("SELECT o FROM Order o WHERE o.user = :user AND o.status = 'CREATE'")
     Optional<Order> findActiveOrderByUser(User user);
+
+    // 목록 조회는 엔티티 대신 응답 DTO로 바로 조회 (store, user 는 FK 컬럼만 사용 -> 조인 없음)
+    String RESPONSE_SELECT = "SELECT new com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto(o.id, o.store.storeId," +
+            " o.user.username, o.status, o.type, o.finalPay, o.discountRate, o.discountAmount) FROM Order o";
+
+    @Query(value = RESPONSE_SELECT + " WHERE o.user = :user",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user = :user")
+    Page<OrderGetResponseDto> findResponsesByUser(@Param("user") User user, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + " WHERE o.store = :store",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.store = :store")
+    Page<OrderGetResponseDto> findResponsesByStore(@Param("store") Store store, Pageable pageable);
+    // 관리자용 (삭제 포함) -> since 이후(보관 기간)만 조회
+    @Query(value = RESPONSE_SELECT + " WHERE o.createdDate >= :since",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.createdDate >= :since")
+    Page<OrderGetResponseDto> findResponsesSince(@Param("since") LocalDateTime since, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + " WHERE o.store.storeName LIKE %:storeName% AND o.createdDate >= :since", // 관리자용 deletedAt이 null이 아닌 것도 포함
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.store.storeName LIKE %:storeName% AND o.createdDate >= :since")
+    Page<OrderGetResponseDto> findResponsesByStoreNameContaining(@Param("storeName") String storeName, @Param("since") LocalDateTime since,
+                                                                 Pageable pageable);
+
+    // slice: size + 1 건 조회로 다음 페이지 여부만 판단 (count 쿼리 없음)
+    @Query(RESPONSE_SELECT + " WHERE o.user = :user")
+    Slice<OrderGetResponseDto> findResponseSliceByUser(@Param("user") User user, Pageable pageable);
+    @Query(RESPONSE_SELECT + " WHERE o.store = :store")
+    Slice<OrderGetResponseDto> findResponseSliceByStore(@Param("store") Store store, Pageable pageable);
+    @Query(RESPONSE_SELECT + " WHERE o.createdDate >= :since")
+    Slice<OrderGetResponseDto> findResponseSliceSince(@Param("since") LocalDateTime since, Pageable pageable);
+    @Query(RESPONSE_SELECT + " WHERE o.store.storeName LIKE %:storeName% AND o.createdDate >= :since")
+    Slice<OrderGetResponseDto> findResponseSliceByStoreNameContaining(@Param("storeName") String storeName, @Param("since") LocalDateTime since,
+                                                                      Pageable pageable);
+
+    // 커서 페이징 (createdDate, id) 기준 seek (행 값 비교 -> 인덱스 범위 시작점)
+    @Query("SELECT o FROM Order o WHERE o.user = :user" +
+            " AND (o.createdDate, o.id) > (:createdDate, :id)" +
+            " ORDER BY o.createdDate ASC, o.id ASC")
+    List<Order> findAllByUserAndCursorAsc(@Param("user") User user, @Param("createdDate") LocalDateTime createdDate, @Param("id") UUID id, Pageable pageable);
+    @Query("SELECT o FROM Order o WHERE o.user = :user" +
+            " AND (o.createdDate, o.id) < (:createdDate, :id)" +
+            " ORDER BY o.createdDate DESC, o.id DESC")
+    List<Order> findAllByUserAndCursorDesc(@Param("user") User user, @Param("createdDate") LocalDateTime createdDate, @Param("id") UUID id, Pageable pageable);
+    @Query("SELECT o FROM Order o WHERE o.createdDate >= :since" +
+            " AND (o.createdDate, o.id) > (:createdDate, :id)" +
+            " ORDER BY o.createdDate ASC, o.id ASC")
+    List<Order> findAllByCursorAsc(@Param("since") LocalDateTime since, @Param("createdDate") LocalDateTime createdDate,
+                                   @Param("id") UUID id, Pageable pageable);
+    @Query("SELECT o FROM Order o WHERE o.createdDate >= :since" +
+            " AND (o.createdDate, o.id) < (:createdDate, :id)" +
+            " ORDER BY o.createdDate DESC, o.id DESC")
+    List<Order> findAllByCursorDesc(@Param("since") LocalDateTime since, @Param("createdDate") LocalDateTime createdDate,
+                                    @Param("id") UUID id, Pageable pageable);
 }
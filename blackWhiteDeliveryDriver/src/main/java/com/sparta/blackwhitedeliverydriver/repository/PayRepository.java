@@ -1,13 +1,16 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
+import com.sparta.blackwhitedeliverydriver.dto.PayGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.Pay;
 import com.sparta.blackwhitedeliverydriver.entity.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,9 +21,55 @@ public interface PayRepository extends JpaRepository<Pay, UUID> {
     @Query("select p from  Pay p where p.order.user.username = :username")
     List<Pay> findAllByUser(@Param("username") String username);
 
-    @Query("select p from  Pay p where p.order.user = :user")
-    Page<Pay> findAllByUser(@Param("user") User user, Pageable pageable);
+    // 목록 조회는 엔티티 대신 응답 DTO로 바로 조회
+    String RESPONSE_SELECT = "SELECT new com.sparta.blackwhitedeliverydriver.dto.PayGetResponseDto(p.id, p.itemName, p.payStatus," +
+            " p.payAmount, p.refundAmount, p.approvedAt, p.canceledAt) FROM Pay p";
 
-    @Query("SELECT p FROM Pay p WHERE p.order.store.storeName LIKE %:storeName%")
-    Page<Pay> findByStoreNameContaining(@Param("storeName") String storeName, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + " WHERE p.order.user = :user",
+            countQuery = "SELECT COUNT(p) FROM Pay p WHERE p.order.user = :user")
+    Page<PayGetResponseDto> findResponsesByUser(@Param("user") User user, Pageable pageable);
+
+    // 관리자용 -> since 이후(보관 기간)만 조회
+    @Query(value = RESPONSE_SELECT + " WHERE p.createdDate >= :since",
+            countQuery = "SELECT COUNT(p) FROM Pay p WHERE p.createdDate >= :since")
+    Page<PayGetResponseDto> findResponsesSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query(value = RESPONSE_SELECT + " WHERE p.order.store.storeName LIKE %:storeName% AND p.createdDate >= :since",
+            countQuery = "SELECT COUNT(p) FROM Pay p WHERE p.order.store.storeName LIKE %:storeName% AND p.createdDate >= :since")
+    Page<PayGetResponseDto> findResponsesByStoreNameContaining(@Param("storeName") String storeName, @Param("since") LocalDateTime since,
+                                                               Pageable pageable);
+
+    // slice: size + 1 건 조회로 다음 페이지 여부만 판단 (count 쿼리 없음)
+    @Query(RESPONSE_SELECT + " WHERE p.order.user = :user")
+    Slice<PayGetResponseDto> findResponseSliceByUser(@Param("user") User user, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + " WHERE p.createdDate >= :since")
+    Slice<PayGetResponseDto> findResponseSliceSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + " WHERE p.order.store.storeName LIKE %:storeName% AND p.createdDate >= :since")
+    Slice<PayGetResponseDto> findResponseSliceByStoreNameContaining(@Param("storeName") String storeName, @Param("since") LocalDateTime since,
+                                                                    Pageable pageable);
+
+    // 커서 페이징 (createdDate, id) 기준 seek (행 값 비교 -> 인덱스 범위 시작점)
+    @Query("SELECT p FROM Pay p WHERE p.order.user = :user" +
+            " AND (p.createdDate, p.id) > (:createdDate, :id)" +
+            " ORDER BY p.createdDate ASC, p.id ASC")
+    List<Pay> findAllByUserAndCursorAsc(@Param("user") User user, @Param("createdDate") LocalDateTime createdDate, @Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT p FROM Pay p WHERE p.order.user = :user" +
+            " AND (p.createdDate, p.id) < (:createdDate, :id)" +
+            " ORDER BY p.createdDate DESC, p.id DESC")
+    List<Pay> findAllByUserAndCursorDesc(@Param("user") User user, @Param("createdDate") LocalDateTime createdDate, @Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT p FROM Pay p WHERE p.createdDate >= :since" +
+            " AND (p.createdDate, p.id) > (:createdDate, :id)" +
+            " ORDER BY p.createdDate ASC, p.id ASC")
+    List<Pay> findAllByCursorAsc(@Param("since") LocalDateTime since, @Param("createdDate") LocalDateTime createdDate,
+                                 @Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT p FROM Pay p WHERE p.createdDate >= :since" +
+            " AND (p.createdDate, p.id) < (:createdDate, :id)" +
+            " ORDER BY p.createdDate DESC, p.id DESC")
+    List<Pay> findAllByCursorDesc(@Param("since") LocalDateTime since, @Param("createdDate") LocalDateTime createdDate,
+                                  @Param("id") UUID id, Pageable pageable);
 }
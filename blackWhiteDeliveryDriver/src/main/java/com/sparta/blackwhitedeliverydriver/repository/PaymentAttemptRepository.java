@@ -0,0 +1,29 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttempt;
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttemptStatusEnum;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentAttemptRepository extends JpaRepository<PaymentAttempt, UUID> {
+
+    // 결과 반영 시 잠금 -> 요청 스레드와 정리 작업이 같은 시도를 두 번 반영하지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM PaymentAttempt a WHERE a.id = :id")
+    Optional<PaymentAttempt> findByIdForUpdate(@Param("id") UUID id);
+
+    boolean existsByOrderIdAndStatus(UUID orderId, PaymentAttemptStatusEnum status);
+
+    // 정리 대상: 오래된 PENDING (idx_payment_attempt_status_created)
+    @Query("SELECT a.id FROM PaymentAttempt a WHERE a.status = :status AND a.createdDate < :before ORDER BY a.createdDate")
+    List<UUID> findIdsByStatusAndCreatedDateBefore(@Param("status") PaymentAttemptStatusEnum status,
+                                                   @Param("before") LocalDateTime before, Pageable pageable);
+}
@@ -3,17 +3,59 @@ package com.sparta.blackwhitedeliverydriver.repository;
 import com.sparta.blackwhitedeliverydriver.entity.Product;
 import com.sparta.blackwhitedeliverydriver.entity.Store;
 import jakarta.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends SoftDeleteRepository<Product, UUID> {
     List<Product> findAllByStore(Store store);
 
     Optional<Product> findByNameAndStoreStoreId(@NotBlank String productName, UUID storeId);
 
-    Page<Product> findAllByStoreAndDeletedDateIsNullAndDeletedByIsNull(Store store, Pageable pageable);
+    List<Product> findAllByStoreStoreIdAndIsPublicTrue(UUID storeId);
+
+    // 일괄 등록 중복 검사용 (삭제된 음식 포함, findByNameAndStoreStoreId 와 동일 기준)
+    @Query("SELECT p.name FROM Product p WHERE p.store.storeId = :storeId")
+    Set<String> findAllNamesByStoreId(@Param("storeId") UUID storeId);
+
+    // 공개 + 미삭제 점포의 음식 검색 (관련도: 음식명 일치 > 음식명 접두어 > 음식명 포함 > 단어 유사도)
+    @Query(value = "SELECT p.* FROM p_product p" +
+            " JOIN p_stores s ON s.store_id = p.store_store_id" +
+            " WHERE p.deleted_date IS NULL AND p.is_public = true" +
+            " AND s.deleted_date IS NULL AND s.is_public = true" +
+            " AND (p.search_text LIKE '%' || :pattern || '%' ESCAPE '\\' OR :keyword <% p.search_text)" +
+            " ORDER BY CASE" +
+            "   WHEN lower(p.name) = :keyword THEN 3" +
+            "   WHEN lower(p.name) LIKE :pattern || '%' ESCAPE '\\' THEN 2" +
+            "   WHEN lower(p.name) LIKE '%' || :pattern || '%' ESCAPE '\\' THEN 1" +
+            "   ELSE 0 END DESC," +
+            " word_similarity(:keyword, p.search_text) DESC, p.product_id" +
+            " LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Product> searchByRelevance(@Param("keyword") String keyword, @Param("pattern") String pattern,
+                                    @Param("limit") int limit, @Param("offset") long offset);
+
+    // 자동완성: 접두어 인덱스(lower(name) text_pattern_ops)로 후보를 제한한 뒤 많이 쓰인 이름 순
+    @Query(value = "SELECT c.name FROM (" +
+            "   SELECT p.name FROM p_product p" +
+            "   JOIN p_stores s ON s.store_id = p.store_store_id" +
+            "   WHERE lower(p.name) LIKE :pattern || '%' ESCAPE '\\'" +
+            "   AND p.deleted_date IS NULL AND p.is_public = true" +
+            "   AND s.deleted_date IS NULL AND s.is_public = true" +
+            "   LIMIT :candidateLimit" +
+            " ) c GROUP BY c.name ORDER BY count(*) DESC, c.name LIMIT :limit", nativeQuery = true)
+    List<String> findNamesByPrefix(@Param("pattern") String pattern, @Param("candidateLimit") int candidateLimit,
+                                   @Param("limit") int limit);
+
+    // 점포 삭제 시 음식 일괄 삭제
+    @Modifying
+    @Query("UPDATE Product p SET p.deletedDate = :deletedDate, p.deletedBy = :deletedBy"
+            + " WHERE p.store.storeId IN :storeIds AND p.deletedDate IS NULL")
+    int softDeleteAllByStoreIds(@Param("storeIds") Collection<UUID> storeIds, @Param("deletedBy") String deletedBy,
+                                @Param("deletedDate") LocalDateTime deletedDate);
 }
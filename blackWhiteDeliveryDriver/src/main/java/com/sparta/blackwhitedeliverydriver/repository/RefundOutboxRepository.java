@@ -0,0 +1,30 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.RefundOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefundOutboxRepository extends JpaRepository<RefundOutbox, UUID> {
+
+    Optional<RefundOutbox> findByOrderId(UUID orderId);
+
+    // 처리할 요청을 가져오며 점유 (PROCESSING + 점유 만료 시각), 점유한 ID 반환
+    // 대상: 시도 시각이 된 PENDING + 점유가 만료된 PROCESSING (워커 중단)
+    // SKIP LOCKED 로 여러 노드가 동시에 실행해도 같은 요청을 두 번 가져가지 않음
+    @Query(value = "WITH claimed AS (" +
+            "   UPDATE p_refund_outbox SET status = 'PROCESSING', next_attempt_at = :leaseUntil" +
+            "   WHERE id IN (" +
+            "     SELECT id FROM p_refund_outbox" +
+            "     WHERE status IN ('PENDING', 'PROCESSING') AND next_attempt_at <= :now" +
+            "     ORDER BY next_attempt_at LIMIT :batchSize FOR UPDATE SKIP LOCKED)" +
+            "   RETURNING id" +
+            " )" +
+            " SELECT id FROM claimed", nativeQuery = true)
+    List<UUID> claimDue(@Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil,
+                        @Param("batchSize") int batchSize);
+}
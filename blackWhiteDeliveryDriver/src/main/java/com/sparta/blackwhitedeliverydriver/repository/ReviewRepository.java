@@ -1,12 +1,41 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
+import com.sparta.blackwhitedeliverydriver.dto.ReviewResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Review;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, UUID> {
-    Page<Review> findAllByOrderStoreStoreIdAndDeletedByIsNullAndDeletedDateIsNull(UUID storeId, Pageable pageable);
-    Page<Review> findAllByOrderUserUsernameAndDeletedByIsNullAndDeletedDateIsNull(String username, Pageable pageable);
+    // 목록 조회는 엔티티 대신 응답 DTO로 바로 조회
+    String RESPONSE_SELECT = "SELECT new com.sparta.blackwhitedeliverydriver.dto.ReviewResponseDto(r.id, r.contents, r.rating) FROM Review r";
+
+    @Query(value = RESPONSE_SELECT + " WHERE r.order.store.storeId = :storeId",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.order.store.storeId = :storeId")
+    Page<ReviewResponseDto> findResponsesByStoreId(@Param("storeId") UUID storeId, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + " WHERE r.order.user.username = :username",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.order.user.username = :username")
+    Page<ReviewResponseDto> findResponsesByUsername(@Param("username") String username, Pageable pageable);
+
+    // slice: size + 1 건 조회로 다음 페이지 여부만 판단 (count 쿼리 없음)
+    @Query(RESPONSE_SELECT + " WHERE r.order.store.storeId = :storeId")
+    Slice<ReviewResponseDto> findResponseSliceByStoreId(@Param("storeId") UUID storeId, Pageable pageable);
+    @Query(RESPONSE_SELECT + " WHERE r.order.user.username = :username")
+    Slice<ReviewResponseDto> findResponseSliceByUsername(@Param("username") String username, Pageable pageable);
+
+    // 커서 페이징 (createdDate, id) 기준 seek (행 값 비교 -> 인덱스 범위 시작점)
+    @Query("SELECT r FROM Review r WHERE r.order.store.storeId = :storeId" +
+            " AND (r.createdDate, r.id) > (:createdDate, :id)" +
+            " ORDER BY r.createdDate ASC, r.id ASC")
+    List<Review> findAllByStoreIdAndCursorAsc(@Param("storeId") UUID storeId, @Param("createdDate") LocalDateTime createdDate, @Param("id") UUID id, Pageable pageable);
+    @Query("SELECT r FROM Review r WHERE r.order.store.storeId = :storeId" +
+            " AND (r.createdDate, r.id) < (:createdDate, :id)" +
+            " ORDER BY r.createdDate DESC, r.id DESC")
+    List<Review> findAllByStoreIdAndCursorDesc(@Param("storeId") UUID storeId, @Param("createdDate") LocalDateTime createdDate, @Param("id") UUID id, Pageable pageable);
 }
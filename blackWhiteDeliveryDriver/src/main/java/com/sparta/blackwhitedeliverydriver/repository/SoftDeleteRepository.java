@@ -0,0 +1,23 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.BaseEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+// 소프트 삭제 공통 (조회 -> 수정 -> 저장 반복 대신 UPDATE 한 번, 변경된 행 수 반환)
+// 연관관계 기준 일괄 삭제(ex. 점포의 음식 전체)는 각 Repository에 같은 형태로 선언
+// 영속성 컨텍스트에 이미 올라온 엔티티는 갱신되지 않으므로 호출 후 해당 엔티티의 삭제 필드를 읽지 않도록 주의
+@NoRepositoryBean
+public interface SoftDeleteRepository<T extends BaseEntity, ID> extends JpaRepository<T, ID> {
+
+    @Modifying
+    @Query("UPDATE #{#entityName} e SET e.deletedDate = :deletedDate, e.deletedBy = :deletedBy"
+            + " WHERE id(e) IN :ids AND e.deletedDate IS NULL")
+    int softDeleteAllByIdIn(@Param("ids") Collection<ID> ids, @Param("deletedBy") String deletedBy,
+                            @Param("deletedDate") LocalDateTime deletedDate);
+}
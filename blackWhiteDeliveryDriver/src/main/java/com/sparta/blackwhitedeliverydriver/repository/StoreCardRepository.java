@@ -0,0 +1,106 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.StoreCard;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StoreCardRepository extends JpaRepository<StoreCard, UUID> {
+    Page<StoreCard> findAllByDeletedDateIsNullAndIsPublicTrue(Pageable pageable);
+
+    // 점포 평점 집계를 카드에 반영
+    @Modifying
+    @Query(value = "UPDATE p_store_card c SET rating = s.rating, review_cnt = s.review_cnt, avg_rating = s.avg_rating" +
+            " FROM p_stores s WHERE c.store_id = s.store_id" +
+            " AND (c.review_cnt <> s.review_cnt OR c.avg_rating IS DISTINCT FROM s.avg_rating)", nativeQuery = true)
+    int syncAllRatings();
+
+    // 카테고리 이름 변경 / 삭제 -> 점포 카드의 카테고리 이름, 검색 본문 재계산 (StoreCard.updateCategory 와 같은 형식)
+    // 이름순 정렬은 코드 포인트 기준(COLLATE "C") -> StoreCardService.getCategoryNames 의 String 정렬과 같은 순서
+    @Modifying(flushAutomatically = true)
+    @Query(value = "WITH names AS (" +
+            "   SELECT c.store_id, COALESCE(string_agg(cat.name, ', ' ORDER BY cat.name COLLATE \"C\"), '') AS category" +
+            "   FROM p_store_card c" +
+            "   LEFT JOIN p_store_category sc ON sc.store_store_id = c.store_id" +
+            "   LEFT JOIN p_category cat ON cat.category_id = sc.category_category_id" +
+            "   WHERE c.store_id IN (:storeIds)" +
+            "   GROUP BY c.store_id" +
+            " )" +
+            " UPDATE p_store_card c SET category = n.category," +
+            "   search_text = lower(c.store_name || ' ' || c.store_intro || ' ' || n.category)" +
+            " FROM names n WHERE c.store_id = n.store_id", nativeQuery = true)
+    int refreshCategories(@Param("storeIds") Collection<UUID> storeIds);
+
+    @Modifying
+    @Query("UPDATE StoreCard s SET s.deletedDate = :deletedDate WHERE s.storeId IN :storeIds")
+    int markDeleted(@Param("storeIds") Collection<UUID> storeIds, @Param("deletedDate") LocalDateTime deletedDate);
+
+    // 새로 추가된 파생 컬럼이 채워지지 않은 카드가 있는지 (시/구가 비어 있는 점포는 region_code 가 null 인 것이 정상)
+    @Query("SELECT COUNT(s) > 0 FROM StoreCard s WHERE s.openWindowStart = -1" +
+            " OR (s.regionCode IS NULL AND TRIM(s.city) <> '' AND TRIM(s.district) <> '')")
+    boolean existsOutdated();
+
+    // 내 주소 근처: 같은 시/구 또는 같은 우편번호 구역 -> 거리(우편번호 차이) 순
+    @Query("SELECT s FROM StoreCard s WHERE s.deletedDate IS NULL AND s.isPublic = true" +
+            " AND (s.regionCode = :regionCode OR s.zipSector = :zipSector)" +
+            " ORDER BY ABS(COALESCE(s.zipCode, 0) - :zipCode), s.storeId")
+    List<StoreCard> findNearbyOrderByDistance(@Param("regionCode") String regionCode, @Param("zipSector") String zipSector,
+                                              @Param("zipCode") int zipCode, Pageable pageable);
+
+    // 내 주소 근처 -> 평점 순
+    @Query("SELECT s FROM StoreCard s WHERE s.deletedDate IS NULL AND s.isPublic = true" +
+            " AND (s.regionCode = :regionCode OR s.zipSector = :zipSector)" +
+            " ORDER BY s.avgRating DESC, s.reviewCnt DESC, s.storeId")
+    List<StoreCard> findNearbyOrderByRating(@Param("regionCode") String regionCode, @Param("zipSector") String zipSector,
+                                            Pageable pageable);
+
+    Page<StoreCard> findAllByOwnerUsernameAndDeletedDateIsNullAndIsPublicTrue(String ownerUsername, Pageable pageable);
+
+    // 영업 중 (minute: 0시 기준 분) -> 영업 구간 int4range GiST 인덱스 사용
+    @Query("SELECT s FROM StoreCard s WHERE s.deletedDate IS NULL AND s.isPublic = true AND s.status = true" +
+            " AND (window_contains(s.openWindowStart, s.openWindowEnd, :minute) = true" +
+            " OR window_contains(s.wrapWindowStart, s.wrapWindowEnd, :minute) = true)")
+    Page<StoreCard> findOpenPublic(@Param("minute") int minute, Pageable pageable);
+
+    // 트라이그램 인덱스(search_text) 사용, 정렬 지정 검색 (minute < 0 이면 영업 시간 조건 없음)
+    @Query("SELECT s FROM StoreCard s WHERE s.deletedDate IS NULL AND s.searchText LIKE CONCAT('%', :pattern, '%') ESCAPE '\\'" +
+            " AND (:minute < 0 OR (s.status = true" +
+            " AND (window_contains(s.openWindowStart, s.openWindowEnd, :minute) = true" +
+            " OR window_contains(s.wrapWindowStart, s.wrapWindowEnd, :minute) = true)))")
+    Page<StoreCard> searchByPattern(@Param("pattern") String pattern, @Param("minute") int minute, Pageable pageable);
+
+    // 관련도 순 검색: 점포명 일치 > 점포명 접두어 > 점포명 포함 > 단어 유사도(오타 허용)
+    @Query(value = "SELECT c.* FROM p_store_card c" +
+            " WHERE c.deleted_date IS NULL" +
+            " AND (c.search_text LIKE '%' || :pattern || '%' ESCAPE '\\' OR :keyword <% c.search_text)" +
+            " AND (:minute < 0 OR (c.status = true" +
+            " AND (int4range(c.open_window_start, c.open_window_end) @> :minute" +
+            " OR int4range(c.wrap_window_start, c.wrap_window_end) @> :minute)))" +
+            " ORDER BY CASE" +
+            "   WHEN lower(c.store_name) = :keyword THEN 3" +
+            "   WHEN lower(c.store_name) LIKE :pattern || '%' ESCAPE '\\' THEN 2" +
+            "   WHEN lower(c.store_name) LIKE '%' || :pattern || '%' ESCAPE '\\' THEN 1" +
+            "   ELSE 0 END DESC," +
+            " word_similarity(:keyword, c.search_text) DESC, c.store_id" +
+            " LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<StoreCard> searchByRelevance(@Param("keyword") String keyword, @Param("pattern") String pattern,
+                                      @Param("minute") int minute, @Param("limit") int limit, @Param("offset") long offset);
+
+    // 커서 페이징 (createdDate, storeId) 기준 seek (행 값 비교 -> 인덱스 범위 시작점)
+    @Query("SELECT s FROM StoreCard s WHERE s.deletedDate IS NULL AND s.isPublic = true" +
+            " AND (s.createdDate, s.storeId) > (:createdDate, :id)" +
+            " ORDER BY s.createdDate ASC, s.storeId ASC")
+    List<StoreCard> findPublicByCursorAsc(@Param("createdDate") LocalDateTime createdDate, @Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT s FROM StoreCard s WHERE s.deletedDate IS NULL AND s.isPublic = true" +
+            " AND (s.createdDate, s.storeId) < (:createdDate, :id)" +
+            " ORDER BY s.createdDate DESC, s.storeId DESC")
+    List<StoreCard> findPublicByCursorDesc(@Param("createdDate") LocalDateTime createdDate, @Param("id") UUID id, Pageable pageable);
+}
@@ -2,7 +2,11 @@ package com.sparta.blackwhitedeliverydriver.repository;
 
 import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,7 +14,19 @@ import java.util.UUID;
 public interface StoreCategoryRepository extends JpaRepository<StoreCategory, UUID> {
     List<StoreCategory> findAllByStoreStoreId(UUID storeId);
 
+    // 점포 목록 한 페이지의 카테고리를 한 번에 조회 (이름은 카테고리 사전에서 조회)
+    @Query("SELECT sc FROM StoreCategory sc WHERE sc.store.storeId IN :storeIds")
+    List<StoreCategory> findAllByStoreIds(@Param("storeIds") Collection<UUID> storeIds);
+
     Optional<StoreCategory> findByStoreStoreIdAndCategoryCategoryId(UUID storeId, UUID categoryId);
 
     void deleteAllByStoreStoreId(UUID storeId);
+
+    // 카테고리 이름 변경 / 삭제 시 카드를 다시 계산할 점포
+    @Query("SELECT sc.store.storeId FROM StoreCategory sc WHERE sc.category.categoryId = :categoryId")
+    List<UUID> findStoreIdsByCategoryId(@Param("categoryId") UUID categoryId);
+
+    @Modifying
+    @Query("DELETE FROM StoreCategory sc WHERE sc.category.categoryId = :categoryId")
+    int deleteAllByCategoryId(@Param("categoryId") UUID categoryId);
 }
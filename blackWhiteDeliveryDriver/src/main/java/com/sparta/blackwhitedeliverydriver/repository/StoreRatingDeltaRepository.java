@@ -0,0 +1,38 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import com.sparta.blackwhitedeliverydriver.entity.StoreRatingDelta;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StoreRatingDeltaRepository extends JpaRepository<StoreRatingDelta, Long> {
+
+    // 변경분을 가져오며 삭제 -> 점포별 합산 -> p_stores 원자적 증감 -> 카드 반영 (한 문장), 갱신된 점포 ID 반환
+    // SKIP LOCKED 로 여러 노드가 동시에 실행해도 같은 변경분을 두 번 합산하지 않음
+    @Query(value = "WITH folded AS (" +
+            "   DELETE FROM p_store_rating_delta WHERE id IN (" +
+            "     SELECT id FROM p_store_rating_delta ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED)" +
+            "   RETURNING store_id, sum_delta, cnt_delta, one_delta, two_delta, three_delta, four_delta, five_delta" +
+            " ), agg AS (" +
+            "   SELECT store_id, SUM(sum_delta) AS sum_delta, SUM(cnt_delta) AS cnt_delta," +
+            "     SUM(one_delta) AS one_delta, SUM(two_delta) AS two_delta, SUM(three_delta) AS three_delta," +
+            "     SUM(four_delta) AS four_delta, SUM(five_delta) AS five_delta" +
+            "   FROM folded GROUP BY store_id" +
+            " ), updated AS (" +
+            "   UPDATE p_stores s SET rating = s.rating + a.sum_delta, review_cnt = s.review_cnt + a.cnt_delta," +
+            "     one_star_cnt = s.one_star_cnt + a.one_delta, two_star_cnt = s.two_star_cnt + a.two_delta," +
+            "     three_star_cnt = s.three_star_cnt + a.three_delta, four_star_cnt = s.four_star_cnt + a.four_delta," +
+            "     five_star_cnt = s.five_star_cnt + a.five_delta," +
+            "     avg_rating = CASE WHEN s.review_cnt + a.cnt_delta > 0" +
+            "       THEN CAST(s.rating + a.sum_delta AS double precision) / (s.review_cnt + a.cnt_delta) ELSE 0 END" +
+            "   FROM agg a WHERE s.store_id = a.store_id" +
+            "   RETURNING s.store_id, s.rating, s.review_cnt, s.avg_rating" +
+            " ), carded AS (" +
+            "   UPDATE p_store_card c SET rating = u.rating, review_cnt = u.review_cnt, avg_rating = u.avg_rating" +
+            "   FROM updated u WHERE c.store_id = u.store_id" +
+            " )" +
+            " SELECT store_id FROM updated", nativeQuery = true)
+    List<UUID> foldIntoStores(@Param("batchSize") int batchSize);
+}
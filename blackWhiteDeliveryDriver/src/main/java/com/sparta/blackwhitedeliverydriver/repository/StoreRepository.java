@@ -1,27 +1,58 @@
 package com.sparta.blackwhitedeliverydriver.repository;
 
+import com.sparta.blackwhitedeliverydriver.dto.StoreRatingResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Store;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import jakarta.validation.constraints.NotBlank;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface StoreRepository extends JpaRepository<Store, UUID>{
+public interface StoreRepository extends SoftDeleteRepository<Store, UUID>{
 
     Optional<Store> findByStoreName(@NotBlank String storeName);
 
-    Optional<Store> findByStoreIdAndDeletedDateIsNullAndDeletedByIsNull(UUID storeId);
+    // 미삭제 조건은 소프트 삭제 필터가 추가 (findById 는 필터 미적용 -> 삭제 포함 조회)
+    Optional<Store> findByStoreId(UUID storeId);
 
-    Page<Store> findAllByStoreNameContainingAndDeletedDateIsNullAndDeletedByIsNull(String storeName, Pageable pageable);
+    Page<Store> findAllByStoreNameContaining(String storeName, Pageable pageable);
 
-    Page<Store> findAllByDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue(Pageable pageable);
-
-    Optional<Store> findByStoreIdAndDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue(UUID storeId);
+    Page<Store> findAllByIsPublicTrue(Pageable pageable);
 
     Optional<Store> findByStoreIdAndIsPublicTrue(UUID storeId);
 
-    Page<Store> findAllByUserAndDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue(User user, Pageable pageable);
+    Page<Store> findAllByUserAndIsPublicTrue(User user, Pageable pageable);
+
+    @Query("SELECT new com.sparta.blackwhitedeliverydriver.dto.StoreRatingResponseDto(s.storeId, s.reviewCnt, s.avgRating," +
+            " s.oneStarCnt, s.twoStarCnt, s.threeStarCnt, s.fourStarCnt, s.fiveStarCnt) FROM Store s WHERE s.storeId = :storeId")
+    Optional<StoreRatingResponseDto> findRatingByStoreId(@Param("storeId") UUID storeId);
+
+    // 분포 합계와 리뷰 수가 맞지 않는 점포(컬럼 추가 이전 데이터)를 리뷰 기준으로 재계산
+    @Modifying
+    @Query(value = "UPDATE p_stores s SET rating = COALESCE(a.rating_sum, 0), review_cnt = COALESCE(a.cnt, 0)," +
+            " one_star_cnt = COALESCE(a.one_cnt, 0), two_star_cnt = COALESCE(a.two_cnt, 0)," +
+            " three_star_cnt = COALESCE(a.three_cnt, 0), four_star_cnt = COALESCE(a.four_cnt, 0)," +
+            " five_star_cnt = COALESCE(a.five_cnt, 0)," +
+            " avg_rating = CASE WHEN COALESCE(a.cnt, 0) > 0 THEN CAST(a.rating_sum AS double precision) / a.cnt ELSE 0 END" +
+            " FROM p_stores t LEFT JOIN (" +
+            "   SELECT o.store_id, COUNT(*) AS cnt, SUM(r.rating) AS rating_sum," +
+            "     COUNT(*) FILTER (WHERE r.rating = 1) AS one_cnt, COUNT(*) FILTER (WHERE r.rating = 2) AS two_cnt," +
+            "     COUNT(*) FILTER (WHERE r.rating = 3) AS three_cnt, COUNT(*) FILTER (WHERE r.rating = 4) AS four_cnt," +
+            "     COUNT(*) FILTER (WHERE r.rating = 5) AS five_cnt" +
+            "   FROM p_review r JOIN p_order o ON o.id = r.order_id" +
+            "   WHERE r.deleted_date IS NULL GROUP BY o.store_id" +
+            " ) a ON a.store_id = t.store_id" +
+            " WHERE s.store_id = t.store_id" +
+            " AND t.review_cnt <> t.one_star_cnt + t.two_star_cnt + t.three_star_cnt + t.four_star_cnt + t.five_star_cnt",
+            nativeQuery = true)
+    int recalculateInconsistentRatings();
+
+    // 점주 탈퇴 시 일괄 삭제 대상 (ID만 조회)
+    @Query("SELECT s.storeId FROM Store s WHERE s.user = :user")
+    List<UUID> findActiveStoreIdsByUser(@Param("user") User user);
 }
@@ -4,9 +4,9 @@ import com.sparta.blackwhitedeliverydriver.entity.User;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
 
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends SoftDeleteRepository<User, String> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByPhoneNumber(String phoneNumber);
@@ -15,5 +15,10 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     Page<User> findByUsernameContainingAndDeletedByIsNullAndDeletedDateIsNullAndPublicProfileIsTrue(String keyword, Pageable pageable);
 
+    // slice: size + 1 건 조회로 다음 페이지 여부만 판단 (count 쿼리 없음)
+    Slice<User> findSliceByUsernameContaining(String keyword, Pageable pageable);
+
+    Slice<User> findSliceByUsernameContainingAndDeletedByIsNullAndDeletedDateIsNullAndPublicProfileIsTrue(String keyword, Pageable pageable);
+
     Optional<User> findByUsernameAndDeletedDateIsNullAndDeletedByIsNullAndPublicProfileTrue(String username);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.sparta.blackwhitedeliverydriver.service;
 import com.sparta.blackwhitedeliverydriver.dto.AddressIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.AddressRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.AddressResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Address;
 import com.sparta.blackwhitedeliverydriver.entity.Review;
 import com.sparta.blackwhitedeliverydriver.entity.User;
@@ -70,10 +71,25 @@ public class AddressService {
         Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        // 페이징이 적용된 Address 리스트를 가져온다
-        Page<Address> addressPage = addressRepository.findAllByUserAndDeletedByIsNullAndDeletedDateIsNull(user, pageable);
+        // 페이징이 적용된 Address 목록을 응답 DTO로 바로 가져온다
+        return addressRepository.findResponsesByUser(user, pageable);
+    }
+
+    public SliceResponseDto<AddressResponseDto> getAllAddressesSlice(String username, int page, int size, String sortBy,
+                                                                     boolean isAsc) {
+        User user = userRepository.findById(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+
+        // 페이징 처리 (count 쿼리 없음)
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
 
-        return addressPage.map(AddressResponseDto::from);
+        return SliceResponseDto.from(addressRepository.findResponseSliceByUser(user, pageable));
     }
 
     public AddressResponseDto getCurrentAddress(String username) {
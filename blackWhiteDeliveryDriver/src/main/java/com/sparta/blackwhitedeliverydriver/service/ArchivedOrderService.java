@@ -0,0 +1,111 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayGetDetailResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrder;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrderProduct;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedPay;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.PayExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.repository.ArchivedOrderProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.ArchivedOrderRepository;
+import com.sparta.blackwhitedeliverydriver.repository.ArchivedPayRepository;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 보관 기간이 지나 아카이브 테이블로 옮겨진 주문 / 결제 조회
+// 유저 유효성은 호출하는 서비스(OrderService, PayService)에서 확인
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArchivedOrderService {
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderProductRepository archivedOrderProductRepository;
+    private final ArchivedPayRepository archivedPayRepository;
+
+    public CursorResponseDto<OrderGetResponseDto> getOrdersByCursor(User user, String cursor, int size, boolean isAsc) {
+        //커서 페이징 (count 쿼리 없음)
+        size = CursorUtil.normalizeSize(size);
+        CursorUtil.Cursor position = CursorUtil.decode(cursor, isAsc);
+        Pageable pageable = PageRequest.ofSize(size + 1);
+
+        List<ArchivedOrder> orders = isAsc
+                ? archivedOrderRepository.findAllByUserAndCursorAsc(user, position.getCreatedDate(), position.getId(), pageable)
+                : archivedOrderRepository.findAllByUserAndCursorDesc(user, position.getCreatedDate(), position.getId(), pageable);
+
+        return CursorResponseDto.of(orders, size, ArchivedOrder::getCreatedDate, ArchivedOrder::getId,
+                OrderGetResponseDto::fromArchivedOrder);
+    }
+
+    public CursorResponseDto<PayGetResponseDto> getPaysByCursor(User user, String cursor, int size, boolean isAsc) {
+        //커서 페이징 (count 쿼리 없음)
+        size = CursorUtil.normalizeSize(size);
+        CursorUtil.Cursor position = CursorUtil.decode(cursor, isAsc);
+        Pageable pageable = PageRequest.ofSize(size + 1);
+
+        List<ArchivedPay> pays = isAsc
+                ? archivedPayRepository.findAllByUserAndCursorAsc(user, position.getCreatedDate(), position.getId(), pageable)
+                : archivedPayRepository.findAllByUserAndCursorDesc(user, position.getCreatedDate(), position.getId(), pageable);
+
+        return CursorResponseDto.of(pays, size, ArchivedPay::getCreatedDate, ArchivedPay::getId,
+                PayGetResponseDto::fromArchivedPay);
+    }
+
+    // 아카이브에도 없으면 empty -> 호출하는 쪽에서 ORDER_NOT_FOUND
+    public Optional<OrderGetDetailResponseDto> findOrderDetail(User user, UUID orderId) {
+        return findOrder(orderId).map(order -> {
+            checkDeletedOrder(order);
+            if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
+                checkOrderUser(order, user);
+            }
+            List<ArchivedOrderProduct> orderProducts = archivedOrderProductRepository.findAllByOrderAndNotDeleted(order);
+            return OrderGetDetailResponseDto.ofArchived(order, orderProducts);
+        });
+    }
+
+    // 아카이브에도 없으면 empty -> 호출하는 쪽에서 PAY_NOT_FOUND
+    public Optional<PayGetDetailResponseDto> findPayDetail(User user, UUID payId) {
+        return archivedPayRepository.findById(payId).map(pay -> {
+            checkDeletedPay(pay);
+            if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
+                checkOrderUser(pay.getOrder(), user);
+            }
+            List<ArchivedOrderProduct> orderProducts = archivedOrderProductRepository.findAllByOrderAndNotDeleted(pay.getOrder());
+            return PayGetDetailResponseDto.ofArchived(pay, orderProducts);
+        });
+    }
+
+    public Optional<ArchivedOrder> findOrder(UUID orderId) {
+        return archivedOrderRepository.findById(orderId);
+    }
+
+    private void checkOrderUser(ArchivedOrder order, User user) {
+        if (!order.getUser().getUsername().equals(user.getUsername())) {
+            throw new IllegalArgumentException(OrderExceptionMessage.ORDER_USER_NOT_EQUALS.getMessage());
+        }
+    }
+
+    private void checkDeletedOrder(ArchivedOrder order) {
+        if (order.getDeletedDate() != null || order.getDeletedBy() != null) {
+            throw new IllegalArgumentException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage());
+        }
+    }
+
+    private void checkDeletedPay(ArchivedPay pay) {
+        if (pay.getDeletedDate() != null || pay.getDeletedBy() != null) {
+            throw new IllegalArgumentException(PayExceptionMessage.PAY_NOT_FOUND.getMessage());
+        }
+    }
+}
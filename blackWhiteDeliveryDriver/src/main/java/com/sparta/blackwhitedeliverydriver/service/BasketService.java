@@ -1,9 +1,11 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.RowCountEstimateCache;
 import com.sparta.blackwhitedeliverydriver.dto.BasketAddRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketUpdateRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Basket;
 import com.sparta.blackwhitedeliverydriver.entity.Product;
 import com.sparta.blackwhitedeliverydriver.entity.User;
@@ -22,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,11 +33,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BasketService {
+    private static final String BASKET_TABLE = "p_basket";
 
     private final BasketRepository basketRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
+    private final RowCountEstimateCache rowCountEstimateCache;
 
     @Transactional
     public BasketResponseDto addProductToBasket(String username, BasketAddRequestDto request) {
@@ -101,6 +106,28 @@ public class BasketService {
         return baskets.map(BasketGetResponseDto::fromBasket);
     }
 
+    public SliceResponseDto<BasketGetResponseDto> getBasketsSlice(String username, int page, int size, String sortBy,
+                                                                  boolean isAsc) {
+        // 유저 유효성 검증
+        User user = checkValidUser(username);
+
+        //페이징 (count 쿼리 없음)
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
+            return SliceResponseDto.from(basketRepository.findSliceByUserAndNotDeleted(user, pageable)
+                    .map(BasketGetResponseDto::fromBasket));
+        }
+        // 관리자용: 통계 기반 추정 건수
+        return SliceResponseDto.from(basketRepository.findSliceBy(pageable).map(BasketGetResponseDto::fromBasket),
+                rowCountEstimateCache.get(BASKET_TABLE));
+    }
+
     @Transactional
     public BasketResponseDto updateBasket(String username, BasketUpdateRequestDto request) {
         //유저 유효성 검사
@@ -138,6 +165,25 @@ public class BasketService {
         return baskets.map(BasketGetResponseDto::fromBasket);
     }
 
+    public SliceResponseDto<BasketGetResponseDto> searchBasketsByProductNameSlice(String username, String productName, int page,
+                                                                                  int size, String sortBy, boolean isAsc) {
+        //유저 유효성 검사
+        User user = checkValidUser(username);
+
+        //페이징 (count 쿼리 없음)
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        // 데이터 조회 및 변환
+        Slice<Basket> baskets = basketRepository.findSliceByProductNameContainingAndUserAndNotDeleted(productName, user,
+                pageable);
+        return SliceResponseDto.from(baskets.map(BasketGetResponseDto::fromBasket));
+    }
+
     private void checkBasketUser(User user, Basket basket) {
         if (!user.getUsername().equals(basket.getUser().getUsername())) {
             throw new IllegalArgumentException(BasketExceptionMessage.BASKET_USER_NOT_EQUALS.getMessage());
@@ -1,16 +1,22 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.CategoryDictionary;
+import com.sparta.blackwhitedeliverydriver.cache.StoreDetailCache;
 import com.sparta.blackwhitedeliverydriver.dto.CategoryIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.CategoryRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.CategoryResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Category;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.exception.CategoryExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCardRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +29,10 @@ import java.util.*;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final StoreCardRepository storeCardRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final StoreDetailCache storeDetailCache;
 
     @Transactional
     public List<Category> getOrCreateCategory(String categoryNames, User user) {
@@ -32,17 +42,21 @@ public class CategoryService {
                 .forEach(categorySet::add);
 
         List<Category> categoryList = new ArrayList<>();
+        boolean isCreated = false;
         for(String categoryName : categorySet) {
-            Category category = categoryRepository.findByName(categoryName)
-                    .orElseGet(() -> {
-                        // 없으면 새로 생성하고 저장 -> 예외 처리하기
-                        Category newCategory = Category.from(categoryName);
-                        categoryList.add(newCategory);
-                        return categoryRepository.save(newCategory);
-                    });
-            categoryList.add(category);
+            Optional<UUID> categoryId = categoryDictionary.findIdByName(categoryName);
+            if(categoryId.isPresent()) {
+                categoryList.add(categoryRepository.getReferenceById(categoryId.get()));
+                continue;
+            }
+            // 없으면 새로 생성하고 저장 -> 예외 처리하기
+            categoryList.add(categoryRepository.save(Category.from(categoryName)));
+            isCreated = true;
         }
 
+        if(isCreated) {
+            categoryDictionary.refreshAfterCommit();
+        }
         return categoryList;
     }
 
@@ -61,12 +75,28 @@ public class CategoryService {
         return categoryPage.map(CategoryResponseDto::from);
     }
 
+    public SliceResponseDto<CategoryResponseDto> getAllCategoriesSlice(int page, int size, String sortBy, boolean isAsc) {
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+
+        // 페이징 처리 (count 쿼리 없음)
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        Slice<Category> categorySlice = categoryRepository.findSliceBy(pageable);
+
+        return SliceResponseDto.from(categorySlice.map(CategoryResponseDto::from));
+    }
+
     @Transactional
     public CategoryIdResponseDto createCategory(CategoryRequestDto requestDto) {
         checkCategoryName(requestDto.getName(), null);
 
         Category category = Category.from(requestDto.getName());
         categoryRepository.save(category);
+        categoryDictionary.refreshAfterCommit();
 
         return new CategoryIdResponseDto(category.getCategoryId());
     }
@@ -80,6 +110,11 @@ public class CategoryService {
 
         category.update(requestDto.getName());
         categoryRepository.save(category);
+        // 카드의 카테고리 이름 / 검색 본문도 같은 트랜잭션에서 갱신
+        refreshStoreCards(storeCategoryRepository.findStoreIdsByCategoryId(categoryId));
+        categoryDictionary.refreshAfterCommit();
+        // 점포 상세 응답에 카테고리 이름이 포함되므로 전체 제거
+        storeDetailCache.evictAllAfterCommit();
 
         return new CategoryIdResponseDto(category.getCategoryId());
     }
@@ -89,11 +124,24 @@ public class CategoryService {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException(CategoryExceptionMessage.CATEGORY_NOT_FOUND.getMessage()));
 
+        // 점포 연결을 먼저 끊고 카드에서 카테고리 제거
+        List<UUID> storeIds = storeCategoryRepository.findStoreIdsByCategoryId(categoryId);
+        storeCategoryRepository.deleteAllByCategoryId(categoryId);
         categoryRepository.delete(category);
+        refreshStoreCards(storeIds);
+        categoryDictionary.refreshAfterCommit();
+        storeDetailCache.evictAllAfterCommit();
 
         return new CategoryIdResponseDto(category.getCategoryId());
     }
 
+    private void refreshStoreCards(List<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        storeCardRepository.refreshCategories(storeIds);
+    }
+
     private void checkCategoryName(String name, String currentName) {
         categoryRepository.findByName(name)
                 .filter(category -> !category.getName().equals(currentName))
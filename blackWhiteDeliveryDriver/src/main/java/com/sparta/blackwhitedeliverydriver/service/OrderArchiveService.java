@@ -0,0 +1,93 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.repository.OrderArchiveRepository;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 주문 보관 기간(hot window) 관리
+// 보관 기간이 지난 완료 · 취소 주문 -> p_order_archive / p_order_product_archive / p_pay_archive (월 파티션)
+// 관리자 목록 조회는 보관 기간(getHotWindowStart 이후)만 대상으로 함
+@Slf4j(topic = "OrderArchiveService")
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+    private static final List<String> ARCHIVE_TABLES = List.of("p_order_archive", "p_order_product_archive", "p_pay_archive");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<YearMonth> createdPartitions = ConcurrentHashMap.newKeySet();
+
+    @Value("${order.archive.retention-months:6}")
+    private int retentionMonths;
+    @Value("${order.archive.batch-size:1000}")
+    private int batchSize;
+
+    // 보관 기간 시작 (월 단위, 이번 달 1일 - retentionMonths)
+    public LocalDateTime getHotWindowStart() {
+        return YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = getHotWindowStart();
+        LocalDateTime oldest = orderArchiveRepository.findOldestArchivableCreatedDate(cutoff);
+        if (oldest == null) {
+            return;
+        }
+        // 결제 / 주문 음식은 주문보다 늦게 생성되므로 이번 달까지 파티션 준비
+        ensurePartitions(YearMonth.from(oldest), YearMonth.now());
+
+        int total = 0;
+        Integer moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += moved == null ? 0 : moved;
+        } while (moved != null && moved == batchSize);
+        log.info("주문 아카이브 완료 (cutoff: {}, orders: {})", cutoff, total);
+    }
+
+    // 배치 단위 트랜잭션: 대상 주문 잠금 -> 주문 음식 / 결제 / 주문 순으로 이동
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<UUID> orderIds = orderArchiveRepository.lockArchivableOrderIds(cutoff, batchSize);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        orderArchiveRepository.moveOrderProducts(orderIds);
+        orderArchiveRepository.movePays(orderIds);
+        return orderArchiveRepository.moveOrders(orderIds);
+    }
+
+    private void ensurePartitions(YearMonth from, YearMonth to) {
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (createdPartitions.contains(month)) {
+                continue;
+            }
+            try {
+                for (String table : ARCHIVE_TABLES) {
+                    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + "_" + month.format(PARTITION_SUFFIX)
+                            + " PARTITION OF " + table
+                            + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+                }
+                createdPartitions.add(month);
+            } catch (DataAccessException e) {
+                // 다른 노드가 동시에 생성한 경우 -> 다음 실행에서 다시 확인
+                log.warn("아카이브 파티션 생성 실패 ({}): {}", month, e.getMessage());
+            }
+        }
+    }
+}
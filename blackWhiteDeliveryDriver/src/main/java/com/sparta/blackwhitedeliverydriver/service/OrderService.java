@@ -1,10 +1,14 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.RowCountEstimateCache;
+import com.sparta.blackwhitedeliverydriver.config.SoftDeleteFilter;
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderAddRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderUpdateRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Basket;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
@@ -23,6 +27,7 @@ import com.sparta.blackwhitedeliverydriver.repository.OrderProductRepository;
 import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +36,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +45,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class OrderService {
+    private static final String ORDER_TABLE = "p_order";
 
     private final BasketRepository basketRepository;
     private final OrderRepository orderRepository;
@@ -47,6 +54,10 @@ public class OrderService {
     private final StoreRepository storeRepository;
 
     private final PayService payService;
+    private final ArchivedOrderService archivedOrderService;
+    private final SoftDeleteFilter softDeleteFilter;
+    private final OrderArchiveService orderArchiveService;
+    private final RowCountEstimateCache rowCountEstimateCache;
 
     @Transactional
     public OrderResponseDto createOrder(String username, OrderAddRequestDto request) {
@@ -58,36 +69,32 @@ public class OrderService {
         //이미 존재하는 주문 건이 있는지 확인
         checkCreatedOrderByUser(user);
 
-        //유저와 관련된 장바구니 품목 찾기
-        List<Basket> baskets = basketRepository.findAllByUserAndNotDeleted(user);
+        //유저와 관련된 장바구니 품목 찾기 (음식, 가게 함께 조회)
+        List<Basket> baskets = basketRepository.findAllByUserAndNotDeletedWithProduct(user);
 
         //장바구니 개수 체크
         checkBasketCount(baskets);
 
-        //order 엔티티 생성 및 저장
+        //order 엔티티 생성 및 연관관계 테이블에 장바구니 품목 생성
         Store store = baskets.get(0).getStore();
         Order order = Order.ofUserAndStore(user, store, request.getType());
-        order = orderRepository.save(order);
-
-        //연관관계 테이블에 장바구니 품목 저장
         List<OrderProduct> orderProducts = new ArrayList<>();
         for (Basket basket : baskets) {
             Product product = basket.getProduct();
             OrderProduct orderProduct = OrderProduct.of(basket, product, order);
             orderProducts.add(orderProduct);
         }
-        orderProductRepository.saveAll(orderProducts);
-
-        //장바구니 삭제
-        for (Basket basket : baskets) {
-            basket.softDelete(username, LocalDateTime.now());
-            basketRepository.save(basket);
-        }
 
-        //최종금액 계산 및 업데이트
+        //최종금액을 먼저 계산해 order는 INSERT 한 번으로 저장
         int price = calculateFinalPay(orderProducts);
         order.updateFinalPay(price);
-        orderRepository.save(order);
+        order = orderRepository.save(order);
+
+        //주문 품목은 JDBC 배치 INSERT (hibernate.order_inserts)
+        orderProductRepository.saveAll(orderProducts);
+
+        //장바구니 삭제 (UPDATE 한 번)
+        basketRepository.softDeleteAllByUser(user, username, LocalDateTime.now());
 
         return new OrderResponseDto(order.getId());
     }
@@ -98,9 +105,12 @@ public class OrderService {
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
         checkDeletedUser(user);
 
-        //주문 유효성
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+        //주문 유효성 (보관 기간이 지난 주문은 아카이브에서 조회)
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null) {
+            return archivedOrderService.findOrderDetail(user, orderId)
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+        }
         checkDeletedOrder(order);
 
         // CUSTOMER인 경우 Order의 user인지 체크
@@ -130,34 +140,83 @@ public class OrderService {
 
         //주문 조회
         UserRoleEnum role = user.getRole();
-        Page<Order> orders;
         if (role.equals(UserRoleEnum.CUSTOMER)) {
-            orders = orderRepository.findAllByUserAndNotDeleted(user, pageable);
-        } else {
-            orders = orderRepository.findAll(pageable);
+            return orderRepository.findResponsesByUser(user, pageable);
+        }
+        // 관리자용: 삭제된 주문 포함, 보관 기간 이내
+        LocalDateTime since = orderArchiveService.getHotWindowStart();
+        return softDeleteFilter.includeDeleted(() -> orderRepository.findResponsesSince(since, pageable));
+    }
+
+    public SliceResponseDto<OrderGetResponseDto> getOrdersSlice(String username, int page, int size, String sortBy,
+                                                                boolean isAsc) {
+        //유저 유효성
+        User user = userRepository.findById(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //페이징 (count 쿼리 없음)
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
         }
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
 
-        return orders.map(OrderGetResponseDto::fromOrder);
+        //주문 조회
+        if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
+            return SliceResponseDto.from(orderRepository.findResponseSliceByUser(user, pageable));
+        }
+        // 관리자용: 삭제된 주문 포함, 보관 기간 이내 + 통계 기반 추정 건수
+        LocalDateTime since = orderArchiveService.getHotWindowStart();
+        Slice<OrderGetResponseDto> orders = softDeleteFilter.includeDeleted(() -> orderRepository.findResponseSliceSince(since, pageable));
+        return SliceResponseDto.from(orders, rowCountEstimateCache.get(ORDER_TABLE));
     }
 
-    public Page<OrderGetResponseDto> getOrdersByStore(String username, int page, int size, String sortBy, boolean isAsc,
-                                                      UUID storeId) {
+    public CursorResponseDto<OrderGetResponseDto> getOrdersByCursor(String username, String cursor, int size, boolean isAsc) {
         //유저 유효성
         User user = userRepository.findById(username)
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
         checkDeletedUser(user);
 
-        //점포 유효성
-        Store store = storeRepository.findById(storeId).orElseThrow(() -> new NullPointerException(
-                StoreExceptionMessage.STORE_NOT_FOUND.getMessage()));
-        checkDeletedStore(store);
+        //커서 페이징 (count 쿼리 없음)
+        size = CursorUtil.normalizeSize(size);
+        CursorUtil.Cursor position = CursorUtil.decode(cursor, isAsc);
+        Pageable pageable = PageRequest.ofSize(size + 1);
 
-        //유저 점포 유효성
-        UserRoleEnum role = user.getRole();
-        if (role.equals(UserRoleEnum.OWNER)) {
-            checkStoreOwnerEquals(store, user);
+        //주문 조회
+        List<Order> orders;
+        if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
+            orders = isAsc
+                    ? orderRepository.findAllByUserAndCursorAsc(user, position.getCreatedDate(), position.getId(), pageable)
+                    : orderRepository.findAllByUserAndCursorDesc(user, position.getCreatedDate(), position.getId(), pageable);
+        } else {
+            // 관리자용: 삭제된 주문 포함, 보관 기간 이내
+            LocalDateTime since = orderArchiveService.getHotWindowStart();
+            orders = softDeleteFilter.includeDeleted(() -> isAsc
+                    ? orderRepository.findAllByCursorAsc(since, position.getCreatedDate(), position.getId(), pageable)
+                    : orderRepository.findAllByCursorDesc(since, position.getCreatedDate(), position.getId(), pageable));
         }
 
+        return CursorResponseDto.of(orders, size, Order::getCreatedDate, Order::getId, OrderGetResponseDto::fromOrder);
+    }
+
+    public CursorResponseDto<OrderGetResponseDto> getArchivedOrdersByCursor(String username, String cursor, int size,
+                                                                          boolean isAsc) {
+        //유저 유효성
+        User user = userRepository.findById(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //보관 기간이 지난 본인 주문
+        return archivedOrderService.getOrdersByCursor(user, cursor, size, isAsc);
+    }
+
+    public Page<OrderGetResponseDto> getOrdersByStore(String username, int page, int size, String sortBy, boolean isAsc,
+                                                      UUID storeId) {
+        //유저, 점포 유효성
+        Store store = getAccessibleStore(username, storeId);
+
         //페이징
         if (size != 10 && size != 30 && size != 50) {
             size = 10;
@@ -167,9 +226,24 @@ public class OrderService {
         Pageable pageable = PageRequest.of(page, size, sort);
 
         //주문 조회
-        Page<Order> orders = orderRepository.findAllByStoreAndNotDeleted(store, pageable);
+        return orderRepository.findResponsesByStore(store, pageable);
+    }
+
+    public SliceResponseDto<OrderGetResponseDto> getOrdersByStoreSlice(String username, int page, int size, String sortBy,
+                                                                       boolean isAsc, UUID storeId) {
+        //유저, 점포 유효성
+        Store store = getAccessibleStore(username, storeId);
 
-        return orders.map(OrderGetResponseDto::fromOrder);
+        //페이징 (count 쿼리 없음)
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        //주문 조회
+        return SliceResponseDto.from(orderRepository.findResponseSliceByStore(store, pageable));
     }
 
     public Page<OrderGetResponseDto> searchOrdersByStoreName(String storeName, int page, int size, String sortBy,
@@ -182,11 +256,25 @@ public class OrderService {
         Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        // 점포 이름으로 주문 검색
-        Page<Order> orders = orderRepository.findByStoreNameContaining(storeName, pageable);
+        // 점포 이름으로 주문 검색 (보관 기간 이내)
+        LocalDateTime since = orderArchiveService.getHotWindowStart();
+        return softDeleteFilter.includeDeleted(() -> orderRepository.findResponsesByStoreNameContaining(storeName, since, pageable));
+    }
 
-        // DTO로 변환하여 반환
-        return orders.map(OrderGetResponseDto::fromOrder);
+    public SliceResponseDto<OrderGetResponseDto> searchOrdersByStoreNameSlice(String storeName, int page, int size,
+                                                                              String sortBy, boolean isAsc) {
+        // 페이징 및 정렬 정보 생성 (count 쿼리 없음)
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        // 점포 이름으로 주문 검색 (보관 기간 이내)
+        LocalDateTime since = orderArchiveService.getHotWindowStart();
+        return SliceResponseDto.from(softDeleteFilter.includeDeleted(
+                () -> orderRepository.findResponseSliceByStoreNameContaining(storeName, since, pageable)));
     }
 
     @Transactional
@@ -204,10 +292,10 @@ public class OrderService {
         //주문의 점포 주인과 유저 체크
         checkStoreOwnerEquals(order.getStore(), user);
 
-        //점포 주인이 거절하면 환불
+        //점포 주인이 거절하면 환불 요청 기록 (환불은 RefundOutboxService 워커가 처리 -> 게이트웨이를 기다리지 않음)
         if (request.getStatus().equals(OrderStatusEnum.REJECTED)) {
             checkOrderStatus(order, OrderStatusEnum.PENDING);
-            payService.refundPaymentByReject(order);
+            payService.requestRefundByReject(order);
         } else if (request.getStatus().equals(OrderStatusEnum.ACCEPTED)) {
             checkOrderStatus(order, OrderStatusEnum.PENDING);
         } else if (request.getStatus().equals(OrderStatusEnum.COMPLETED)) {
@@ -240,18 +328,16 @@ public class OrderService {
         //주문 상태 확인
         checkEnableDeleteOrderStatus(order);
 
-        //orderProduct 조회 후 basket 저장
+        //orderProduct 조회 후 basket 저장 (배치 INSERT)
         List<OrderProduct> orderProducts = orderProductRepository.findAllByOrderAndNotDeleted(order);
+        List<Basket> baskets = new ArrayList<>();
         for (OrderProduct orderProduct : orderProducts) {
-            Basket basket = Basket.ofUserAndOrderProduct(user, orderProduct.getProduct(), orderProduct);
-            basketRepository.save(basket);
+            baskets.add(Basket.ofUserAndOrderProduct(user, orderProduct.getProduct(), orderProduct));
         }
+        basketRepository.saveAll(baskets);
 
-        // OrderProduct 소프트 딜리트 처리
-        for (OrderProduct orderProduct : orderProducts) {
-            orderProduct.softDelete(user.getUsername(), LocalDateTime.now());
-            orderProductRepository.save(orderProduct);
-        }
+        // OrderProduct 소프트 딜리트 처리 (UPDATE 한 번)
+        orderProductRepository.softDeleteAllByOrder(order, user.getUsername(), LocalDateTime.now());
 
         //order 삭제
         order.softDelete(username, LocalDateTime.now());
@@ -286,6 +372,24 @@ public class OrderService {
         }
     }
 
+    private Store getAccessibleStore(String username, UUID storeId) {
+        //유저 유효성
+        User user = userRepository.findById(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //점포 유효성
+        Store store = storeRepository.findById(storeId).orElseThrow(() -> new NullPointerException(
+                StoreExceptionMessage.STORE_NOT_FOUND.getMessage()));
+        checkDeletedStore(store);
+
+        //유저 점포 유효성
+        if (user.getRole().equals(UserRoleEnum.OWNER)) {
+            checkStoreOwnerEquals(store, user);
+        }
+        return store;
+    }
+
     private void checkStoreOwnerEquals(Store store, User user) {
         User owner = store.getUser();
         if (!owner.getUsername().equals(user.getUsername())) {
@@ -299,6 +403,7 @@ public class OrderService {
         }
     }
 
+    // 점포 / 주문은 findById, 연관관계로 조회 -> 소프트 삭제 필터가 적용되지 않으므로 직접 확인
     private void checkDeletedStore(Store store) {
         if (store.getDeletedDate() != null || store.getDeletedBy() != null) {
             throw new IllegalArgumentException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage());
@@ -1,19 +1,31 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.RowCountEstimateCache;
+import com.sparta.blackwhitedeliverydriver.client.KakaoPayClient;
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayCancelResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayOrderResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayReadyResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayRefundRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayRefundResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.PayRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.RefundStatusResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrder;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
 import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
 import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
 import com.sparta.blackwhitedeliverydriver.entity.Pay;
 import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttempt;
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttemptStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttemptTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.RefundOutbox;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
@@ -22,14 +34,19 @@ import com.sparta.blackwhitedeliverydriver.exception.PayExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.repository.OrderProductRepository;
 import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
 import com.sparta.blackwhitedeliverydriver.repository.PayRepository;
+import com.sparta.blackwhitedeliverydriver.repository.PaymentAttemptRepository;
+import com.sparta.blackwhitedeliverydriver.repository.RefundOutboxRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
-import com.sparta.blackwhitedeliverydriver.util.HttpUtil;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
 import com.sparta.blackwhitedeliverydriver.util.PayUtil;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,138 +54,143 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClientResponseException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PayService {
-    private final String PAY_URI = "https://open-api.kakaopay.com/online/v1";
+    private static final String PAY_TABLE = "p_pay";
+    private static final String GATEWAY_APPROVED = "SUCCESS_PAYMENT";
+    private static final Set<String> GATEWAY_CANCELED = Set.of("CANCEL_PAYMENT", "PART_CANCEL_PAYMENT");
 
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final PayRepository payRepository;
     private final OrderProductRepository orderProductRepository;
+    private final PaymentAttemptRepository paymentAttemptRepository;
+    private final RefundOutboxRepository refundOutboxRepository;
 
     private final PayUtil payUtil;
-    private final HttpUtil httpUtil;
-
-    @Transactional
+    private final KakaoPayClient kakaoPayClient;
+    private final OrderArchiveService orderArchiveService;
+    private final ArchivedOrderService archivedOrderService;
+    private final RowCountEstimateCache rowCountEstimateCache;
+    private final TransactionTemplate transactionTemplate;
+
+    // 외부 결제 호출은 트랜잭션 밖에서 -> 게이트웨이가 느려도 DB 커넥션을 잡고 기다리지 않음
+    // 1) 짧은 트랜잭션: 검증 + PENDING 시도 기록  2) 게이트웨이 호출  3) 짧은 트랜잭션: 결과 반영
     public PayReadyResponseDto readyToPay(String username, PayRequestDto request) {
-        //유저 유효성
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
-        checkDeletedUser(user);
+        PreparedCall prepared = transactionTemplate.execute(status -> {
+            //유저 유효성
+            User user = userRepository.findById(username)
+                    .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+            checkDeletedUser(user);
 
-        //주문 유효성
-        Order order = orderRepository.findById(request.getOrderId())
-                .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
-        checkDeletedOrder(order);
+            //주문 유효성
+            Order order = orderRepository.findById(request.getOrderId())
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+            checkDeletedOrder(order);
 
-        //유저와 주문 유저 비교
-        checkOrderUser(order, user);
+            //유저와 주문 유저 비교
+            checkOrderUser(order, user);
 
-        //주문 상태 체크
-        checkOrderStatus(order);
+            //주문 상태 체크
+            checkOrderStatus(order);
 
-        //주문 타입 체크 - 대면인 경우에는 오프라인 계산
-        checkOrderType(order);
+            //주문 타입 체크 - 대면인 경우에는 오프라인 계산
+            checkOrderType(order);
 
-        //파라미터와 헤더 설정
-        Map<String, String> parameters = payUtil.getReadyPayParameters(user, order);
-        HttpEntity<Map<String, String>> restRequest = httpUtil.getHttpEntity(payUtil.getHeaders(), parameters);
+            //파라미터 설정
+            Map<String, String> parameters = payUtil.getReadyPayParameters(user, order);
+            return startAttempt(order.getId(), PaymentAttemptTypeEnum.READY, null, order.getFinalPay(), parameters);
+        });
 
         //카카오페이에 요청
-        RestTemplate restTemplate = new RestTemplate();
-        PayReadyResponseDto response = restTemplate.postForObject(PAY_URI + "/payment/ready", restRequest,
-                PayReadyResponseDto.class);
+        PayReadyResponseDto response = callGateway(prepared, kakaoPayClient::ready);
 
         assert response != null;
-        order.updateTid(response.getTid());
+        transactionTemplate.executeWithoutResult(status -> applyReady(prepared.attemptId(), response.getTid()));
 
         return response;
     }
 
-    @Transactional
     public PayApproveResponseDto approvePay(String username, String pgToken, String tid) {
+        PreparedCall prepared = transactionTemplate.execute(status -> {
+            //유저 유효성
+            User user = userRepository.findById(username)
+                    .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+            checkDeletedUser(user);
 
-        //유저 유효성
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
-        checkDeletedUser(user);
-
-        //주문 유효성
-        Order order = orderRepository.findByTid(tid)
-                .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
-        checkDeletedOrder(order);
+            //주문 유효성
+            Order order = orderRepository.findByTid(tid)
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+            checkDeletedOrder(order);
 
-        Map<String, String> parameters = payUtil.getApprovePayParameters(tid, pgToken, order);
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(parameters, payUtil.getHeaders());
+            Map<String, String> parameters = payUtil.getApprovePayParameters(tid, pgToken, order);
+            return startAttempt(order.getId(), PaymentAttemptTypeEnum.APPROVE, tid, order.getFinalPay(), parameters);
+        });
 
-        RestTemplate restTemplate = new RestTemplate();
-        PayApproveResponseDto approveResponse = restTemplate.postForObject(
-                PAY_URI + "/payment/approve", requestEntity, PayApproveResponseDto.class);
+        PayApproveResponseDto approveResponse = callGateway(prepared, kakaoPayClient::approve);
 
         assert approveResponse != null;
-        Pay pay = Pay.of(order, approveResponse);
-        payRepository.save(pay);
-        order.updateStatus(OrderStatusEnum.PENDING);
+        transactionTemplate.executeWithoutResult(
+                status -> applyApprove(prepared.attemptId(), order -> Pay.of(order, approveResponse)));
 
         return approveResponse;
     }
 
-    @Transactional
     public PayRefundResponseDto refundPayment(String username, PayRefundRequestDto request) {
-        //유저 유효성
-        User user = userRepository.findById(username)
-                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_PUBLIC.getMessage()));
-        checkDeletedUser(user);
+        PreparedCall prepared = transactionTemplate.execute(status -> {
+            //유저 유효성
+            User user = userRepository.findById(username)
+                    .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_PUBLIC.getMessage()));
+            checkDeletedUser(user);
 
-        //주문 유효성
-        Order order = orderRepository.findById(request.getOrderId())
-                .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
-        checkDeletedOrder(order);
+            //주문 유효성
+            Order order = orderRepository.findById(request.getOrderId())
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+            checkDeletedOrder(order);
 
-        //주문 상태 체크
-        checkOrderPendingStatus(order);
+            //주문 상태 체크
+            checkOrderPendingStatus(order);
 
-        //유저와 주문 유저의 유효성
-        checkOrderUser(order, user);
+            //유저와 주문 유저의 유효성
+            checkOrderUser(order, user);
 
-        //pay 유효성
-        Pay pay = payRepository.findByOrder(order)
-                .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
-        checkDeletedPay(pay);
+            //pay 유효성
+            Pay pay = payRepository.findByOrder(order)
+                    .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
+            checkDeletedPay(pay);
 
-        //Pay 생성 시간이 5분 이내인지 확인
-        checkPayWithinFiveMinutes(pay);
+            //Pay 생성 시간이 5분 이내인지 확인
+            checkPayWithinFiveMinutes(pay);
 
-        //100% 환불로 일단 구현
-        int cancelAmount = pay.getPayAmount();
+            //100% 환불로 일단 구현
+            int cancelAmount = pay.getPayAmount();
 
-        //카카오 페이 서버로 보낼 요청 생성 및 api 호출
-        Map<String, String> parameters = payUtil.getRefundParameters(pay, cancelAmount);
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(parameters, payUtil.getHeaders());
-        RestTemplate restTemplate = new RestTemplate();
-        PayCancelResponseDto cancelResponse = restTemplate.postForObject(PAY_URI + "/payment/cancel", requestEntity,
-                PayCancelResponseDto.class);
+            //카카오 페이 서버로 보낼 요청 생성
+            Map<String, String> parameters = payUtil.getRefundParameters(pay, cancelAmount);
+            return startAttempt(order.getId(), PaymentAttemptTypeEnum.REFUND, pay.getTid(), cancelAmount, parameters);
+        });
 
-        //주문 상태 업데이트
-        order.updateStatus(OrderStatusEnum.CANCEL);
+        //api 호출
+        PayCancelResponseDto cancelResponse = callGateway(prepared, kakaoPayClient::cancel);
 
-        //pay 업데이트
+        //주문 상태(CANCEL) / pay 업데이트
         assert cancelResponse != null;
-        pay.updateByRefund(PayStatusEnum.REFUND, cancelResponse.getCanceled_amount().getTotal(),
-                cancelResponse.getCanceled_at());
+        transactionTemplate.executeWithoutResult(status -> applyRefund(prepared.attemptId(),
+                cancelResponse.getCanceled_amount().getTotal(), cancelResponse.getCanceled_at()));
 
         return new PayRefundResponseDto("주문을 취소했습니다.");
     }
 
+    // 점포 주인 거절 -> 환불 요청을 아웃박스에 기록 (주문 상태 변경과 같은 트랜잭션, 게이트웨이 호출 없음)
     @Transactional
-    public void refundPaymentByReject(Order order) {
+    public void requestRefundByReject(Order order) {
         //주문 상태 체크
         checkOrderPendingStatus(order);
 
@@ -178,33 +200,98 @@ public class PayService {
         checkDeletedPay(pay);
 
         //100% 환불로 일단 구현
-        int cancelAmount = pay.getPayAmount();
+        refundOutboxRepository.save(RefundOutbox.of(order.getId(), pay.getTid(), pay.getPayAmount()));
+    }
 
-        //카카오 페이 서버로 보낼 요청 생성 및 api 호출
-        Map<String, String> parameters = payUtil.getRefundParameters(pay, cancelAmount);
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(parameters, payUtil.getHeaders());
-        RestTemplate restTemplate = new RestTemplate();
-        PayCancelResponseDto cancelResponse = restTemplate.postForObject(PAY_URI + "/payment/cancel", requestEntity,
-                PayCancelResponseDto.class);
+    // 거절된 주문 환불 (RefundOutboxService 워커, 트랜잭션 밖에서 호출)
+    // 같은 tid 재시도: 이미 환불됐으면 요청 없음, 이전 시도 결과를 모르면(PENDING) 정리 작업이 확정할 때까지 PAY_IN_PROGRESS
+    public void refundPaymentByReject(UUID orderId) {
+        PreparedCall prepared = transactionTemplate.execute(status -> {
+            //주문 유효성
+            Order order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+
+            //주문 상태 체크
+            if (!order.getStatus().equals(OrderStatusEnum.REJECTED)) {
+                throw new IllegalArgumentException(PayExceptionMessage.PAY_UNABLE.getMessage());
+            }
+
+            //pay 유효성
+            Pay pay = payRepository.findByOrder(order)
+                    .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
+            if (pay.getPayStatus().equals(PayStatusEnum.REFUND)) {
+                return null;
+            }
+
+            //100% 환불로 일단 구현
+            int cancelAmount = pay.getPayAmount();
+
+            //카카오 페이 서버로 보낼 요청 생성
+            Map<String, String> parameters = payUtil.getRefundParameters(pay, cancelAmount);
+            return startAttempt(order.getId(), PaymentAttemptTypeEnum.REJECT_REFUND, pay.getTid(), cancelAmount,
+                    parameters);
+        });
+        if (prepared == null) {
+            return;
+        }
 
-        //주문 상태 업데이트
-        order.updateStatus(OrderStatusEnum.CANCEL);
+        //api 호출
+        PayCancelResponseDto cancelResponse = callGateway(prepared, kakaoPayClient::cancel);
 
         //pay 업데이트
         assert cancelResponse != null;
-        pay.updateByRefund(PayStatusEnum.REFUND, cancelResponse.getCanceled_amount().getTotal(),
-                cancelResponse.getCanceled_at());
+        transactionTemplate.executeWithoutResult(status -> applyRefund(prepared.attemptId(),
+                cancelResponse.getCanceled_amount().getTotal(), cancelResponse.getCanceled_at()));
     }
 
+    // 응답을 반영하지 못한 시도(PENDING)를 게이트웨이 결제 상태 조회로 확정 (PaymentReconciliationService)
+    public void reconcile(UUID attemptId) {
+        PaymentAttempt attempt = paymentAttemptRepository.findById(attemptId).orElse(null);
+        if (attempt == null || !attempt.isPending()) {
+            return;
+        }
+
+        //결제 준비는 금액 이동이 없음 -> 실패 처리 후 사용자가 다시 준비
+        if (attempt.getType().equals(PaymentAttemptTypeEnum.READY)) {
+            failAttempt(attemptId, "응답 없음");
+            return;
+        }
+
+        PayOrderResponseDto orderResponse = kakaoPayClient.order(payUtil.getOrderParameters(attempt.getTid()));
+        assert orderResponse != null;
+        String gatewayStatus = orderResponse.getStatus();
+
+        if (attempt.getType().equals(PaymentAttemptTypeEnum.APPROVE)) {
+            if (GATEWAY_APPROVED.equals(gatewayStatus)) {
+                transactionTemplate.executeWithoutResult(
+                        status -> applyApprove(attemptId, order -> Pay.of(order, orderResponse)));
+            } else {
+                failAttempt(attemptId, gatewayStatus);
+            }
+            return;
+        }
+
+        if (GATEWAY_CANCELED.contains(gatewayStatus)) {
+            transactionTemplate.executeWithoutResult(status -> applyRefund(attemptId,
+                    orderResponse.getCanceled_amount().getTotal(), orderResponse.getCanceled_at()));
+        } else {
+            failAttempt(attemptId, gatewayStatus);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public PayGetDetailResponseDto getPayDetail(String username, UUID payId) {
         //유저 유효성
         User user = userRepository.findById(username)
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
         checkDeletedUser(user);
 
-        //PAY 유효성
-        Pay pay = payRepository.findById(payId)
-                .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
+        //PAY 유효성 (보관 기간이 지난 결제는 아카이브에서 조회)
+        Pay pay = payRepository.findById(payId).orElse(null);
+        if (pay == null) {
+            return archivedOrderService.findPayDetail(user, payId)
+                    .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
+        }
         checkDeletedPay(pay);
 
         //Order와 유저 유효성
@@ -219,6 +306,29 @@ public class PayService {
         return PayGetDetailResponseDto.ofPayAndOrderProducts(pay, orderProducts);
     }
 
+    @Transactional(readOnly = true)
+    public RefundStatusResponseDto getRefundStatus(String username, UUID orderId) {
+        //유저 유효성
+        User user = userRepository.findById(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //주문 유효성 (보관 기간이 지난 주문은 아카이브에서 조회)
+        Optional<Order> order = orderRepository.findById(orderId);
+        if (order.isPresent()) {
+            checkRefundViewer(user, order.get().getUser(), order.get().getStore());
+        } else {
+            ArchivedOrder archivedOrder = archivedOrderService.findOrder(orderId)
+                    .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
+            checkRefundViewer(user, archivedOrder.getUser(), archivedOrder.getStore());
+        }
+
+        RefundOutbox refundOutbox = refundOutboxRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new NullPointerException(PayExceptionMessage.REFUND_NOT_FOUND.getMessage()));
+        return RefundStatusResponseDto.fromRefundOutbox(refundOutbox);
+    }
+
+    @Transactional(readOnly = true)
     public Page<PayGetResponseDto> getPays(String username, int page, int size, String sortBy, boolean isAsc) {
         //유저 유효성
         User user = userRepository.findById(username)
@@ -234,17 +344,80 @@ public class PayService {
         Pageable pageable = PageRequest.of(page, size, sort);
 
         //유저 권한별 반환
-        Page<Pay> pays;
         UserRoleEnum role = user.getRole();
         if (role.equals(UserRoleEnum.CUSTOMER)) {
-            pays = payRepository.findAllByUser(user, pageable);
+            return payRepository.findResponsesByUser(user, pageable);
+        }
+        // 관리자용: 보관 기간 이내
+        return payRepository.findResponsesSince(orderArchiveService.getHotWindowStart(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponseDto<PayGetResponseDto> getPaysSlice(String username, int page, int size, String sortBy, boolean isAsc) {
+        //유저 유효성
+        User user = userRepository.findById(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //페이징 (count 쿼리 없음)
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        //유저 권한별 반환
+        if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
+            return SliceResponseDto.from(payRepository.findResponseSliceByUser(user, pageable));
+        }
+        // 관리자용: 보관 기간 이내 + 통계 기반 추정 건수
+        return SliceResponseDto.from(payRepository.findResponseSliceSince(orderArchiveService.getHotWindowStart(), pageable),
+                rowCountEstimateCache.get(PAY_TABLE));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponseDto<PayGetResponseDto> getPaysByCursor(String username, String cursor, int size, boolean isAsc) {
+        //유저 유효성
+        User user = userRepository.findById(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //커서 페이징 (count 쿼리 없음)
+        size = CursorUtil.normalizeSize(size);
+        CursorUtil.Cursor position = CursorUtil.decode(cursor, isAsc);
+        Pageable pageable = PageRequest.ofSize(size + 1);
+
+        //유저 권한별 반환
+        List<Pay> pays;
+        if (user.getRole().equals(UserRoleEnum.CUSTOMER)) {
+            pays = isAsc
+                    ? payRepository.findAllByUserAndCursorAsc(user, position.getCreatedDate(), position.getId(), pageable)
+                    : payRepository.findAllByUserAndCursorDesc(user, position.getCreatedDate(), position.getId(), pageable);
         } else {
-            pays = payRepository.findAll(pageable);
+            // 관리자용: 보관 기간 이내
+            LocalDateTime since = orderArchiveService.getHotWindowStart();
+            pays = isAsc
+                    ? payRepository.findAllByCursorAsc(since, position.getCreatedDate(), position.getId(), pageable)
+                    : payRepository.findAllByCursorDesc(since, position.getCreatedDate(), position.getId(), pageable);
         }
 
-        return pays.map(PayGetResponseDto::fromPay);
+        return CursorResponseDto.of(pays, size, Pay::getCreatedDate, Pay::getId, PayGetResponseDto::fromPay);
     }
 
+    @Transactional(readOnly = true)
+    public CursorResponseDto<PayGetResponseDto> getArchivedPaysByCursor(String username, String cursor, int size,
+                                                                      boolean isAsc) {
+        //유저 유효성
+        User user = userRepository.findById(username)
+                .orElseThrow(() -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+        checkDeletedUser(user);
+
+        //보관 기간이 지난 본인 결제
+        return archivedOrderService.getPaysByCursor(user, cursor, size, isAsc);
+    }
+
+    @Transactional(readOnly = true)
     public Page<PayGetResponseDto> searchPaymentsByStoreName(String storeName, int page, int size, String sortBy, boolean isAsc) {
         // 정렬 및 페이징 정보 생성
         if (size != 10 && size != 30 && size != 50) {
@@ -254,11 +427,98 @@ public class PayService {
         Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        // storeName으로 Pay 검색
-        Page<Pay> payments = payRepository.findByStoreNameContaining(storeName, pageable);
+        // storeName으로 Pay 검색 (보관 기간 이내)
+        return payRepository.findResponsesByStoreNameContaining(storeName, orderArchiveService.getHotWindowStart(), pageable);
+    }
 
-        // Pay 데이터를 DTO로 변환하여 반환
-        return payments.map(PayGetResponseDto::fromPay);
+    @Transactional(readOnly = true)
+    public SliceResponseDto<PayGetResponseDto> searchPaymentsByStoreNameSlice(String storeName, int page, int size, String sortBy,
+                                                                              boolean isAsc) {
+        // 정렬 및 페이징 정보 생성 (count 쿼리 없음)
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        // storeName으로 Pay 검색 (보관 기간 이내)
+        return SliceResponseDto.from(
+                payRepository.findResponseSliceByStoreNameContaining(storeName, orderArchiveService.getHotWindowStart(), pageable));
+    }
+
+    // 주문당 진행 중인 시도는 하나 (uk_payment_attempt_pending_order)
+    private PreparedCall startAttempt(UUID orderId, PaymentAttemptTypeEnum type, String tid, Integer amount,
+                                      Map<String, String> parameters) {
+        if (paymentAttemptRepository.existsByOrderIdAndStatus(orderId, PaymentAttemptStatusEnum.PENDING)) {
+            throw new IllegalArgumentException(PayExceptionMessage.PAY_IN_PROGRESS.getMessage());
+        }
+        PaymentAttempt attempt = paymentAttemptRepository.save(PaymentAttempt.of(orderId, type, tid, amount));
+        return new PreparedCall(attempt.getId(), type, parameters);
+    }
+
+    private <T> T callGateway(PreparedCall prepared, Function<Map<String, String>, T> call) {
+        try {
+            return call.apply(prepared.parameters());
+        } catch (RestClientResponseException e) {
+            //게이트웨이가 거절 -> 결과 확정
+            failAttempt(prepared.attemptId(), e.getStatusCode().toString());
+            throw e;
+        } catch (RuntimeException e) {
+            //타임아웃 등 결과를 알 수 없음 -> 승인 / 환불은 PENDING 유지, 정리 작업이 상태 조회로 확정
+            log.warn("결제 호출 결과 확인 불가 (attempt: {}, type: {})", prepared.attemptId(), prepared.type(), e);
+            if (prepared.type().equals(PaymentAttemptTypeEnum.READY)) {
+                failAttempt(prepared.attemptId(), "응답 없음");
+            }
+            throw e;
+        }
+    }
+
+    // 결과 반영: 시도를 잠그고 아직 PENDING 일 때만 (요청 스레드와 정리 작업 중 한 번만 반영)
+    private void applyReady(UUID attemptId, String tid) {
+        paymentAttemptRepository.findByIdForUpdate(attemptId)
+                .filter(PaymentAttempt::isPending)
+                .ifPresent(attempt -> {
+                    findAttemptOrder(attempt).updateTid(tid);
+                    attempt.succeed(tid);
+                });
+    }
+
+    private void applyApprove(UUID attemptId, Function<Order, Pay> payFactory) {
+        paymentAttemptRepository.findByIdForUpdate(attemptId)
+                .filter(PaymentAttempt::isPending)
+                .ifPresent(attempt -> {
+                    Order order = findAttemptOrder(attempt);
+                    if (payRepository.findByOrder(order).isEmpty()) {
+                        payRepository.save(payFactory.apply(order));
+                    }
+                    order.updateStatus(attempt.getType().getOrderStatus());
+                    attempt.succeed(attempt.getTid());
+                });
+    }
+
+    private void applyRefund(UUID attemptId, int canceledTotal, String canceledAt) {
+        paymentAttemptRepository.findByIdForUpdate(attemptId)
+                .filter(PaymentAttempt::isPending)
+                .ifPresent(attempt -> {
+                    Order order = findAttemptOrder(attempt);
+                    Pay pay = payRepository.findByOrder(order)
+                            .orElseThrow(() -> new NullPointerException(PayExceptionMessage.PAY_NOT_FOUND.getMessage()));
+                    order.updateStatus(attempt.getType().getOrderStatus());
+                    pay.updateByRefund(PayStatusEnum.REFUND, canceledTotal, canceledAt);
+                    attempt.succeed(attempt.getTid());
+                });
+    }
+
+    private void failAttempt(UUID attemptId, String failReason) {
+        transactionTemplate.executeWithoutResult(status -> paymentAttemptRepository.findByIdForUpdate(attemptId)
+                .filter(PaymentAttempt::isPending)
+                .ifPresent(attempt -> attempt.fail(failReason)));
+    }
+
+    private Order findAttemptOrder(PaymentAttempt attempt) {
+        return orderRepository.findById(attempt.getOrderId())
+                .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
     }
 
     private void checkOrderUser(Order order, User user) {
@@ -269,6 +529,17 @@ public class PayService {
         }
     }
 
+    //주문 유저 / 점포 주인만 조회 (관리자는 전체)
+    private void checkRefundViewer(User user, User orderUser, Store store) {
+        UserRoleEnum role = user.getRole();
+        if (role.equals(UserRoleEnum.CUSTOMER) && !orderUser.getUsername().equals(user.getUsername())) {
+            throw new IllegalArgumentException(OrderExceptionMessage.ORDER_USER_NOT_EQUALS.getMessage());
+        }
+        if (role.equals(UserRoleEnum.OWNER) && !store.getUser().getUsername().equals(user.getUsername())) {
+            throw new IllegalArgumentException(OrderExceptionMessage.ORDER_USER_NOT_EQUALS.getMessage());
+        }
+    }
+
     private void checkOrderStatus(Order order) {
         if (!order.getStatus().equals(OrderStatusEnum.CREATE)) {
             throw new IllegalArgumentException(OrderExceptionMessage.ORDER_UNABLE_PAY_STATUS.getMessage());
@@ -318,4 +589,8 @@ public class PayService {
             throw new IllegalArgumentException(PayExceptionMessage.PAY_REFUND_TIME_EXCEEDED.getMessage());
         }
     }
+
+    // 1) 트랜잭션에서 만든 시도 ID / 게이트웨이 파라미터 -> 2) 트랜잭션 밖 호출에 사용
+    private record PreparedCall(UUID attemptId, PaymentAttemptTypeEnum type, Map<String, String> parameters) {
+    }
 }
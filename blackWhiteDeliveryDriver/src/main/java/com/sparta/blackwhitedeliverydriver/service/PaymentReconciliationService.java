@@ -0,0 +1,66 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttemptStatusEnum;
+import com.sparta.blackwhitedeliverydriver.repository.PaymentAttemptRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 결제 시도 정리: 응답 반영 전에 서버가 죽었거나 타임아웃으로 결과를 모르는 PENDING 시도
+// -> 게이트웨이 결제 상태 조회 후 승인 / 환불 반영 또는 실패 처리 (PayService.reconcile)
+// stale-seconds 는 게이트웨이 응답 타임아웃보다 충분히 길게 (요청 스레드가 아직 처리 중인 시도는 건드리지 않음)
+// 스케줄러 풀(spring.task.scheduling.pool.size)에서 자기 스레드로 실행, 한 주기는 max-pass-seconds 까지만
+@Slf4j(topic = "PaymentReconciliationService")
+@Service
+public class PaymentReconciliationService {
+    private final PaymentAttemptRepository paymentAttemptRepository;
+    private final PayService payService;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final Duration maxPass;
+
+    public PaymentReconciliationService(PaymentAttemptRepository paymentAttemptRepository, PayService payService,
+                                        @Value("${pay.reconcile.stale-seconds:60}") long staleSeconds,
+                                        @Value("${pay.reconcile.batch-size:100}") int batchSize,
+                                        @Value("${pay.reconcile.max-pass-seconds:30}") long maxPassSeconds) {
+        this.paymentAttemptRepository = paymentAttemptRepository;
+        this.payService = payService;
+        this.staleAfter = Duration.ofSeconds(staleSeconds);
+        this.batchSize = batchSize;
+        this.maxPass = Duration.ofSeconds(maxPassSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${pay.reconcile.interval-ms:60000}")
+    public void reconcile() {
+        long deadline = System.nanoTime() + maxPass.toNanos();
+        LocalDateTime before = LocalDateTime.now().minus(staleAfter);
+        List<UUID> attemptIds = paymentAttemptRepository.findIdsByStatusAndCreatedDateBefore(
+                PaymentAttemptStatusEnum.PENDING, before, PageRequest.ofSize(batchSize));
+
+        int reconciled = 0;
+        for (UUID attemptId : attemptIds) {
+            // 시간 초과 -> 남은 시도는 PENDING 그대로, 다음 주기에 오래된 순으로 다시 조회
+            if (System.nanoTime() - deadline >= 0) {
+                log.warn("결제 시도 정리 시간 초과 (processed: {}, remaining: {})", reconciled,
+                        attemptIds.size() - reconciled);
+                break;
+            }
+            reconciled++;
+            try {
+                payService.reconcile(attemptId);
+            } catch (RuntimeException e) {
+                // 게이트웨이 조회 실패 -> PENDING 유지, 다음 주기에 다시 시도
+                log.warn("결제 시도 정리 실패 (attempt: {})", attemptId, e);
+            }
+        }
+        if (reconciled > 0) {
+            log.info("결제 시도 정리 (attempts: {})", reconciled);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.dto.ProductSearchResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.util.SearchKeywordUtil;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 전체 점포 대상 음식 검색 (p_product.search_text 트라이그램 인덱스 + 음식명 접두어 인덱스)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductSearchService {
+    private static final int AUTOCOMPLETE_SIZE = 10;
+    private static final int AUTOCOMPLETE_CANDIDATE_LIMIT = 500;
+
+    private final ProductRepository productRepository;
+    private final StoreRepository storeRepository;
+
+    public List<ProductSearchResponseDto> search(String keyword, int page, int size) {
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+        String normalized = SearchKeywordUtil.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<Product> productList = productRepository.searchByRelevance(
+                normalized, SearchKeywordUtil.escapeLike(normalized), size, (long) page * size);
+
+        // 검색 결과의 점포는 한 번에 조회
+        List<UUID> storeIds = productList.stream().map(product -> product.getStore().getStoreId()).distinct().toList();
+        Map<UUID, Store> storeMap = new HashMap<>();
+        storeRepository.findAllById(storeIds).forEach(store -> storeMap.put(store.getStoreId(), store));
+
+        return productList.stream()
+                .map(product -> ProductSearchResponseDto.from(product, storeMap.get(product.getStore().getStoreId())))
+                .toList();
+    }
+
+    public List<String> autocomplete(String keyword) {
+        String normalized = SearchKeywordUtil.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findNamesByPrefix(
+                SearchKeywordUtil.escapeLike(normalized), AUTOCOMPLETE_CANDIDATE_LIMIT, AUTOCOMPLETE_SIZE);
+    }
+}
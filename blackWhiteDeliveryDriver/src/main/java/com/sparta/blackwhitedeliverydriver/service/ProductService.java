@@ -1,7 +1,12 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.MenuCache;
+import com.sparta.blackwhitedeliverydriver.config.SoftDeleteFilter;
 import com.sparta.blackwhitedeliverydriver.dto.CreateProductRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductIdResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportErrorDto;
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportRowDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ProductResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Product;
@@ -15,13 +20,18 @@ import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -33,24 +43,44 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class ProductService {
+    public static final int MAX_IMPORT_ROWS = 1000;
+    private static final int IMPORT_BATCH_SIZE = 100;
 
     private final StoreRepository storeRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final MenuCache menuCache;
+    private final EntityManager entityManager;
+    private final SoftDeleteFilter softDeleteFilter;
 
     public Page<ProductResponseDto> getProducts(UUID storeId, int page, int size, String sortBy, boolean isAsc) {
+        if(!MenuCache.isSortable(sortBy)) {
+            throw new IllegalArgumentException(ProductExceptionMessage.INVALID_SORT_BY.getMessage());
+        }
         Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
         Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Store store = storeRepository.findById(storeId).orElseThrow(
-                () -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage())
-        );
-        Page<Product> productList = productRepository.findAllByStoreAndDeletedDateIsNullAndDeletedByIsNull(store, pageable);
+        // 캐시에 없을 때만 조회 (점포 확인 + 메뉴 전체)
+        List<ProductResponseDto> sortedProducts = menuCache.get(storeId, () -> {
+            if(!storeRepository.existsById(storeId)) {
+                throw new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage());
+            }
+            return productRepository.findAllByStoreStoreIdAndIsPublicTrue(storeId);
+        }).sortedBy(sortBy);
 
-        Page<ProductResponseDto> productResponseDtoPage = productList.map(ProductResponseDto::from);
+        int total = sortedProducts.size();
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(from + size, total);
+        List<ProductResponseDto> content;
+        if(isAsc) {
+            content = sortedProducts.subList(from, to);
+        } else {
+            content = new ArrayList<>(sortedProducts.subList(total - to, total - from));
+            Collections.reverse(content);
+        }
 
-        return productResponseDtoPage;
+        return new PageImpl<>(content, pageable, total);
     }
 
     @Transactional
@@ -75,17 +105,93 @@ public class ProductService {
         );
 
         // 같은 가게 동일 음식 확인
-        Optional<Product> product = productRepository.findByNameAndStoreStoreId(requestDto.getProductName(), store.getStoreId());
+        Optional<Product> product = softDeleteFilter.includeDeleted(
+                () -> productRepository.findByNameAndStoreStoreId(requestDto.getProductName(), store.getStoreId()));
         if(product.isPresent()){
             throw new IllegalArgumentException(ProductExceptionMessage.DUPLICATED_STORE_NAME.getMessage());
         }
         Product newProduct = Product.from(requestDto, store);
         productRepository.save(newProduct);
+        menuCache.evictAfterCommit(store.getStoreId());
 
         ProductIdResponseDto productIdResponseDto = new ProductIdResponseDto(newProduct.getProductId());
         return productIdResponseDto;
     }
 
+    // 권한 확인, 점포 조회, 중복 검사 기준(이름 목록) 로딩은 1번만 -> 행 단위로는 메모리 검증 후 JDBC 배치 INSERT
+    @Transactional
+    public ProductImportResponseDto importProducts(UUID storeId, List<ProductImportRowDto> rows, UserDetails userDetails) {
+        if(rows.size() > MAX_IMPORT_ROWS) {
+            throw new IllegalArgumentException(ProductExceptionMessage.IMPORT_ROW_LIMIT_EXCEEDED.getMessage());
+        }
+        User curUser = userRepository.findById(userDetails.getUsername()).orElseThrow(
+                () -> new NullPointerException(ExceptionMessage.USER_NOT_FOUND.getMessage())
+        );
+        Store store = storeRepository.findById(storeId).orElseThrow(
+                () -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage())
+        );
+        // 가게 주인만 자신의 가게에 등록
+        if(!curUser.getRole().equals(UserRoleEnum.OWNER) || !store.getUser().getUsername().equals(curUser.getUsername())) {
+            throw new IllegalArgumentException(StoreExceptionMessage.FORBIDDEN_ACCESS.getMessage());
+        }
+
+        Set<String> productNames = new HashSet<>(softDeleteFilter.includeDeleted(() -> productRepository.findAllNamesByStoreId(storeId)));
+        List<ProductImportErrorDto> errors = new ArrayList<>();
+        List<Product> chunk = new ArrayList<>(IMPORT_BATCH_SIZE);
+        int importedCnt = 0;
+        for(int i = 0; i < rows.size(); i++) {
+            ProductImportRowDto row = rows.get(i);
+            String error = validateImportRow(row, productNames);
+            if(error != null) {
+                errors.add(new ProductImportErrorDto(i + 1, row == null ? null : row.getProductName(), error));
+                continue;
+            }
+            productNames.add(row.getProductName());
+            chunk.add(Product.from(row, store));
+            if(chunk.size() == IMPORT_BATCH_SIZE) {
+                importedCnt += saveImportChunk(chunk);
+            }
+        }
+        importedCnt += saveImportChunk(chunk);
+        menuCache.evictAfterCommit(storeId);
+
+        return ProductImportResponseDto.builder()
+                .storeId(storeId)
+                .totalCnt(rows.size())
+                .importedCnt(importedCnt)
+                .errors(errors)
+                .build();
+    }
+
+    private String validateImportRow(ProductImportRowDto row, Set<String> productNames) {
+        if(row == null || isBlank(row.getProductName()) || isBlank(row.getImgUrl()) || isBlank(row.getProductIntro())) {
+            return ProductExceptionMessage.REQUIRED_FIELD_MISSING.getMessage();
+        }
+        if(row.getPrice() == null || row.getPrice() < 0) {
+            return ProductExceptionMessage.INVALID_PRICE.getMessage();
+        }
+        // 기존 음식 + 파일 내 앞선 행과 중복
+        if(productNames.contains(row.getProductName())) {
+            return ProductExceptionMessage.DUPLICATED_STORE_NAME.getMessage();
+        }
+        return null;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // hibernate.jdbc.batch_size 단위로 flush 후 영속성 컨텍스트를 비워 메모리 사용을 일정하게 유지
+    private int saveImportChunk(List<Product> chunk) {
+        if(chunk.isEmpty()) { return 0; }
+        productRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        int savedCnt = chunk.size();
+        chunk.clear();
+        return savedCnt;
+    }
+
     @Transactional
     public ProductIdResponseDto updateProduct(UUID productId, ProductRequestDto requestDto, UserDetailsImpl userDetails) {
         // OWNER의 가게인지 확인 -> 본인 가게만 수정
@@ -99,6 +205,7 @@ public class ProductService {
                 () -> new NullPointerException(ProductExceptionMessage.PRODUCT_NOT_FOUND.getMessage())
         );
         product.update(requestDto, userDetails);
+        menuCache.evictAfterCommit(storeId);
         ProductIdResponseDto productIdResponseDto = new ProductIdResponseDto(product.getProductId());
 
         return productIdResponseDto;
@@ -154,8 +261,8 @@ public class ProductService {
                 () -> new NullPointerException(ProductExceptionMessage.PRODUCT_NOT_FOUND.getMessage())
         );
 
-        product.setDeletedDate(LocalDateTime.now());
-        product.setDeletedBy(userDetails.getUsername());
+        productRepository.softDeleteAllByIdIn(List.of(productId), userDetails.getUsername(), LocalDateTime.now());
+        menuCache.evictAfterCommit(product.getStore().getStoreId());
 
         ProductIdResponseDto productIdResponseDto = new ProductIdResponseDto(productId);
 
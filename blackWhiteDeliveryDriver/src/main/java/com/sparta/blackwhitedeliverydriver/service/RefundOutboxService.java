@@ -0,0 +1,151 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.entity.RefundOutbox;
+import com.sparta.blackwhitedeliverydriver.repository.RefundOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 환불 아웃박스 처리: 워커마다 작은 배치를 점유(SKIP LOCKED) -> 차례로 게이트웨이 환불 (PayService.refundPaymentByReject)
+// 실패 시 지수 백오프로 다시 시도, max-attempts 초과 시 FAILED (상태 조회 API 로 확인)
+// 스케줄러는 쉬는 워커를 깨우기만 하고 기다리지 않음, 점유한 배치가 가득 차면 워커가 쉬는 워커를 하나 더 깨움
+// 점유 시간 = 배치 크기 x 환불 1건 시간(lease-seconds, 게이트웨이 connect + pool + read 타임아웃보다 길게)
+@Slf4j(topic = "RefundOutboxService")
+@Service
+public class RefundOutboxService implements DisposableBean {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final RefundOutboxRepository refundOutboxRepository;
+    private final PayService payService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final Semaphore idleWorkers;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+
+    public RefundOutboxService(RefundOutboxRepository refundOutboxRepository, PayService payService,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${refund.outbox.worker-threads:4}") int workerThreads,
+                               @Value("${refund.outbox.batch-size:5}") int batchSize,
+                               @Value("${refund.outbox.lease-seconds:15}") long leaseSeconds,
+                               @Value("${refund.outbox.max-attempts:8}") int maxAttempts,
+                               @Value("${refund.outbox.backoff-base-seconds:5}") long backoffBaseSeconds,
+                               @Value("${refund.outbox.backoff-max-seconds:600}") long backoffMaxSeconds) {
+        this.refundOutboxRepository = refundOutboxRepository;
+        this.payService = payService;
+        this.transactionTemplate = transactionTemplate;
+        this.workers = Executors.newFixedThreadPool(workerThreads);
+        this.idleWorkers = new Semaphore(workerThreads);
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds).multipliedBy(batchSize);
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofSeconds(backoffBaseSeconds);
+        this.backoffMax = Duration.ofSeconds(backoffMaxSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${refund.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        startWorker();
+    }
+
+    // 쉬는 워커가 없으면 (모두 처리 중) 그대로 반환
+    private void startWorker() {
+        if (!idleWorkers.tryAcquire()) {
+            return;
+        }
+        try {
+            workers.execute(this::work);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            idleWorkers.release();
+        }
+    }
+
+    private void work() {
+        try {
+            List<UUID> claimed;
+            do {
+                LocalDateTime now = LocalDateTime.now();
+                claimed = transactionTemplate.execute(
+                        status -> refundOutboxRepository.claimDue(now, now.plus(lease), batchSize));
+                if (claimed == null || claimed.isEmpty()) {
+                    return;
+                }
+                // 더 남아 있을 수 있음 -> 쉬는 워커를 하나 더 깨워 나눠 처리
+                if (claimed.size() == batchSize) {
+                    startWorker();
+                }
+                claimed.forEach(this::process);
+            } while (claimed.size() == batchSize);
+        } catch (RuntimeException e) {
+            // 점유 실패 (DB 오류 등) -> 다음 주기에 다시 시도, 점유한 요청은 점유 만료 후 다시 가져감
+            log.warn("환불 아웃박스 점유 실패", e);
+        } finally {
+            idleWorkers.release();
+        }
+    }
+
+    private void process(UUID outboxId) {
+        RefundOutbox outbox = refundOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || !outbox.isProcessing()) {
+            return;
+        }
+
+        try {
+            // 트랜잭션 밖에서 게이트웨이 호출, 같은 tid 는 이미 환불됐으면 요청하지 않음
+            payService.refundPaymentByReject(outbox.getOrderId());
+            transactionTemplate.executeWithoutResult(status -> refundOutboxRepository.findById(outboxId)
+                    .filter(RefundOutbox::isProcessing)
+                    .ifPresent(RefundOutbox::succeed));
+        } catch (RuntimeException e) {
+            log.warn("환불 처리 실패 (order: {}, attempt: {})", outbox.getOrderId(), outbox.getAttemptCount() + 1, e);
+            String lastError = abbreviate(e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> refundOutboxRepository.findById(outboxId)
+                    .filter(RefundOutbox::isProcessing)
+                    .ifPresent(processing -> retryOrFail(processing, lastError)));
+        }
+    }
+
+    private void retryOrFail(RefundOutbox outbox, String lastError) {
+        int attemptCount = outbox.getAttemptCount() + 1;
+        if (attemptCount >= maxAttempts) {
+            log.error("환불 재시도 초과 (order: {}, tid: {})", outbox.getOrderId(), outbox.getTid());
+            outbox.fail(lastError);
+            return;
+        }
+        // 5s, 10s, 20s ... backoff-max 까지
+        Duration backoff = backoffBase.multipliedBy(1L << Math.min(attemptCount - 1, 20));
+        if (backoff.compareTo(backoffMax) > 0) {
+            backoff = backoffMax;
+        }
+        outbox.retry(lastError, LocalDateTime.now().plus(backoff));
+    }
+
+    private String abbreviate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
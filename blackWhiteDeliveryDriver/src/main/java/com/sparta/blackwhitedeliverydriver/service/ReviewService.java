@@ -1,23 +1,24 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.ReviewResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.Review;
-import com.sparta.blackwhitedeliverydriver.entity.Store;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.ReviewExceptionMessage;
-import com.sparta.blackwhitedeliverydriver.exception.StoreExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
 import com.sparta.blackwhitedeliverydriver.repository.ReviewRepository;
-import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,24 +38,20 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final OrderRepository orderRepository;
-    private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final StoreRatingService storeRatingService;
 
     @Transactional
     public ReviewIdResponseDto createReview(ReviewRequestDto requestDto, UUID orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new NullPointerException(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage()));
 
-        Store store = storeRepository.findById(order.getStore().getStoreId())
-                .orElseThrow(() -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage()));
-
-        // 리뷰 총점 업데이트 및 리뷰수 +1
-        store.updateRating(requestDto.getRating());
-        storeRepository.save(store);
-
         Review review = Review.from(requestDto, order);
         reviewRepository.save(review);
 
+        // 리뷰 총점, 리뷰수 +1, 평점 분포 업데이트
+        storeRatingService.addRating(order.getStore().getStoreId(), requestDto.getRating());
+
         return new ReviewIdResponseDto(review.getId());
     }
 
@@ -68,9 +65,35 @@ public class ReviewService {
         Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Review> reviewPage = reviewRepository.findAllByOrderStoreStoreIdAndDeletedByIsNullAndDeletedDateIsNull(storeId, pageable);
+        return reviewRepository.findResponsesByStoreId(storeId, pageable);
+    }
+
+    public SliceResponseDto<ReviewResponseDto> getAllReviewsByStoreIdSlice(UUID storeId, int page, int size, String sortBy,
+                                                                           boolean isAsc) {
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+
+        // 페이징 처리 (count 쿼리 없음)
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        return SliceResponseDto.from(reviewRepository.findResponseSliceByStoreId(storeId, pageable));
+    }
+
+    public CursorResponseDto<ReviewResponseDto> getAllReviewsByStoreIdAndCursor(UUID storeId, String cursor, int size, boolean isAsc) {
+        size = CursorUtil.normalizeSize(size);
+
+        // 커서 페이징 (count 쿼리 없음)
+        CursorUtil.Cursor position = CursorUtil.decode(cursor, isAsc);
+        Pageable pageable = PageRequest.ofSize(size + 1);
 
-        return reviewPage.map(ReviewResponseDto::from);
+        List<Review> reviews = isAsc
+                ? reviewRepository.findAllByStoreIdAndCursorAsc(storeId, position.getCreatedDate(), position.getId(), pageable)
+                : reviewRepository.findAllByStoreIdAndCursorDesc(storeId, position.getCreatedDate(), position.getId(), pageable);
+
+        return CursorResponseDto.of(reviews, size, Review::getCreatedDate, Review::getId, ReviewResponseDto::from);
     }
 
     public Page<ReviewResponseDto> getAllReviewsByUsername(String username, int page, int size, String sortBy, boolean isAsc) {
@@ -83,9 +106,21 @@ public class ReviewService {
         Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Review> reviewPage = reviewRepository.findAllByOrderUserUsernameAndDeletedByIsNullAndDeletedDateIsNull(username, pageable);
+        return reviewRepository.findResponsesByUsername(username, pageable);
+    }
+
+    public SliceResponseDto<ReviewResponseDto> getAllReviewsByUsernameSlice(String username, int page, int size, String sortBy,
+                                                                            boolean isAsc) {
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+
+        // 페이징 처리 (count 쿼리 없음)
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
 
-        return reviewPage.map(ReviewResponseDto::from);
+        return SliceResponseDto.from(reviewRepository.findResponseSliceByUsername(username, pageable));
     }
 
 
@@ -106,17 +141,13 @@ public class ReviewService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new NullPointerException(ReviewExceptionMessage.REVIEW_NOT_FOUND.getMessage()));
 
-        Store store = storeRepository.findById(review.getOrder().getStore().getStoreId())
-                .orElseThrow(() -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage()));
-
         checkDeletedReview(review);
         if (user.getRole() == UserRoleEnum.CUSTOMER) {
             checkCreatedBy(review, user.getUsername());
         }
 
         //평점 업데이트, 기존 값은 빼고 업데이트 한 값을 더한다.
-        store.updateRating(review.getRating(), requestDto.getRating());
-        storeRepository.save(store);
+        storeRatingService.changeRating(review.getOrder().getStore().getStoreId(), review.getRating(), requestDto.getRating());
 
         review.update(requestDto.getContents(), requestDto.getRating());
         reviewRepository.save(review);
@@ -142,9 +173,13 @@ public class ReviewService {
 
         reviewRepository.save(review);
 
+        // 삭제된 리뷰의 평점은 집계에서 제외
+        storeRatingService.removeRating(review.getOrder().getStore().getStoreId(), review.getRating());
+
         return new ReviewIdResponseDto(review.getId());
     }
 
+    // findById 조회 결과는 삭제 필터 대상이 아님
     private void checkDeletedReview(Review review) {
         if (review.getDeletedBy() != null || review.getDeletedDate() != null) {
             throw new IllegalArgumentException(ReviewExceptionMessage.REVIEW_DELETED.getMessage());
@@ -0,0 +1,113 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.cache.CategoryDictionary;
+import com.sparta.blackwhitedeliverydriver.config.SoftDeleteFilter;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCard;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
+import com.sparta.blackwhitedeliverydriver.exception.CategoryExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCardRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j(topic = "StoreCardService")
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreCardService {
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final StoreCardRepository storeCardRepository;
+    private final StoreRepository storeRepository;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final SoftDeleteFilter softDeleteFilter;
+
+    // 점포 + 카테고리 전체 갱신 (등록, 수정)
+    @Transactional
+    public void save(Store store) {
+        String categoryNames = getCategoryNames(List.of(store.getStoreId())).getOrDefault(store.getStoreId(), "");
+        storeCardRepository.findById(store.getStoreId()).ifPresentOrElse(
+                storeCard -> {
+                    storeCard.update(store);
+                    storeCard.updateCategory(categoryNames);
+                },
+                () -> storeCardRepository.save(StoreCard.from(store, categoryNames))
+        );
+    }
+
+    // 점포 필드만 갱신 (삭제, 공개 전환) -> 평점 컬럼은 평점 합산 쿼리가 갱신
+    @Transactional
+    public void refresh(Store store) {
+        storeCardRepository.findById(store.getStoreId()).ifPresentOrElse(
+                storeCard -> storeCard.update(store),
+                () -> save(store)
+        );
+    }
+
+    public Map<UUID, String> getCategoryNames(List<UUID> storeIds) {
+        if(storeIds.isEmpty()) { return new HashMap<>(); }
+
+        Map<UUID, List<String>> categoryNameMap = new HashMap<>();
+        for(StoreCategory storeCategory : storeCategoryRepository.findAllByStoreIds(storeIds)) {
+            String categoryName = categoryDictionary.findNameById(storeCategory.getCategory().getCategoryId()).orElseThrow(
+                    () -> new NullPointerException(CategoryExceptionMessage.CATEGORY_ID_NOT_FOUND.getMessage()));
+            categoryNameMap.computeIfAbsent(storeCategory.getStore().getStoreId(), key -> new ArrayList<>())
+                    .add(categoryName);
+        }
+
+        // 이름순 (카테고리 변경 시 StoreCardRepository.refreshCategories 가 만드는 문자열과 같은 순서)
+        Map<UUID, String> categoryNames = new HashMap<>();
+        categoryNameMap.forEach((storeId, names) -> categoryNames.put(storeId, String.join(", ", names.stream().sorted().toList())));
+        return categoryNames;
+    }
+
+    // 비어있거나(최초 배포) 새 컬럼이 채워지지 않은 카드가 있으면 기존 점포로 카드 테이블 재생성
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfOutdated() {
+        if(storeCardRepository.count() > 0 && !storeCardRepository.existsOutdated()) { return; }
+
+        int page = 0;
+        Page<Store> storePage;
+        do {
+            // 삭제된 점포도 카드(deleted_date)로 유지
+            PageRequest pageRequest = PageRequest.of(page++, REBUILD_CHUNK_SIZE, Sort.by("storeId"));
+            storePage = softDeleteFilter.includeDeleted(() -> storeRepository.findAll(pageRequest));
+            List<UUID> storeIds = storePage.getContent().stream().map(Store::getStoreId).toList();
+            Map<UUID, String> categoryNames = getCategoryNames(storeIds);
+
+            Map<UUID, StoreCard> existingCards = new HashMap<>();
+            storeCardRepository.findAllById(storeIds).forEach(storeCard -> existingCards.put(storeCard.getStoreId(), storeCard));
+
+            List<StoreCard> storeCards = new ArrayList<>();
+            for(Store store : storePage.getContent()) {
+                String names = categoryNames.getOrDefault(store.getStoreId(), "");
+                StoreCard storeCard = existingCards.get(store.getStoreId());
+                if(storeCard == null) {
+                    storeCards.add(StoreCard.from(store, names));
+                    continue;
+                }
+                storeCard.update(store);
+                storeCard.updateCategory(names);
+            }
+            storeCardRepository.saveAll(storeCards);
+        } while (storePage.hasNext());
+
+        log.info("점포 카드 테이블 생성 완료 (size: {})", storePage.getTotalElements());
+    }
+}
@@ -0,0 +1,90 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.cache.StoreDetailCache;
+import com.sparta.blackwhitedeliverydriver.dto.StoreRatingResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.StoreRatingDelta;
+import com.sparta.blackwhitedeliverydriver.exception.StoreExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCardRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRatingDeltaRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 점포 평점 집계 (합계, 리뷰 수, 1~5점 분포, 평균)
+// 리뷰 작성 시에는 변경분만 INSERT 하고(점포 행 잠금 없음) 주기적으로 p_stores 에 합산
+@Slf4j(topic = "StoreRatingService")
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreRatingService {
+    private static final int MAX_RATING = 5;
+
+    private final StoreRepository storeRepository;
+    private final StoreCardRepository storeCardRepository;
+    private final StoreRatingDeltaRepository storeRatingDeltaRepository;
+    private final StoreDetailCache storeDetailCache;
+
+    @Value("${store.rating.fold-batch-size:10000}")
+    private int foldBatchSize;
+
+    public StoreRatingResponseDto getRating(UUID storeId) {
+        return storeRepository.findRatingByStoreId(storeId)
+                .orElseThrow(() -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage()));
+    }
+
+    @Transactional
+    public void addRating(UUID storeId, int rating) {
+        int[] starDelta = new int[MAX_RATING];
+        starDelta[rating - 1]++;
+        applyDelta(storeId, rating, 1, starDelta);
+    }
+
+    @Transactional
+    public void changeRating(UUID storeId, int previousRating, int updatedRating) {
+        if (previousRating == updatedRating) {
+            return;
+        }
+        int[] starDelta = new int[MAX_RATING];
+        starDelta[previousRating - 1]--;
+        starDelta[updatedRating - 1]++;
+        applyDelta(storeId, updatedRating - previousRating, 0, starDelta);
+    }
+
+    @Transactional
+    public void removeRating(UUID storeId, int rating) {
+        int[] starDelta = new int[MAX_RATING];
+        starDelta[rating - 1]--;
+        applyDelta(storeId, -rating, -1, starDelta);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${store.rating.fold-interval-ms:1000}")
+    public void foldDeltas() {
+        List<UUID> foldedStoreIds = storeRatingDeltaRepository.foldIntoStores(foldBatchSize);
+        storeDetailCache.evictAfterCommit(foldedStoreIds);
+    }
+
+    // 컬럼 추가 이전에 쌓인 점포 평점을 리뷰 기준으로 보정
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileRatings() {
+        int recalculated = storeRepository.recalculateInconsistentRatings();
+        int synced = storeCardRepository.syncAllRatings();
+        if (recalculated > 0 || synced > 0) {
+            log.info("점포 평점 집계 보정 (stores: {}, cards: {})", recalculated, synced);
+        }
+    }
+
+    // 변경분 append -> 동시 리뷰끼리 점포 행을 두고 경합하지 않음
+    private void applyDelta(UUID storeId, int sumDelta, int cntDelta, int[] starDelta) {
+        storeRatingDeltaRepository.save(StoreRatingDelta.of(storeId, sumDelta, cntDelta, starDelta));
+    }
+}
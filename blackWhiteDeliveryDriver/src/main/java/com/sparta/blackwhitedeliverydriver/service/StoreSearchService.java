@@ -0,0 +1,47 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import com.sparta.blackwhitedeliverydriver.dto.StoreResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCard;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCardRepository;
+import com.sparta.blackwhitedeliverydriver.util.SearchKeywordUtil;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 점포명 + 소개 + 카테고리 검색 (p_store_card.search_text 트라이그램 인덱스)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreSearchService {
+    public static final String SORT_BY_RELEVANCE = "relevance";
+
+    private final StoreCardRepository storeCardRepository;
+
+    public List<StoreResponseDto> search(String keyword, int page, int size, String sortBy, boolean isAsc, LocalTime openAt) {
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+        String normalized = SearchKeywordUtil.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        String pattern = SearchKeywordUtil.escapeLike(normalized);
+        int minute = openAt == null ? StoreCard.NO_WINDOW : StoreCard.toMinute(openAt);
+
+        List<StoreCard> storeCardList;
+        if (SORT_BY_RELEVANCE.equals(sortBy)) {
+            storeCardList = storeCardRepository.searchByRelevance(normalized, pattern, minute, size, (long) page * size);
+        } else {
+            Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+            storeCardList = storeCardRepository.searchByPattern(pattern, minute, pageable).getContent();
+        }
+
+        return storeCardList.stream().map(StoreResponseDto::from).toList();
+    }
+}
@@ -1,11 +1,18 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
+import com.sparta.blackwhitedeliverydriver.cache.CategoryDictionary;
+import com.sparta.blackwhitedeliverydriver.cache.MenuCache;
+import com.sparta.blackwhitedeliverydriver.cache.StoreDetailCache;
+import com.sparta.blackwhitedeliverydriver.config.SoftDeleteFilter;
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreIdResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.StoreByMasterRequestDto;
+import com.sparta.blackwhitedeliverydriver.entity.Address;
 import com.sparta.blackwhitedeliverydriver.entity.Category;
 import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCard;
 import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
@@ -13,13 +20,17 @@ import com.sparta.blackwhitedeliverydriver.exception.CategoryExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.exception.StoreExceptionMessage;
 import com.sparta.blackwhitedeliverydriver.repository.CategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCardRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreCategoryRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
 import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -27,7 +38,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -42,52 +52,94 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class StoreService {
+    public static final String SORT_BY_DISTANCE = "distance";
+    public static final String SORT_BY_RATING = "rating";
+
     private final StoreRepository storeRepository;
     private final StoreCategoryRepository storeCategoryRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
-
-    public List<StoreResponseDto> getStores(int page, int size, String sortBy, boolean isAsc) {
+    private final CategoryDictionary categoryDictionary;
+    private final StoreCardRepository storeCardRepository;
+    private final StoreCardService storeCardService;
+    private final StoreSearchService storeSearchService;
+    private final StoreDetailCache storeDetailCache;
+    private final MenuCache menuCache;
+    private final ProductRepository productRepository;
+    private final SoftDeleteFilter softDeleteFilter;
+
+    public List<StoreResponseDto> getStores(int page, int size, String sortBy, boolean isAsc, LocalTime openAt) {
         Direction direction = isAsc ? Direction.ASC : Direction.DESC;
         Sort sort = Sort.by(direction, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Store> storeList = storeRepository.findAllByDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue(pageable);
-        List<StoreResponseDto> storeResponseDtoList = new ArrayList<>();
+        // openAt 시각에 영업 중인 점포만 (자정을 넘는 영업 시간 포함)
+        Page<StoreCard> storeCardList = openAt == null
+                ? storeCardRepository.findAllByDeletedDateIsNullAndIsPublicTrue(pageable)
+                : storeCardRepository.findOpenPublic(StoreCard.toMinute(openAt), pageable);
 
-        for(Store store : storeList.getContent()){
-            List<StoreCategory> storeCategoryList = storeCategoryRepository.findAllByStoreStoreId(store.getStoreId());
-            List<String> categoryNameList = new ArrayList<>();
-            for (StoreCategory storeCategory : storeCategoryList){
-                Optional<Category> category = Optional.ofNullable(categoryRepository.findById(storeCategory.getCategory().getCategoryId()).orElseThrow(
-                        () -> new NullPointerException(CategoryExceptionMessage.CATEGORY_NOT_FOUND.getMessage())
-                ));
+        return storeCardList.map(StoreResponseDto::from).getContent();
+    }
 
-                categoryNameList.add(category.get().getName());
-            }
-            String categoryNames = categoryNameList.stream().collect(Collectors.joining(", "));
+    public CursorResponseDto<StoreResponseDto> getStoresByCursor(String cursor, int size, boolean isAsc) {
+        size = CursorUtil.normalizeSize(size);
+        CursorUtil.Cursor position = CursorUtil.decode(cursor, isAsc);
+        Pageable pageable = PageRequest.ofSize(size + 1);
+
+        List<StoreCard> storeCardList = isAsc
+                ? storeCardRepository.findPublicByCursorAsc(position.getCreatedDate(), position.getId(), pageable)
+                : storeCardRepository.findPublicByCursorDesc(position.getCreatedDate(), position.getId(), pageable);
+
+        return CursorResponseDto.of(storeCardList, size, StoreCard::getCreatedDate, StoreCard::getStoreId, StoreResponseDto::from);
+    }
+
+    public List<StoreResponseDto> getNearbyStores(String username, int page, int size, String sortBy) {
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+        User user = userRepository.findById(username).orElseThrow(
+                () -> new UsernameNotFoundException(ExceptionMessage.USER_NOT_FOUND.getMessage())
+        );
+        Address address = user.getCurrentAddress();
+        if(address == null) {
+            throw new NullPointerException(ExceptionMessage.CURRNET_ADDRESS_NOT_FOUND.getMessage());
+        }
 
-            StoreResponseDto storeResponseDto = StoreResponseDto.from(store, categoryNames);
-            storeResponseDtoList.add(storeResponseDto);
+        // 현재 주소의 지역 버킷(시/구, 우편번호 구역)으로 후보를 인덱스 조회
+        String regionCode = StoreCard.toRegionCode(address.getCity(), address.getDistrict());
+        String zipSector = StoreCard.toZipSector(address.getZipNum());
+        Integer zipCode = StoreCard.toZipCode(address.getZipNum());
+        // 시/구, 우편번호 모두 없으면 근처를 판단할 수 없음
+        if (regionCode == null && zipSector == null) {
+            return List.of();
         }
+        Pageable pageable = PageRequest.of(page, size);
 
-        return storeResponseDtoList;
+        List<StoreCard> storeCardList = SORT_BY_RATING.equals(sortBy)
+                ? storeCardRepository.findNearbyOrderByRating(regionCode, zipSector, pageable)
+                : storeCardRepository.findNearbyOrderByDistance(regionCode, zipSector, zipCode == null ? 0 : zipCode, pageable);
+
+        return storeCardList.stream().map(StoreResponseDto::from).toList();
     }
 
     public StoreResponseDto getStore(Boolean isExceptDelete, Boolean isPublic, UUID storeId) {
+        return storeDetailCache.get(storeId, isExceptDelete, isPublic, () -> loadStore(isExceptDelete, isPublic, storeId));
+    }
+
+    private StoreResponseDto loadStore(Boolean isExceptDelete, Boolean isPublic, UUID storeId) {
         Store store;
         if(isExceptDelete && isPublic){
-            store = storeRepository.findByStoreIdAndDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue(storeId).orElseThrow(
+            store = storeRepository.findByStoreIdAndIsPublicTrue(storeId).orElseThrow(
                     () -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage())
             );
         }
         else if(isExceptDelete){
-            store = storeRepository.findByStoreIdAndDeletedDateIsNullAndDeletedByIsNull(storeId).orElseThrow(
+            store = storeRepository.findByStoreId(storeId).orElseThrow(
                     () -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage())
             );
         }
         else if(isPublic){
-            store = storeRepository.findByStoreIdAndIsPublicTrue(storeId).orElseThrow(
+            store = softDeleteFilter.includeDeleted(() -> storeRepository.findByStoreIdAndIsPublicTrue(storeId)).orElseThrow(
                     () -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage())
             );
         }
@@ -97,16 +149,7 @@ public class StoreService {
             );
         }
 
-        List<StoreCategory> storeCategoryList = storeCategoryRepository.findAllByStoreStoreId(store.getStoreId());
-        List<String> categoryNameList = new ArrayList<>();
-        for (StoreCategory storeCategory : storeCategoryList){
-            Optional<Category> category = Optional.ofNullable(categoryRepository.findById(storeCategory.getCategory().getCategoryId()).orElseThrow(
-                    () -> new NullPointerException(storeCategory.getCategory().getCategoryId() + "라는 카테고리 ID는 없습니다.")
-            ));
-
-            categoryNameList.add(category.get().getName());
-        }
-        String categoryNames = categoryNameList.stream().collect(Collectors.joining(", "));
+        String categoryNames = storeCardService.getCategoryNames(List.of(store.getStoreId())).getOrDefault(store.getStoreId(), "");
 
         return StoreResponseDto.from(store, categoryNames);
     }
@@ -121,56 +164,17 @@ public class StoreService {
         ));
         UserRoleEnum userRoleEnum = newUser.get().getRole();
 
-        Page<Store> storeList;
-        List<StoreResponseDto> storeResponseDtoList = new ArrayList<>();
-        if(userRoleEnum == UserRoleEnum.OWNER) {
-            storeList = storeRepository.findAllByUserAndDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue(newUser.get(), pageable);
-
-            for(Store store : storeList.getContent()){
-                List<StoreCategory> storeCategoryList = storeCategoryRepository.findAllByStoreStoreId(store.getStoreId());
-                List<String> categoryNameList = new ArrayList<>();
-                for (StoreCategory storeCategory : storeCategoryList){
-                    Optional<Category> category = Optional.ofNullable(categoryRepository.findById(storeCategory.getCategory().getCategoryId()).orElseThrow(
-                            () -> new NullPointerException(CategoryExceptionMessage.CATEGORY_ID_NOT_FOUND.getMessage())
-                    ));
-
-                    categoryNameList.add(category.get().getName());
-                }
-                String categoryNames = categoryNameList.stream().collect(Collectors.joining(", "));
-
-                StoreResponseDto storeResponseDto = StoreResponseDto.from(store, categoryNames);
-                storeResponseDtoList.add(storeResponseDto);
-            }
+        if(userRoleEnum != UserRoleEnum.OWNER) {
+            return new ArrayList<>();
         }
+        Page<StoreCard> storeCardList = storeCardRepository.findAllByOwnerUsernameAndDeletedDateIsNullAndIsPublicTrue(newUser.get().getUsername(), pageable);
 
-        return storeResponseDtoList;
+        return storeCardList.map(StoreResponseDto::from).getContent();
     }
 
-    public List<StoreResponseDto> searchStores(String storeName, int page, int size, String sortBy, boolean isAsc) {
-        Direction direction = isAsc ? Direction.ASC : Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-
-        Page<Store> storeList = storeRepository.findAllByStoreNameContainingAndDeletedDateIsNullAndDeletedByIsNull(storeName, pageable);
-        List<StoreResponseDto> storeResponseDtoList = new ArrayList<>();
-
-        for(Store store : storeList.getContent()){
-            List<StoreCategory> storeCategoryList = storeCategoryRepository.findAllByStoreStoreId(store.getStoreId());
-            List<String> categoryNameList = new ArrayList<>();
-            for (StoreCategory storeCategory : storeCategoryList){
-                Optional<Category> category = Optional.ofNullable(categoryRepository.findById(storeCategory.getCategory().getCategoryId()).orElseThrow(
-                        () -> new NullPointerException(storeCategory.getCategory().getCategoryId() + "라는 카테고리 ID는 없습니다.")
-                ));
-
-                categoryNameList.add(category.get().getName());
-            }
-            String categoryNames = categoryNameList.stream().collect(Collectors.joining(", "));
-
-            StoreResponseDto storeResponseDto = StoreResponseDto.from(store, categoryNames);
-            storeResponseDtoList.add(storeResponseDto);
-        }
-
-        return storeResponseDtoList;
+    public List<StoreResponseDto> searchStores(String storeName, int page, int size, String sortBy, boolean isAsc, LocalTime openAt) {
+        // 점포명, 소개, 카테고리 대상 트라이그램 검색 (sortBy=relevance 이면 관련도 순)
+        return storeSearchService.search(storeName, page, size, sortBy, isAsc, openAt);
     }
 
     @Transactional
@@ -192,6 +196,7 @@ public class StoreService {
             StoreCategory storeCategory = StoreCategory.from(store, category);
             storeCategoryRepository.save(storeCategory);
         }
+        storeCardService.save(store);
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.getStoreId());
         return storeIdResponseDto;
@@ -217,6 +222,7 @@ public class StoreService {
             StoreCategory storeCategory = StoreCategory.from(store, category);
             storeCategoryRepository.save(storeCategory);
         }
+        storeCardService.save(store);
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.getStoreId());
         return storeIdResponseDto;
@@ -250,9 +256,7 @@ public class StoreService {
         }
 
         // 신규 카테고리는 저장
-        List<String> categoryNameList = new ArrayList<>();
         for(Category category : categorySet) {
-            categoryNameList.add(category.getName());
             StoreCategory storeCategory = storeCategoryRepository.findByStoreStoreIdAndCategoryCategoryId(store.getStoreId(), category.getCategoryId())
                             .orElseGet(() -> {
                                StoreCategory newStoreCategory = StoreCategory.from(store, category);
@@ -260,6 +264,8 @@ public class StoreService {
                             });
         }
         store.update(requestDto);
+        storeCardService.save(store);
+        storeDetailCache.evictAfterCommit(store.getStoreId());
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.getStoreId());
         return storeIdResponseDto;
@@ -290,9 +296,7 @@ public class StoreService {
         }
 
         // 신규 카테고리는 저장
-        List<String> categoryNameList = new ArrayList<>();
         for(Category category : categorySet) {
-            categoryNameList.add(category.getName());
             StoreCategory storeCategory = storeCategoryRepository.findByStoreStoreIdAndCategoryCategoryId(store.getStoreId(), category.getCategoryId())
                     .orElseGet(() -> {
                         StoreCategory newStoreCategory = StoreCategory.from(store, category);
@@ -300,6 +304,8 @@ public class StoreService {
                     });
         }
         store.updateByMaster(requestDto, userDetails);
+        storeCardService.save(store);
+        storeDetailCache.evictAfterCommit(store.getStoreId());
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.getStoreId());
         return storeIdResponseDto;
@@ -322,12 +328,30 @@ public class StoreService {
                 () -> new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage())
         );
 
-        store.setDeletedDate(LocalDateTime.now());
-        store.setDeletedBy(newUser.getUsername());
+        // 점포 + 음식 일괄 소프트 삭제
+        softDeleteStores(List.of(store.getStoreId()), newUser.getUsername(), LocalDateTime.now());
 
         return new StoreIdResponseDto(store.getStoreId());
     }
 
+    // 점주 탈퇴 시 보유 점포 전체 삭제 (점포를 영속성 컨텍스트에 올리지 않음)
+    @Transactional
+    public int deleteAllStoresOfUser(User user, String deletedBy, LocalDateTime deletedDate) {
+        List<UUID> storeIds = storeRepository.findActiveStoreIdsByUser(user);
+        if(storeIds.isEmpty()) { return 0; }
+
+        return softDeleteStores(storeIds, deletedBy, deletedDate);
+    }
+
+    private int softDeleteStores(List<UUID> storeIds, String deletedBy, LocalDateTime deletedDate) {
+        productRepository.softDeleteAllByStoreIds(storeIds, deletedBy, deletedDate);
+        int deletedCnt = storeRepository.softDeleteAllByIdIn(storeIds, deletedBy, deletedDate);
+        storeCardRepository.markDeleted(storeIds, deletedDate);
+        storeDetailCache.evictAfterCommit(storeIds);
+        menuCache.evictAfterCommit(storeIds);
+        return deletedCnt;
+    }
+
     private List<Category> getCategoryList(String categoryNames) {
         Set<String> categorySet = new HashSet<>();
         Arrays.stream(categoryNames.split(","))
@@ -336,9 +360,10 @@ public class StoreService {
 
         List<Category> categoryList = new ArrayList<>();
         for(String categoryName : categorySet) {
-            Category category = categoryRepository.findByName(categoryName).orElseThrow(
+            UUID categoryId = categoryDictionary.findIdByName(categoryName).orElseThrow(
                     () -> new NullPointerException(CategoryExceptionMessage.CATEGORY_ID_NOT_FOUND.getMessage()));
-            categoryList.add(category);
+            // 존재가 확인된 ID이므로 조회 없이 참조만 사용
+            categoryList.add(categoryRepository.getReferenceById(categoryId));
         }
 
         return categoryList;
@@ -371,7 +396,8 @@ public class StoreService {
     }
 
     private Boolean checkStoreName(@NotBlank String storeName) {
-        Optional<Store> store = storeRepository.findByStoreName(storeName);
+        // 점포명은 UNIQUE 이므로 삭제된 점포까지 확인
+        Optional<Store> store = softDeleteFilter.includeDeleted(() -> storeRepository.findByStoreName(storeName));
         if(store.isPresent()) { return true; }
         return false;
     }
@@ -382,6 +408,8 @@ public class StoreService {
         if(!store.isPresent()){throw new NullPointerException(StoreExceptionMessage.STORE_NOT_FOUND.getMessage());}
 
         store.get().updatePublic(store.get().getIsPublic());
+        storeCardService.refresh(store.get());
+        storeDetailCache.evictAfterCommit(storeId);
 
         StoreIdResponseDto storeIdResponseDto = new StoreIdResponseDto(store.get().getStoreId());
 
@@ -1,21 +1,26 @@
 package com.sparta.blackwhitedeliverydriver.service;
 
 import com.sparta.blackwhitedeliverydriver.dto.SignupRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.UpdateUserRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.UserResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.UsernameResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.User;
 import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
 import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.repository.AddressRepository;
+import com.sparta.blackwhitedeliverydriver.repository.BasketRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,6 +35,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuditorAware<String> auditorAware;
+    private final BasketRepository basketRepository;
+    private final AddressRepository addressRepository;
+    private final StoreService storeService;
 
     @Transactional
     public UsernameResponseDto signup(@Valid SignupRequestDto requestDto, UserRoleEnum loggedInRole) {
@@ -95,6 +103,32 @@ public class UserService {
         return userPage.map(UserResponseDto::from);
     }
 
+    public SliceResponseDto<UserResponseDto> searchUserSlice(
+            String keyword, int page, int size, String sortBy, boolean isAsc, String loggedInUsername) {
+
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10;
+        }
+
+        // 페이징 처리 (count 쿼리 없음)
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        User loggedInUser = userRepository.findById(loggedInUsername)
+                .orElseThrow(() -> new UsernameNotFoundException(ExceptionMessage.USER_NOT_FOUND.getMessage()));
+
+        Slice<User> userSlice;
+
+        if (loggedInUser.getRole() != UserRoleEnum.MANAGER && loggedInUser.getRole() != UserRoleEnum.MASTER ) {
+            userSlice = userRepository.findSliceByUsernameContainingAndDeletedByIsNullAndDeletedDateIsNullAndPublicProfileIsTrue(keyword, pageable);
+        } else {
+            userSlice = userRepository.findSliceByUsernameContaining(keyword, pageable);
+        }
+
+        return SliceResponseDto.from(userSlice.map(UserResponseDto::from));
+    }
+
     @Transactional
     public UsernameResponseDto updateUser(@Valid UpdateUserRequestDto requestDto, String username) {
         User user = userRepository.findById(username)
@@ -122,10 +156,14 @@ public class UserService {
         String deletedBy = auditorAware.getCurrentAuditor()
                 .orElseThrow(() -> new NullPointerException(ExceptionMessage.LOGIN_NOT_FOUND.getMessage()));
 
-        user.setDeletedBy(deletedBy);
-        user.setDeletedDate(LocalDateTime.now());
-
-        userRepository.save(user);
+        // 회원 + 장바구니, 배송지, (점주인 경우) 점포와 음식까지 UPDATE 문으로 일괄 삭제
+        LocalDateTime deletedDate = LocalDateTime.now();
+        basketRepository.softDeleteAllByUser(user, deletedBy, deletedDate);
+        addressRepository.softDeleteAllByUser(user, deletedBy, deletedDate);
+        if (user.getRole() == UserRoleEnum.OWNER) {
+            storeService.deleteAllStoresOfUser(user, deletedBy, deletedDate);
+        }
+        userRepository.softDeleteAllByIdIn(List.of(username), deletedBy, deletedDate);
 
         return new UsernameResponseDto(user.getUsername());
     }
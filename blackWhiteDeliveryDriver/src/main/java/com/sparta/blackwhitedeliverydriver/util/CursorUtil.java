@@ -0,0 +1,54 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+// 커서 기반 페이징 토큰 (정렬 키 createdDate + id)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CursorUtil {
+    private static final String DELIMITER = "|";
+    // 첫 페이지 조회 시 사용하는 경계값 -> 쿼리를 하나로 유지하기 위함
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    public static String encode(LocalDateTime createdDate, UUID id) {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor, boolean isAsc) {
+        if (cursor == null || cursor.isBlank()) {
+            return isAsc ? new Cursor(MIN_DATE, MIN_ID) : new Cursor(MAX_DATE, MAX_ID);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), UUID.fromString(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_CURSOR.getMessage());
+        }
+    }
+
+    public static int normalizeSize(int size) {
+        if (size != 10 && size != 30 && size != 50) {
+            return 10;
+        }
+        return size;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Cursor {
+        private final LocalDateTime createdDate;
+        private final UUID id;
+    }
+}
@@ -78,4 +78,12 @@ public class PayUtil {
         return parameters;
     }
 
+    public Map<String, String> getOrderParameters(String tid) {
+        // 카카오페이 결제 상태 조회
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("cid", CID);
+        parameters.put("tid", tid);
+        return parameters;
+    }
+
 }
@@ -0,0 +1,123 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportRowDto;
+import com.sparta.blackwhitedeliverydriver.exception.ProductExceptionMessage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 음식 일괄 등록 CSV (헤더: productName,price,imgUrl,productIntro / 순서 무관, 따옴표 필드 지원)
+// 요청 본문을 문자열로 올리지 않고 스트림에서 레코드 단위로 읽음
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProductCsvReader {
+    private static final char BOM = '\uFEFF';
+    private static final String[] COLUMNS = {"productname", "price", "imgurl", "productintro"};
+
+    // maxRows 를 넘으면 maxRows + 1 개까지만 읽고 중단 (초과 여부는 호출 측에서 판단)
+    public static List<ProductImportRowDto> read(InputStream inputStream, int maxRows) {
+        try (Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            List<String> header = readRecord(reader);
+            Map<String, Integer> columnIndex = toColumnIndex(header);
+
+            List<ProductImportRowDto> rows = new ArrayList<>();
+            List<String> record;
+            while (rows.size() <= maxRows && (record = readRecord(reader)) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) { continue; } // 빈 줄
+                rows.add(ProductImportRowDto.builder()
+                        .productName(valueOf(record, columnIndex.get("productname")))
+                        .price(toPrice(valueOf(record, columnIndex.get("price"))))
+                        .imgUrl(valueOf(record, columnIndex.get("imgurl")))
+                        .productIntro(valueOf(record, columnIndex.get("productintro")))
+                        .build());
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new IllegalArgumentException(ProductExceptionMessage.INVALID_IMPORT_FILE.getMessage());
+        }
+    }
+
+    private static Map<String, Integer> toColumnIndex(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException(ProductExceptionMessage.INVALID_IMPORT_FILE.getMessage());
+        }
+        Map<String, Integer> columnIndex = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+            if (i == 0 && !column.isEmpty() && column.charAt(0) == BOM) {
+                column = column.substring(1);
+            }
+            columnIndex.put(column, i);
+        }
+        for (String column : COLUMNS) {
+            if (!columnIndex.containsKey(column)) {
+                throw new IllegalArgumentException(ProductExceptionMessage.INVALID_IMPORT_FILE.getMessage());
+            }
+        }
+        return columnIndex;
+    }
+
+    private static String valueOf(List<String> record, int index) {
+        if (index >= record.size()) { return null; }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // 숫자가 아니면 null -> 행 검증에서 가격 오류로 보고
+    private static Integer toPrice(String value) {
+        if (value == null) { return null; }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // RFC 4180 레코드 1개 (EOF 이면 null)
+    private static List<String> readRecord(Reader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int c = reader.read();
+        if (c == -1) { return null; }
+
+        while (c != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 검색어 정규화 (search_text 컬럼과 동일하게 소문자 + 공백 정리) 및 LIKE 패턴 이스케이프
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SearchKeywordUtil {
+
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
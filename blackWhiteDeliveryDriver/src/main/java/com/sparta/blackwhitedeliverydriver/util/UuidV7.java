@@ -0,0 +1,32 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 시간 순 UUID (RFC 9562 v7) -> 48비트 unix ms + 12비트 ms 내 순번 + 62비트 난수
+// 같은 ms 에 순번을 다 쓰면 다음 ms 로 넘겨서 한 프로세스 안에서는 항상 증가
+// B-tree 에 오른쪽 끝으로만 삽입되므로 v4(무작위) 대비 페이지 분할 / 캐시 미스가 적음
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UuidV7 {
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_STATE = new AtomicLong(); // (ms << 12) | 순번
+
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long state = LAST_STATE.updateAndGet(last -> Math.max(now, last + 1));
+        long msb = (state >>> SEQUENCE_BITS) << 16 | VERSION | (state & ((1L << SEQUENCE_BITS) - 1));
+        long lsb = (RANDOM.nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(msb, lsb);
+    }
+
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
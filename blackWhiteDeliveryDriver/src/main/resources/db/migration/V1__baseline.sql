@@ -0,0 +1,223 @@
+-- 기준 스키마 (Flyway 도입 전 ddl-auto=update 로 생성되던 테이블) -> 기존 DB는 baseline 으로 건너뜀
+-- 이후 추가된 테이블 / 컬럼은 V2 부터 (baseline 된 DB에도 적용되어야 하므로 여기에 넣지 않음)
+
+CREATE TABLE p_user (
+    username           varchar(255) NOT NULL,
+    email              varchar(255) NOT NULL,
+    password           varchar(255) NOT NULL,
+    phone_number       varchar(255) NOT NULL,
+    role               varchar(255) NOT NULL,
+    public_profile     boolean      NOT NULL,
+    image_url          varchar(255),
+    address_id         uuid,
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_user_pkey PRIMARY KEY (username),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT uk_user_phone_number UNIQUE (phone_number),
+    CONSTRAINT uk_user_address UNIQUE (address_id)
+);
+
+CREATE TABLE p_address (
+    id                 uuid         NOT NULL,
+    user_username      varchar(255),
+    zip_num            varchar(255) NOT NULL,
+    city               varchar(255) NOT NULL,
+    district           varchar(255) NOT NULL,
+    street_name        varchar(255) NOT NULL,
+    street_num         varchar(255) NOT NULL,
+    detail_addr        varchar(255) NOT NULL,
+    request_details    varchar(255),
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_address_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE p_ai (
+    id                 uuid         NOT NULL,
+    user_username      varchar(255) NOT NULL,
+    prompt             varchar(255) NOT NULL,
+    answer             varchar(255) NOT NULL,
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_ai_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE p_category (
+    category_id        uuid         NOT NULL,
+    name               varchar(255) NOT NULL,
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_category_pkey PRIMARY KEY (category_id),
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+CREATE TABLE p_stores (
+    store_id           uuid             NOT NULL,
+    store_name         varchar(255)     NOT NULL,
+    phone_number       varchar(255)     NOT NULL,
+    status             boolean          NOT NULL,
+    open_time          time(6)          NOT NULL,
+    close_time         time(6)          NOT NULL,
+    rating             integer          NOT NULL,
+    review_cnt         integer          NOT NULL,
+    img_url            varchar(255),
+    zip_num            varchar(255)     NOT NULL,
+    city               varchar(255)     NOT NULL,
+    district           varchar(255)     NOT NULL,
+    street_name        varchar(255)     NOT NULL,
+    street_number      varchar(255)     NOT NULL,
+    detail_addr        varchar(255)     NOT NULL,
+    store_intro        varchar(255)     NOT NULL,
+    is_public          boolean          NOT NULL,
+    user_username      varchar(255)     NOT NULL,
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_stores_pkey PRIMARY KEY (store_id),
+    CONSTRAINT uk_stores_store_name UNIQUE (store_name)
+);
+
+CREATE TABLE p_store_category (
+    store_category_id    uuid NOT NULL,
+    store_store_id       uuid NOT NULL,
+    category_category_id uuid NOT NULL,
+    CONSTRAINT p_store_category_pkey PRIMARY KEY (store_category_id)
+);
+
+CREATE TABLE p_product (
+    product_id         uuid         NOT NULL,
+    name               varchar(255) NOT NULL,
+    price              integer      NOT NULL,
+    is_public          boolean      NOT NULL,
+    img_url            varchar(255) NOT NULL,
+    product_intro      varchar(255) NOT NULL,
+    store_store_id     uuid         NOT NULL,
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_product_pkey PRIMARY KEY (product_id)
+);
+
+CREATE TABLE p_basket (
+    id                 uuid    NOT NULL,
+    user_id            varchar(255),
+    store_id           uuid,
+    product_id         uuid,
+    quantity           integer NOT NULL,
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_basket_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE p_order (
+    id                 uuid         NOT NULL,
+    user_id            varchar(255),
+    store_id           uuid,
+    final_pay          integer      NOT NULL DEFAULT 0,
+    discount_rate      integer      NOT NULL,
+    discount_amount    integer      NOT NULL,
+    status             varchar(255) NOT NULL,
+    type               varchar(255) NOT NULL,
+    tid                varchar(255),
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_order_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE p_order_product (
+    id                 uuid    NOT NULL,
+    product_id         uuid,
+    order_id           uuid,
+    quantity           integer NOT NULL,
+    price              integer NOT NULL,
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_order_product_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE p_pay (
+    id                 uuid         NOT NULL,
+    order_id           uuid,
+    tid                varchar(255) NOT NULL,
+    item_name          varchar(255) NOT NULL,
+    pay_status         varchar(255) NOT NULL,
+    pay_amount         integer      NOT NULL,
+    refund_amount      integer,
+    approved_at        timestamp(6),
+    canceled_at        timestamp(6),
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_pay_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_pay_order UNIQUE (order_id)
+);
+
+CREATE TABLE p_review (
+    id                 uuid         NOT NULL,
+    order_id           uuid         NOT NULL,
+    contents           varchar(255) NOT NULL,
+    rating             integer      NOT NULL,
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_review_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_review_order UNIQUE (order_id)
+);
+
+ALTER TABLE p_user ADD CONSTRAINT fk_user_address FOREIGN KEY (address_id) REFERENCES p_address (id);
+ALTER TABLE p_address ADD CONSTRAINT fk_address_user FOREIGN KEY (user_username) REFERENCES p_user (username);
+ALTER TABLE p_ai ADD CONSTRAINT fk_ai_user FOREIGN KEY (user_username) REFERENCES p_user (username);
+ALTER TABLE p_stores ADD CONSTRAINT fk_stores_user FOREIGN KEY (user_username) REFERENCES p_user (username);
+ALTER TABLE p_store_category ADD CONSTRAINT fk_store_category_store FOREIGN KEY (store_store_id) REFERENCES p_stores (store_id);
+ALTER TABLE p_store_category ADD CONSTRAINT fk_store_category_category FOREIGN KEY (category_category_id) REFERENCES p_category (category_id);
+ALTER TABLE p_product ADD CONSTRAINT fk_product_store FOREIGN KEY (store_store_id) REFERENCES p_stores (store_id);
+ALTER TABLE p_basket ADD CONSTRAINT fk_basket_user FOREIGN KEY (user_id) REFERENCES p_user (username);
+ALTER TABLE p_basket ADD CONSTRAINT fk_basket_store FOREIGN KEY (store_id) REFERENCES p_stores (store_id);
+ALTER TABLE p_basket ADD CONSTRAINT fk_basket_product FOREIGN KEY (product_id) REFERENCES p_product (product_id);
+ALTER TABLE p_order ADD CONSTRAINT fk_order_user FOREIGN KEY (user_id) REFERENCES p_user (username);
+ALTER TABLE p_order ADD CONSTRAINT fk_order_store FOREIGN KEY (store_id) REFERENCES p_stores (store_id);
+ALTER TABLE p_order_product ADD CONSTRAINT fk_order_product_product FOREIGN KEY (product_id) REFERENCES p_product (product_id);
+ALTER TABLE p_order_product ADD CONSTRAINT fk_order_product_order FOREIGN KEY (order_id) REFERENCES p_order (id);
+ALTER TABLE p_pay ADD CONSTRAINT fk_pay_order FOREIGN KEY (order_id) REFERENCES p_order (id);
+ALTER TABLE p_review ADD CONSTRAINT fk_review_order FOREIGN KEY (order_id) REFERENCES p_order (id);
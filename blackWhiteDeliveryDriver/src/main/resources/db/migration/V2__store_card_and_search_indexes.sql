@@ -0,0 +1,86 @@
+-- baseline(V1) 이후 추가된 테이블 / 컬럼 -> ddl-auto 로 먼저 만들어진 DB도 있을 수 있으므로 IF NOT EXISTS
+
+-- 점포 평점 분포 / 평균 (기존 점포는 기동 시 StoreRatingService.reconcileRatings 가 리뷰 기준으로 보정)
+ALTER TABLE p_stores ADD COLUMN IF NOT EXISTS one_star_cnt integer NOT NULL DEFAULT 0;
+ALTER TABLE p_stores ADD COLUMN IF NOT EXISTS two_star_cnt integer NOT NULL DEFAULT 0;
+ALTER TABLE p_stores ADD COLUMN IF NOT EXISTS three_star_cnt integer NOT NULL DEFAULT 0;
+ALTER TABLE p_stores ADD COLUMN IF NOT EXISTS four_star_cnt integer NOT NULL DEFAULT 0;
+ALTER TABLE p_stores ADD COLUMN IF NOT EXISTS five_star_cnt integer NOT NULL DEFAULT 0;
+ALTER TABLE p_stores ADD COLUMN IF NOT EXISTS avg_rating double precision NOT NULL DEFAULT 0;
+
+-- 음식 검색 본문
+ALTER TABLE p_product ADD COLUMN IF NOT EXISTS search_text text;
+
+-- 점포 목록 조회용 비정규화 테이블 (비어 있으면 기동 시 StoreCardService.rebuildIfOutdated 가 채움), 평점 변경분
+CREATE TABLE IF NOT EXISTS p_store_card (
+    store_id          uuid             NOT NULL,
+    store_name        varchar(255)     NOT NULL,
+    phone_number      varchar(255)     NOT NULL,
+    status            boolean          NOT NULL,
+    open_time         time(6)          NOT NULL,
+    close_time        time(6)          NOT NULL,
+    img_url           varchar(255),
+    zip_num           varchar(255)     NOT NULL,
+    city              varchar(255)     NOT NULL,
+    district          varchar(255)     NOT NULL,
+    street_name       varchar(255)     NOT NULL,
+    street_number     varchar(255)     NOT NULL,
+    detail_addr       varchar(255)     NOT NULL,
+    store_intro       varchar(255)     NOT NULL,
+    category          varchar(255)     NOT NULL,
+    rating            integer          NOT NULL,
+    review_cnt        integer          NOT NULL,
+    avg_rating        double precision NOT NULL,
+    is_public         boolean          NOT NULL,
+    owner_username    varchar(255)     NOT NULL,
+    created_date      timestamp(6),
+    deleted_date      timestamp(6),
+    open_window_start integer          NOT NULL DEFAULT -1,
+    open_window_end   integer          NOT NULL DEFAULT -1,
+    wrap_window_start integer          NOT NULL DEFAULT -1,
+    wrap_window_end   integer          NOT NULL DEFAULT -1,
+    region_code       varchar(255),
+    zip_sector        varchar(255),
+    zip_code          integer,
+    search_text       text,
+    CONSTRAINT p_store_card_pkey PRIMARY KEY (store_id)
+);
+
+CREATE TABLE IF NOT EXISTS p_store_rating_delta (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY,
+    store_id    uuid    NOT NULL,
+    sum_delta   integer NOT NULL,
+    cnt_delta   integer NOT NULL,
+    one_delta   integer NOT NULL,
+    two_delta   integer NOT NULL,
+    three_delta integer NOT NULL,
+    four_delta  integer NOT NULL,
+    five_delta  integer NOT NULL,
+    CONSTRAINT p_store_rating_delta_pkey PRIMARY KEY (id)
+);
+
+-- 기존에 엔티티 @Index / 기동 시 초기화로 만들던 인덱스 -> baseline 된 DB에도 있을 수 있으므로 IF NOT EXISTS
+
+-- 점포 카드 목록 (공개 목록, 점주 목록, 영업 구간, 주변 점포)
+CREATE INDEX IF NOT EXISTS idx_store_card_public_created ON p_store_card (is_public, deleted_date, created_date);
+CREATE INDEX IF NOT EXISTS idx_store_card_owner ON p_store_card (owner_username, deleted_date);
+CREATE INDEX IF NOT EXISTS idx_store_card_region ON p_store_card (region_code, is_public, deleted_date);
+CREATE INDEX IF NOT EXISTS idx_store_card_zip_sector ON p_store_card (zip_sector, is_public, deleted_date);
+-- StoreCardRepository.findPublicByCursorAsc/Desc: (created_date, store_id) 행 값 비교가 인덱스 범위 시작점이 되도록
+CREATE INDEX IF NOT EXISTS idx_store_card_public_cursor ON p_store_card (created_date, store_id)
+    WHERE deleted_date IS NULL AND is_public = true;
+-- 영업 구간: int4range GiST + @> 포함 조회 (구간 없음(-1, -1)은 빈 범위라 어떤 minute 도 포함하지 않음)
+CREATE INDEX IF NOT EXISTS idx_store_card_open_range ON p_store_card USING gist (int4range(open_window_start, open_window_end));
+CREATE INDEX IF NOT EXISTS idx_store_card_wrap_range ON p_store_card USING gist (int4range(wrap_window_start, wrap_window_end));
+
+-- 검색 (pg_trgm)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- search_text 컬럼 추가 이전에 생성된 카드 / 음식 보정
+UPDATE p_store_card SET search_text = lower(store_name || ' ' || store_intro || ' ' || category) WHERE search_text IS NULL;
+UPDATE p_product SET search_text = lower(name || ' ' || product_intro) WHERE search_text IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_store_card_search_trgm ON p_store_card USING gin (search_text gin_trgm_ops);
+-- 음식 검색: 본문 트라이그램 + 자동완성용 음식명 접두어 (삭제된 음식 제외 부분 인덱스)
+CREATE INDEX IF NOT EXISTS idx_product_search_trgm ON p_product USING gin (search_text gin_trgm_ops) WHERE deleted_date IS NULL;
+CREATE INDEX IF NOT EXISTS idx_product_name_prefix ON p_product (lower(name) text_pattern_ops) WHERE deleted_date IS NULL;
@@ -0,0 +1,53 @@
+-- Repository 조회 메서드 기준 인덱스 (PK / UNIQUE 로 이미 커버되는 조회는 제외)
+--   p_pay.order_id      (PayRepository.findByOrder)        -> uk_pay_order
+--   p_review.order_id   (리뷰 -> 주문 조인)                  -> uk_review_order
+--   p_stores.store_name (StoreRepository.findByStoreName)  -> uk_stores_store_name
+-- 이전 기동 시 초기화(SoftDeleteIndexInitializer)로 만들던 부분 인덱스 중 아래로 대체되는 것은 삭제
+-- idx_product_store_live 는 정의가 바뀌므로(name 추가) 삭제 후 재생성, idx_review_order_live 는 그대로 유지
+
+DROP INDEX IF EXISTS idx_order_store_live;
+DROP INDEX IF EXISTS idx_product_store_live;
+
+-- 주문
+-- OrderRepository.findActiveOrderByUser (user, status = 'CREATE', 미삭제)
+CREATE INDEX IF NOT EXISTS idx_order_user_status ON p_order (user_id, status, deleted_date);
+-- OrderRepository.findByTid (결제 승인 콜백)
+CREATE INDEX IF NOT EXISTS idx_order_tid ON p_order (tid);
+-- OrderRepository.findAllByStoreAndNotDeleted, 리뷰 점포별 조회의 주문 조인
+CREATE INDEX IF NOT EXISTS idx_order_store_created ON p_order (store_id, deleted_date, created_date);
+-- OrderRepository.findAllByUserAndNotDeleted / 커서 페이징, 리뷰 · 결제 사용자별 조회의 주문 조인
+CREATE INDEX IF NOT EXISTS idx_order_user_live ON p_order (user_id, created_date, id) WHERE deleted_date IS NULL;
+-- OrderRepository.findAllByCursorAsc/Desc (관리자)
+CREATE INDEX IF NOT EXISTS idx_order_created ON p_order (created_date, id);
+
+-- 주문 음식: OrderProductRepository.findAllByOrderAndNotDeleted, softDeleteAllByOrder
+CREATE INDEX IF NOT EXISTS idx_order_product_order ON p_order_product (order_id, deleted_date);
+
+-- 결제: PayRepository.findAllByCursorAsc/Desc (관리자)
+CREATE INDEX IF NOT EXISTS idx_pay_created ON p_pay (created_date, id);
+
+-- 장바구니: BasketRepository.findAllByUserAndNotDeleted*, softDeleteAllByUser
+CREATE INDEX IF NOT EXISTS idx_basket_user_live ON p_basket (user_id) WHERE deleted_date IS NULL;
+
+-- 점포
+-- StoreRepository.findAllByUser...IsPublicTrue, findActiveStoreIdsByUser
+CREATE INDEX IF NOT EXISTS idx_stores_user_live ON p_stores (user_username) WHERE deleted_date IS NULL;
+-- StoreRepository.findAllByDeletedDateIsNullAndDeletedByIsNullAndIsPublicTrue
+CREATE INDEX IF NOT EXISTS idx_stores_public_live ON p_stores (is_public, created_date) WHERE deleted_date IS NULL;
+
+-- 음식
+-- 점포 메뉴, softDeleteAllByStoreIds (미삭제 음식만)
+CREATE INDEX IF NOT EXISTS idx_product_store_live ON p_product (store_store_id, name) WHERE deleted_date IS NULL;
+-- 음식명 중복 확인: ProductRepository.findByNameAndStoreStoreId / findAllNamesByStoreId (삭제된 음식 포함)
+CREATE INDEX IF NOT EXISTS idx_product_store_name ON p_product (store_store_id, name);
+
+-- 리뷰: 주문 조인 (미삭제 리뷰만), 삭제 포함 주문별 조회는 uk_review_order
+CREATE INDEX IF NOT EXISTS idx_review_order_live ON p_review (order_id, created_date) WHERE deleted_date IS NULL;
+-- ReviewRepository.findAllByStoreIdAndCursorAsc/Desc (커서 페이징 seek)
+CREATE INDEX IF NOT EXISTS idx_review_cursor_live ON p_review (created_date, id) WHERE deleted_date IS NULL;
+
+-- 점포 카테고리: StoreCategoryRepository.findAllByStoreStoreId / findAllByStoreIds / findByStoreStoreIdAndCategoryCategoryId
+CREATE INDEX IF NOT EXISTS idx_store_category_store ON p_store_category (store_store_id, category_category_id);
+
+-- 주소: AddressRepository.findAllByUserAndDeletedByIsNullAndDeletedDateIsNull, softDeleteAllByUser
+CREATE INDEX IF NOT EXISTS idx_address_user_live ON p_address (user_username) WHERE deleted_date IS NULL;
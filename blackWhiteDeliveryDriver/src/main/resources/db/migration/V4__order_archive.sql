@@ -0,0 +1,66 @@
+-- 주문 / 주문 음식 / 결제 아카이브 (created_date 월별 RANGE 파티션)
+-- 완료 · 취소 후 보관 기간이 지난 주문을 OrderArchiveService 가 옮김, 월 파티션은 옮기기 전에 생성
+-- 컬럼 구성은 원본 테이블과 동일하게 유지 (원본 컬럼 추가 시 함께 추가)
+
+CREATE TABLE p_order_archive (
+    id                 uuid         NOT NULL,
+    user_id            varchar(255),
+    store_id           uuid,
+    final_pay          integer      NOT NULL,
+    discount_rate      integer      NOT NULL,
+    discount_amount    integer      NOT NULL,
+    status             varchar(255) NOT NULL,
+    type               varchar(255) NOT NULL,
+    tid                varchar(255),
+    created_date       timestamp(6) NOT NULL,
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    archived_date      timestamp(6) NOT NULL DEFAULT now(),
+    CONSTRAINT p_order_archive_pkey PRIMARY KEY (id, created_date)
+) PARTITION BY RANGE (created_date);
+
+CREATE TABLE p_order_product_archive (
+    id                 uuid         NOT NULL,
+    product_id         uuid,
+    order_id           uuid         NOT NULL,
+    quantity           integer      NOT NULL,
+    price              integer      NOT NULL,
+    created_date       timestamp(6) NOT NULL,
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_order_product_archive_pkey PRIMARY KEY (id, created_date)
+) PARTITION BY RANGE (created_date);
+
+CREATE TABLE p_pay_archive (
+    id                 uuid         NOT NULL,
+    order_id           uuid         NOT NULL,
+    tid                varchar(255) NOT NULL,
+    item_name          varchar(255) NOT NULL,
+    pay_status         varchar(255) NOT NULL,
+    pay_amount         integer      NOT NULL,
+    refund_amount      integer,
+    approved_at        timestamp(6),
+    canceled_at        timestamp(6),
+    created_date       timestamp(6) NOT NULL,
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_pay_archive_pkey PRIMARY KEY (id, created_date)
+) PARTITION BY RANGE (created_date);
+
+-- 파티션 인덱스 (월 파티션 생성 시 자동으로 생성됨)
+CREATE INDEX idx_order_archive_user ON p_order_archive (user_id, created_date);
+CREATE INDEX idx_order_archive_store ON p_order_archive (store_id, created_date);
+CREATE INDEX idx_order_product_archive_order ON p_order_product_archive (order_id);
+CREATE INDEX idx_pay_archive_order ON p_pay_archive (order_id);
+
+-- 아카이브 대상 선별 (완료 · 취소 주문을 오래된 순으로)
+CREATE INDEX IF NOT EXISTS idx_order_status_created ON p_order (status, created_date);
@@ -0,0 +1,25 @@
+-- 외부 결제 호출 기록 (PayService 가 호출 전 PENDING 으로 저장, 응답 후 SUCCEEDED / FAILED)
+-- 주문은 아카이브로 옮겨지므로 p_order FK 없이 order_id 만 보관
+
+CREATE TABLE p_payment_attempt (
+    id                 uuid         NOT NULL,
+    order_id           uuid         NOT NULL,
+    type               varchar(255) NOT NULL,
+    status             varchar(255) NOT NULL,
+    tid                varchar(255),
+    amount             integer,
+    fail_reason        varchar(255),
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_payment_attempt_pkey PRIMARY KEY (id)
+);
+
+-- 주문당 진행 중인 결제 호출은 하나 (중복 준비 / 승인 / 환불 요청 차단)
+CREATE UNIQUE INDEX uk_payment_attempt_pending_order ON p_payment_attempt (order_id) WHERE status = 'PENDING';
+
+-- 정리 대상 선별 (오래된 PENDING)
+CREATE INDEX idx_payment_attempt_status_created ON p_payment_attempt (status, created_date);
@@ -0,0 +1,28 @@
+-- 환불 요청 아웃박스 (점포 주인 거절 시 주문 상태 변경과 같은 트랜잭션에서 기록, RefundOutboxService 워커가 처리)
+-- 주문은 아카이브로 옮겨지므로 p_order FK 없이 order_id 만 보관
+
+CREATE TABLE p_refund_outbox (
+    id                 uuid         NOT NULL,
+    order_id           uuid         NOT NULL,
+    tid                varchar(255) NOT NULL,
+    amount             integer      NOT NULL,
+    status             varchar(255) NOT NULL,
+    attempt_count      integer      NOT NULL,
+    next_attempt_at    timestamp(6) NOT NULL,
+    last_error         varchar(255),
+    completed_at       timestamp(6),
+    created_date       timestamp(6),
+    created_by         varchar(255),
+    last_modified_date timestamp(6),
+    last_modified_by   varchar(255),
+    deleted_date       timestamp(6),
+    deleted_by         varchar(255),
+    CONSTRAINT p_refund_outbox_pkey PRIMARY KEY (id),
+    -- 결제당 환불 요청 하나 (같은 tid 중복 환불 차단)
+    CONSTRAINT uk_refund_outbox_tid UNIQUE (tid)
+);
+
+CREATE INDEX idx_refund_outbox_order ON p_refund_outbox (order_id);
+
+-- 처리 대상 선별 (완료 · 실패 건은 제외)
+CREATE INDEX idx_refund_outbox_due ON p_refund_outbox (next_attempt_at) WHERE status IN ('PENDING', 'PROCESSING');
@@ -0,0 +1,139 @@
+package com.sparta.blackwhitedeliverydriver.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.blackwhitedeliverydriver.dto.PayApproveResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayCancelResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayReadyResponseDto;
+import com.sparta.blackwhitedeliverydriver.util.PayUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.client.RestTemplate;
+
+// 요청마다 new RestTemplate() (기존) vs 커넥션 풀 공유 클라이언트 처리량 비교 (./gradlew benchmark)
+// 로컬 스텁(/payment/ready|approve|cancel, 평문 HTTP)에 같은 동시성으로 같은 호출 수를 보냄
+// 실제 게이트웨이는 HTTPS 라 새 연결마다 TLS 핸드셰이크가 더해짐 -> 실제 차이는 이 결과보다 큼
+@Tag("benchmark")
+class KakaoPayClientLoadTest {
+    private static final int THREADS = 32;
+    private static final int CALLS_PER_THREAD = 300;
+    private static final int MAX_PER_ROUTE = 16;
+    private static final String READY_BODY = "{\"tid\":\"T0000000001\",\"next_redirect_pc_url\":\"http://localhost/redirect\"}";
+    private static final String APPROVE_BODY = "{\"tid\":\"T0000000001\",\"aid\":\"A0000000001\"}";
+    private static final String CANCEL_BODY = "{\"tid\":\"T0000000001\",\"status\":\"CANCEL_PAYMENT\"}";
+
+    HttpServer server;
+    ExecutorService serverExecutor;
+    Set<String> connections = ConcurrentHashMap.newKeySet();
+    String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/payment/ready", exchange -> respond(exchange, READY_BODY));
+        server.createContext("/payment/approve", exchange -> respond(exchange, APPROVE_BODY));
+        server.createContext("/payment/cancel", exchange -> respond(exchange, CANCEL_BODY));
+        serverExecutor = Executors.newFixedThreadPool(THREADS * 2);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 공유 클라이언트가 연결을 재사용하고 처리량이 높음")
+    void compareThroughput() throws Exception {
+        PayUtil payUtil = new PayUtil();
+
+        Result perCall = run(() -> {
+            // 기존 방식: 호출마다 새 RestTemplate
+            HttpEntity<Map<String, String>> request = new HttpEntity<>(Map.of("cid", "TC0ONETIME"), payUtil.getHeaders());
+            new RestTemplate().postForObject(baseUrl + "/payment/ready", request, PayReadyResponseDto.class);
+            new RestTemplate().postForObject(baseUrl + "/payment/approve", request, PayApproveResponseDto.class);
+            new RestTemplate().postForObject(baseUrl + "/payment/cancel", request, PayCancelResponseDto.class);
+        });
+
+        KakaoPayClient client = new KakaoPayClient(new RestTemplateBuilder(), new SimpleMeterRegistry(), payUtil, baseUrl,
+                1000, 5000, 1000, MAX_PER_ROUTE * 2, MAX_PER_ROUTE, 30);
+        Result pooled;
+        try {
+            pooled = run(() -> {
+                client.ready(Map.of("cid", "TC0ONETIME"));
+                client.approve(Map.of("cid", "TC0ONETIME"));
+                client.cancel(Map.of("cid", "TC0ONETIME"));
+            });
+        } finally {
+            client.destroy();
+        }
+
+        System.out.printf("new RestTemplate(): %,d calls/s, %,d connections%n", perCall.callsPerSecond(), perCall.connections());
+        System.out.printf("pooled client:      %,d calls/s, %,d connections%n", pooled.callsPerSecond(), pooled.connections());
+        assertThat(pooled.connections()).isLessThanOrEqualTo(MAX_PER_ROUTE);
+        assertThat(pooled.connections()).isLessThan(perCall.connections());
+    }
+
+    private Result run(Runnable call) throws Exception {
+        connections.clear();
+        ExecutorService clients = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(clients.submit(() -> {
+                    for (int j = 0; j < CALLS_PER_THREAD; j++) {
+                        call.run();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            long calls = (long) THREADS * CALLS_PER_THREAD * 3;
+            return new Result(calls * 1_000_000_000L / elapsedNanos, connections.size());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        // 클라이언트 주소(ip:port) 별로 연결 수를 셈
+        connections.add(exchange.getRemoteAddress().toString());
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private record Result(long callsPerSecond, int connections) {
+    }
+}
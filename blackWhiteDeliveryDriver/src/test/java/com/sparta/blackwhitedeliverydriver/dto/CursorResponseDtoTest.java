@@ -0,0 +1,69 @@
+package com.sparta.blackwhitedeliverydriver.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.blackwhitedeliverydriver.util.CursorUtil;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorResponseDtoTest {
+    private static final int SIZE = 10;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    record Row(LocalDateTime createdDate, UUID id) {
+    }
+
+    @Test
+    @DisplayName("size 건 조회 -> 마지막 페이지 (hasNext false, nextCursor 없음)")
+    void exactlySize() {
+        List<Row> rows = rows(SIZE);
+
+        CursorResponseDto<UUID> response = CursorResponseDto.of(rows, SIZE, Row::createdDate, Row::id, Row::id);
+
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getContent()).containsExactlyElementsOf(rows.stream().map(Row::id).toList());
+    }
+
+    @Test
+    @DisplayName("size + 1 건 조회 -> 초과분은 버리고 size 번째 행을 다음 커서로")
+    void sizePlusOne() {
+        List<Row> rows = rows(SIZE + 1);
+
+        CursorResponseDto<UUID> response = CursorResponseDto.of(rows, SIZE, Row::createdDate, Row::id, Row::id);
+
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getContent()).hasSize(SIZE)
+                .containsExactlyElementsOf(rows.subList(0, SIZE).stream().map(Row::id).toList());
+        Row last = rows.get(SIZE - 1);
+        CursorUtil.Cursor next = CursorUtil.decode(response.getNextCursor(), true);
+        assertThat(next.getCreatedDate()).isEqualTo(last.createdDate());
+        assertThat(next.getId()).isEqualTo(last.id());
+    }
+
+    @Test
+    @DisplayName("size 미만 / 0 건 조회 -> 마지막 페이지")
+    void lessThanSize() {
+        CursorResponseDto<UUID> partial = CursorResponseDto.of(rows(3), SIZE, Row::createdDate, Row::id, Row::id);
+        CursorResponseDto<UUID> empty = CursorResponseDto.of(List.<Row>of(), SIZE, Row::createdDate, Row::id, Row::id);
+
+        assertThat(partial.isHasNext()).isFalse();
+        assertThat(partial.getNextCursor()).isNull();
+        assertThat(partial.getContent()).hasSize(3);
+        assertThat(empty.isHasNext()).isFalse();
+        assertThat(empty.getNextCursor()).isNull();
+        assertThat(empty.getContent()).isEmpty();
+    }
+
+    private List<Row> rows(int count) {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(BASE_DATE.plusMinutes(i), UUID.randomUUID()));
+        }
+        return rows;
+    }
+}
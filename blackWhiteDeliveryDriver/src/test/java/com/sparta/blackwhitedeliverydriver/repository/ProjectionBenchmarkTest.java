@@ -0,0 +1,147 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+// 목록 조회: 엔티티 조회 후 DTO 변환 vs DTO 프로젝션 할당량 / 지연 비교 (./gradlew benchmark)
+// 같은 조건, 같은 페이지 크기로 본문 쿼리만 반복 (count 쿼리는 양쪽 동일하므로 제외)
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class ProjectionBenchmarkTest {
+    private static final int ROW_CNT = 2_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final String WHERE = " WHERE o.user = :user ORDER BY o.createdDate DESC";
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    @DisplayName("주문 목록 프로젝션이 엔티티 조회보다 할당량이 적음")
+    void compareOrderList() {
+        User user = seed();
+
+        Supplier<List<OrderGetResponseDto>> entityPath = () -> entityManager.createQuery("SELECT o FROM Order o" + WHERE, Order.class)
+                .setParameter("user", user)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(OrderGetResponseDto::fromOrder)
+                .toList();
+        Supplier<List<OrderGetResponseDto>> projectionPath = () -> entityManager
+                .createQuery(OrderRepository.RESPONSE_SELECT + WHERE, OrderGetResponseDto.class)
+                .setParameter("user", user)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+
+        Result entity = measure(entityPath);
+        Result projection = measure(projectionPath);
+
+        System.out.printf("entity:     %,d bytes/op, %,d us/op%n", entity.bytesPerOp(), entity.microsPerOp());
+        System.out.printf("projection: %,d bytes/op, %,d us/op%n", projection.bytesPerOp(), projection.microsPerOp());
+        assertThat(projection.bytesPerOp()).isLessThan(entity.bytesPerOp());
+    }
+
+    private Result measure(Supplier<List<OrderGetResponseDto>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(query.get()).hasSize(PAGE_SIZE);
+            entityManager.clear();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+            // 요청마다 새 영속성 컨텍스트를 쓰는 것과 같게 비움
+            entityManager.clear();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        return new Result(allocatedBytes / ITERATIONS, elapsedNanos / ITERATIONS / 1_000);
+    }
+
+    private User seed() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User customer = User.builder()
+                .username("bench" + suffix)
+                .email("bench" + suffix + "@test.com")
+                .password("password")
+                .phoneNumber("0103" + suffix)
+                .role(UserRoleEnum.CUSTOMER)
+                .publicProfile(true)
+                .build();
+        User owner = User.builder()
+                .username("benchowner" + suffix)
+                .email("benchowner" + suffix + "@test.com")
+                .password("password")
+                .phoneNumber("0104" + suffix)
+                .role(UserRoleEnum.OWNER)
+                .publicProfile(true)
+                .build();
+        entityManager.persist(customer);
+        entityManager.persist(owner);
+
+        Store store = Store.builder()
+                .storeName("benchstore" + suffix)
+                .phoneNumber("01012345678")
+                .status(true)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .zipNum("12345")
+                .city("서울시")
+                .district("강남구")
+                .streetName("테헤란로")
+                .streetNumber("1")
+                .detailAddr("1층")
+                .storeIntro("소개")
+                .isPublic(true)
+                .rating(0)
+                .reviewCnt(0)
+                .oneStarCnt(0)
+                .twoStarCnt(0)
+                .threeStarCnt(0)
+                .fourStarCnt(0)
+                .fiveStarCnt(0)
+                .avgRating(0.0)
+                .user(owner)
+                .build();
+        entityManager.persist(store);
+
+        for (int i = 0; i < ROW_CNT; i++) {
+            entityManager.persist(Order.ofUserAndStore(customer, store, OrderTypeEnum.ONLINE));
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(User.class, customer.getUsername());
+    }
+
+    private record Result(long bytesPerOp, long microsPerOp) {
+    }
+}
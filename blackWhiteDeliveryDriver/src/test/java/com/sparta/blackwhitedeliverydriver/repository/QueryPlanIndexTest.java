@@ -0,0 +1,372 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.blackwhitedeliverydriver.config.SoftDeleteFilter;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.util.SearchKeywordUtil;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+// Repository 메서드를 실제로 호출해 Hibernate 가 생성한 SQL(삭제 필터 포함)과 바인딩 값을 기록하고, 같은 SQL / 값으로 EXPLAIN
+// 해당 테이블을 읽는 인덱스 스캔의 Index Cond 에 조회 조건이 들어가는지 확인 (인덱스 전체를 훑는 스캔, 조건이 Filter 로만 처리되는 경우 실패)
+// 시드 데이터 + ANALYZE 후 seq scan 을 끈 상태에서 계획 확인
+// 테스트 트랜잭션은 롤백되므로 시드 데이터는 남지 않음
+@SpringBootTest
+@Transactional
+class QueryPlanIndexTest {
+    private static final int USER_CNT = 200;
+    private static final int STORE_CNT = 200;
+    private static final int PRODUCT_PER_STORE = 20;
+    private static final int ORDER_CNT = 10000;
+    private static final int CARD_CNT = 2000;
+    private static final LocalDateTime CURSOR_DATE = LocalDateTime.of(2023, 12, 25, 0, 0);
+    private static final LocalDateTime CARD_CURSOR_DATE = LocalDateTime.of(2023, 12, 31, 12, 0);
+    private static final LocalDateTime HOT_WINDOW_START = LocalDateTime.of(2023, 7, 1, 0, 0);
+    private static final int OPEN_MINUTE = 10 * 60;
+    private static final Pageable LATEST = PageRequest.of(0, 10, Sort.by(Direction.DESC, "createdDate"));
+    private static final ThreadLocal<List<RecordedStatement>> RECORDED = new ThreadLocal<>();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    SoftDeleteFilter softDeleteFilter;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    OrderProductRepository orderProductRepository;
+    @Autowired
+    PayRepository payRepository;
+    @Autowired
+    ReviewRepository reviewRepository;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    StoreCategoryRepository storeCategoryRepository;
+    @Autowired
+    StoreCardRepository storeCardRepository;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    BasketRepository basketRepository;
+    @Autowired
+    AddressRepository addressRepository;
+
+    User user;
+    User owner;
+    Store store;
+    Order order;
+
+    @BeforeEach
+    void setUp() {
+        seed();
+        for (String table : List.of("p_user", "p_address", "p_stores", "p_category", "p_store_category", "p_product",
+                "p_basket", "p_order", "p_order_product", "p_pay", "p_review", "p_store_card")) {
+            jdbcTemplate.execute("ANALYZE " + table);
+        }
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        UUID storeId = jdbcTemplate.queryForObject("SELECT store_id FROM p_stores WHERE store_name = 'plan_store_1'", UUID.class);
+        UUID orderId = jdbcTemplate.queryForObject("SELECT id FROM p_order WHERE tid = 'plan_tid_1'", UUID.class);
+        user = entityManager.getReference(User.class, "plan_user_1");
+        owner = entityManager.getReference(User.class, "plan_owner");
+        store = entityManager.getReference(Store.class, storeId);
+        order = entityManager.getReference(Order.class, orderId);
+    }
+
+    @Test
+    @DisplayName("주문 조회 인덱스 사용")
+    void orderQueries() {
+        assertBoundedIndexScan(() -> orderRepository.findActiveOrderByUser(user), "p_order", "user_id");
+        assertBoundedIndexScan(() -> orderRepository.findByTid("plan_tid_1"), "p_order", "tid");
+        assertBoundedIndexScan(() -> orderRepository.findResponsesByStore(store, LATEST), "p_order", "store_id");
+        assertBoundedIndexScan(() -> orderRepository.findResponsesByUser(user, LATEST), "p_order", "user_id");
+        // 커서: 행 값 비교가 인덱스 범위 시작점
+        assertBoundedIndexScan(() -> orderRepository.findAllByUserAndCursorDesc(user, CURSOR_DATE, order.getId(), PageRequest.ofSize(10)),
+                "p_order", "user_id", "ROW(created_date, id) <");
+        // 관리자 (삭제 포함, 보관 기간 이내)
+        assertBoundedIndexScan(() -> orderRepository.findAllByCursorDesc(HOT_WINDOW_START, CURSOR_DATE, order.getId(), PageRequest.ofSize(10)),
+                "p_order", "ROW(created_date, id) <");
+        assertBoundedIndexScan(() -> orderProductRepository.findAllByOrderAndNotDeleted(order), "p_order_product", "order_id");
+    }
+
+    @Test
+    @DisplayName("결제, 리뷰 조회 인덱스 사용")
+    void payAndReviewQueries() {
+        assertBoundedIndexScan(() -> payRepository.findByOrder(order), "p_pay", "order_id");
+        // 관리자 (보관 기간 이내)
+        assertBoundedIndexScan(() -> payRepository.findAllByCursorDesc(HOT_WINDOW_START, CURSOR_DATE, order.getId(), PageRequest.ofSize(10)),
+                "p_pay", "ROW(created_date, id) <");
+        // 리뷰 -> 주문 조인: 점포 / 사용자 조건으로 주문을 좁힌 뒤 주문별 리뷰
+        assertBoundedIndexScan(() -> reviewRepository.findResponsesByStoreId(store.getStoreId(), LATEST), "p_order", "store_id");
+        assertBoundedIndexScan(() -> reviewRepository.findResponsesByStoreId(store.getStoreId(), LATEST), "p_review", "order_id");
+        assertBoundedIndexScan(() -> reviewRepository.findResponsesByUsername(user.getUsername(), LATEST), "p_order", "user_id");
+        assertBoundedIndexScan(() -> reviewRepository.findResponsesByUsername(user.getUsername(), LATEST), "p_review", "order_id");
+    }
+
+    @Test
+    @DisplayName("점포, 음식, 장바구니, 주소 조회 인덱스 사용")
+    void storeQueries() {
+        assertBoundedIndexScan(() -> storeRepository.findAllByUserAndIsPublicTrue(owner, PageRequest.of(0, 10)),
+                "p_stores", "user_username");
+        assertBoundedIndexScan(() -> storeRepository.findAllByIsPublicTrue(LATEST), "p_stores", "is_public");
+        assertBoundedIndexScan(() -> storeRepository.findByStoreName("plan_store_1"), "p_stores", "store_name");
+        assertBoundedIndexScan(() -> storeCategoryRepository.findAllByStoreStoreId(store.getStoreId()), "p_store_category", "store_store_id");
+        // 메뉴
+        assertBoundedIndexScan(() -> productRepository.findAllByStoreStoreIdAndIsPublicTrue(store.getStoreId()),
+                "p_product", "store_store_id");
+        // 음식명 중복 확인 (삭제 포함)
+        assertBoundedIndexScan(() -> softDeleteFilter.includeDeleted(() -> productRepository.findByNameAndStoreStoreId("plan_food_1", store.getStoreId())),
+                "p_product", "store_store_id", "name");
+        // 자동완성: 접두어 범위 (text_pattern_ops)
+        assertBoundedIndexScan(() -> productRepository.findNamesByPrefix(SearchKeywordUtil.escapeLike("plan_food_1"), 200, 10),
+                "p_product", "~>=~");
+        assertBoundedIndexScan(() -> basketRepository.findAllByUserAndNotDeleted(user), "p_basket", "user_id");
+        assertBoundedIndexScan(() -> addressRepository.findResponsesByUser(user, PageRequest.of(0, 10)), "p_address", "user_username");
+    }
+
+    @Test
+    @DisplayName("점포 카드 조회 인덱스 사용")
+    void storeCardQueries() {
+        // 영업 중: 영업 구간 시작 / 끝 모두 인덱스에서 처리 (int4range GiST)
+        assertBoundedIndexScan(() -> storeCardRepository.findOpenPublic(OPEN_MINUTE, PageRequest.of(0, 10)), "p_store_card", "@>");
+        assertBoundedIndexScan(() -> storeCardRepository.findPublicByCursorDesc(CARD_CURSOR_DATE, UUID.randomUUID(), PageRequest.ofSize(10)),
+                "p_store_card", "ROW(created_date, store_id) <");
+    }
+
+    // query 가 실행한 첫 SELECT 를 같은 바인딩 값으로 EXPLAIN -> table 을 읽는 모든 인덱스 스캔에 Index Cond 가 있고, conditions 를 모두 포함
+    private void assertBoundedIndexScan(Runnable query, String table, String... conditions) {
+        RecordedStatement statement = capture(query);
+        String planJson = explain(statement);
+        JsonNode plan = readPlan(planJson);
+        String message = statement.sql() + "\n" + plan.toPrettyString();
+
+        List<String> indexConds = new ArrayList<>();
+        collectIndexConds(plan, table, indexConds, message);
+        assertFalse(indexConds.isEmpty(), () -> "no index scan on " + table + "\n" + message);
+        for (String indexCond : indexConds) {
+            assertFalse(indexCond.isEmpty(), () -> "unbounded index scan on " + table + "\n" + message);
+        }
+        // 조인 시 붙는 Hibernate 별칭(o1_0.) 제거
+        String indexCondText = String.join(" AND ", indexConds).replaceAll("\\b[a-z]+\\d+_\\d+\\.", "");
+        for (String condition : conditions) {
+            assertTrue(indexCondText.contains(condition), () -> condition + " not in Index Cond of " + table + "\n" + message);
+        }
+    }
+
+    private RecordedStatement capture(Runnable query) {
+        List<RecordedStatement> recorded = new ArrayList<>();
+        RECORDED.set(recorded);
+        try {
+            query.run();
+        } finally {
+            RECORDED.remove();
+        }
+        return recorded.stream()
+                .filter(statement -> statement.sql().toLowerCase(Locale.ROOT).contains("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no select statement executed"));
+    }
+
+    private String explain(RecordedStatement statement) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql());
+            for (Bind bind : statement.binds()) {
+                bind.applyTo(explain);
+            }
+            return explain;
+        }, resultSet -> {
+            resultSet.next();
+            return resultSet.getString(1);
+        });
+    }
+
+    private JsonNode readPlan(String planJson) {
+        try {
+            return OBJECT_MAPPER.readTree(planJson).get(0).get("Plan");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // table 을 읽는 스캔의 Index Cond 수집 (비트맵 스캔은 하위 Bitmap Index Scan 의 조건)
+    private void collectIndexConds(JsonNode node, String table, List<String> indexConds, String message) {
+        String nodeType = node.path("Node Type").asText();
+        if (table.equals(node.path("Relation Name").asText())) {
+            switch (nodeType) {
+                case "Seq Scan" -> fail("Seq Scan on " + table + "\n" + message);
+                case "Index Scan", "Index Only Scan" -> indexConds.add(node.path("Index Cond").asText());
+                case "Bitmap Heap Scan" -> collectBitmapIndexConds(node, indexConds);
+                default -> { }
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectIndexConds(child, table, indexConds, message);
+        }
+    }
+
+    private void collectBitmapIndexConds(JsonNode node, List<String> indexConds) {
+        for (JsonNode child : node.path("Plans")) {
+            if ("Bitmap Index Scan".equals(child.path("Node Type").asText())) {
+                indexConds.add(child.path("Index Cond").asText());
+            }
+            collectBitmapIndexConds(child, indexConds);
+        }
+    }
+
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO p_user (username, email, password, phone_number, role, public_profile, created_date)"
+                + " SELECT 'plan_user_' || g, 'plan_user_' || g || '@test.com', 'password', '0109' || lpad(g::text, 7, '0'),"
+                + " 'CUSTOMER', true, TIMESTAMP '2024-01-01' FROM generate_series(1, ?) g", USER_CNT);
+        jdbcTemplate.update("INSERT INTO p_user (username, email, password, phone_number, role, public_profile, created_date)"
+                + " VALUES ('plan_owner', 'plan_owner@test.com', 'password', '01080000000', 'OWNER', true, TIMESTAMP '2024-01-01')");
+        jdbcTemplate.update("INSERT INTO p_address (id, user_username, zip_num, city, district, street_name, street_num, detail_addr, created_date)"
+                + " SELECT gen_random_uuid(), 'plan_user_' || (1 + g % ?), '12345', '서울시', '강남구', '테헤란로', '1', '1층',"
+                + " TIMESTAMP '2024-01-01' FROM generate_series(1, ?) g", USER_CNT, USER_CNT * 2);
+        jdbcTemplate.update("INSERT INTO p_stores (store_id, store_name, phone_number, status, open_time, close_time, rating, review_cnt,"
+                + " zip_num, city, district, street_name, street_number, detail_addr, store_intro, is_public, user_username, created_date)"
+                + " SELECT gen_random_uuid(), 'plan_store_' || g, '01012345678', true, TIME '09:00', TIME '21:00', 0, 0,"
+                + " '12345', '서울시', '강남구', '테헤란로', '1', '1층', '소개', true, 'plan_owner',"
+                + " TIMESTAMP '2024-01-01' - g * INTERVAL '1 hour' FROM generate_series(1, ?) g", STORE_CNT);
+        jdbcTemplate.update("INSERT INTO p_category (category_id, name, created_date)"
+                + " SELECT gen_random_uuid(), 'plan_category_' || g, TIMESTAMP '2024-01-01' FROM generate_series(1, 5) g");
+        jdbcTemplate.update("INSERT INTO p_store_category (store_category_id, store_store_id, category_category_id)"
+                + " SELECT gen_random_uuid(), s.store_id, c.category_id FROM p_stores s"
+                + " JOIN p_category c ON c.name IN ('plan_category_1', 'plan_category_2')"
+                + " WHERE s.store_name LIKE 'plan_store_%'");
+        jdbcTemplate.update("INSERT INTO p_product (product_id, name, price, is_public, img_url, product_intro, search_text, store_store_id, created_date)"
+                + " SELECT gen_random_uuid(), 'plan_food_' || g, 10000, true, 'img', '소개', 'plan_food_' || g || ' 소개',"
+                + " s.store_id, TIMESTAMP '2024-01-01' FROM p_stores s, generate_series(1, ?) g"
+                + " WHERE s.store_name LIKE 'plan_store_%'", PRODUCT_PER_STORE);
+        jdbcTemplate.update("INSERT INTO p_order (id, user_id, store_id, final_pay, discount_rate, discount_amount, status, type, tid,"
+                + " created_date, deleted_date)"
+                + " SELECT gen_random_uuid(), 'plan_user_' || (1 + g % ?), s.ids[1 + g % ?], 10000, 0, 0,"
+                + " CASE WHEN g % 200 = 0 THEN 'CREATE' ELSE 'COMPLETED' END, 'ONLINE', 'plan_tid_' || g,"
+                + " TIMESTAMP '2024-01-01' - g * INTERVAL '1 minute',"
+                + " CASE WHEN g % 10 = 0 THEN TIMESTAMP '2024-01-02' END"
+                + " FROM generate_series(1, ?) g,"
+                + " (SELECT array_agg(store_id ORDER BY store_name) ids FROM p_stores WHERE store_name LIKE 'plan_store_%') s",
+                USER_CNT, STORE_CNT, ORDER_CNT);
+        jdbcTemplate.update("INSERT INTO p_order_product (id, product_id, order_id, quantity, price, created_date)"
+                + " SELECT gen_random_uuid(), p.product_id, o.id, 1, 10000, o.created_date FROM p_order o"
+                + " JOIN LATERAL (SELECT product_id FROM p_product WHERE store_store_id = o.store_id LIMIT 1) p ON true"
+                + " WHERE o.tid LIKE 'plan_tid_%'");
+        jdbcTemplate.update("INSERT INTO p_pay (id, order_id, tid, item_name, pay_status, pay_amount, approved_at, created_date)"
+                + " SELECT gen_random_uuid(), o.id, o.tid, '음식', 'SUCCESS', o.final_pay, o.created_date, o.created_date"
+                + " FROM p_order o WHERE o.tid LIKE 'plan_tid_%' AND o.status = 'COMPLETED'");
+        jdbcTemplate.update("INSERT INTO p_review (id, order_id, contents, rating, created_date)"
+                + " SELECT gen_random_uuid(), o.id, '맛있어요', 5, o.created_date FROM p_order o"
+                + " WHERE o.tid LIKE 'plan_tid_%' AND o.status = 'COMPLETED'");
+        jdbcTemplate.update("INSERT INTO p_basket (id, user_id, store_id, product_id, quantity, created_date)"
+                + " SELECT gen_random_uuid(), o.user_id, o.store_id, op.product_id, 1, o.created_date FROM p_order o"
+                + " JOIN p_order_product op ON op.order_id = o.id"
+                + " WHERE o.tid LIKE 'plan_tid_%' AND o.status = 'COMPLETED' LIMIT 2000");
+        // 점포 카드: 시간대별로 1시간씩 영업
+        jdbcTemplate.update("INSERT INTO p_store_card (store_id, store_name, phone_number, status, open_time, close_time,"
+                + " zip_num, city, district, street_name, street_number, detail_addr, store_intro, category,"
+                + " rating, review_cnt, avg_rating, is_public, owner_username, created_date,"
+                + " open_window_start, open_window_end, wrap_window_start, wrap_window_end, region_code, zip_sector, zip_code, search_text)"
+                + " SELECT gen_random_uuid(), 'plan_card_' || g, '01012345678', true, make_time(g % 24, 0, 0), make_time((g + 1) % 24, 0, 0),"
+                + " '12345', '서울시', '강남구', '테헤란로', '1', '1층', '소개', '', 0, 0, 0, true, 'plan_owner',"
+                + " TIMESTAMP '2024-01-01' - g * INTERVAL '1 minute', (g % 24) * 60, (g % 24) * 60 + 60, -1, -1,"
+                + " '서울시:강남구', '123', 12345, 'plan_card_' || g || ' 소개' FROM generate_series(1, ?) g", CARD_CNT);
+    }
+
+    // 테스트 스레드에서 실행된 PreparedStatement 의 SQL 과 바인딩 호출을 기록 (DataSource 프록시)
+    @TestConfiguration
+    static class StatementRecorderConfig {
+        @Bean
+        static BeanPostProcessor statementRecorder() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? recording(DataSource.class, dataSource) : bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T recording(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                    return recording(Connection.class, connection);
+                }
+                List<RecordedStatement> recorded = RECORDED.get();
+                if (recorded != null && result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    RecordedStatement recordedStatement = new RecordedStatement((String) args[0], new ArrayList<>());
+                    recorded.add(recordedStatement);
+                    return recordingBinds(statement, recordedStatement);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement recordingBinds(PreparedStatement target, RecordedStatement recordedStatement) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        // setXxx(parameterIndex, value, ...) 만 기록 (setFetchSize 등 제외)
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            recordedStatement.binds().add(new Bind(method, args));
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private record RecordedStatement(String sql, List<Bind> binds) {
+    }
+
+    private record Bind(Method method, Object[] args) {
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                method.invoke(statement, args);
+            } catch (ReflectiveOperationException e) {
+                throw new SQLException(e);
+            }
+        }
+    }
+}
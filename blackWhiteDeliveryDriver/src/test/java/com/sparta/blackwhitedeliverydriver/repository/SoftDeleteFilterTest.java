@@ -0,0 +1,158 @@
+package com.sparta.blackwhitedeliverydriver.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.blackwhitedeliverydriver.config.SoftDeleteFilter;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+// Repository 쿼리에 미삭제 조건이 없어도 소프트 삭제 필터(트랜잭션 시작 시 활성화)가 삭제된 행을 제외하는지 확인
+// 각 테이블에 미삭제 / 삭제 행을 함께 넣고, 필터 적용 결과와 SoftDeleteFilter.includeDeleted 결과를 비교
+// 테스트 트랜잭션은 롤백되므로 시드 데이터는 남지 않음
+@SpringBootTest
+@Transactional
+class SoftDeleteFilterTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    SoftDeleteFilter softDeleteFilter;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    BasketRepository basketRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    ReviewRepository reviewRepository;
+
+    User user;
+    User owner;
+    UUID storeId;
+    UUID deletedStoreId;
+
+    @BeforeEach
+    void setUp() {
+        seed();
+        storeId = jdbcTemplate.queryForObject("SELECT store_id FROM p_stores WHERE store_name = 'filter_store'", UUID.class);
+        deletedStoreId = jdbcTemplate.queryForObject("SELECT store_id FROM p_stores WHERE store_name = 'filter_store_deleted'", UUID.class);
+        user = entityManager.getReference(User.class, "filter_user");
+        owner = entityManager.getReference(User.class, "filter_owner");
+    }
+
+    @Test
+    @DisplayName("점포: 파생 쿼리는 삭제 제외, includeDeleted 는 포함, findById 는 필터 미적용")
+    void store() {
+        assertThat(storeRepository.findByStoreId(deletedStoreId)).isEmpty();
+        assertThat(storeRepository.findAllByUserAndIsPublicTrue(owner, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        assertThat(storeRepository.findActiveStoreIdsByUser(owner)).containsExactly(storeId);
+
+        assertThat(softDeleteFilter.includeDeleted(() -> storeRepository.findByStoreId(deletedStoreId))).isPresent();
+        assertThat(softDeleteFilter.includeDeleted(() -> storeRepository.findAllByUserAndIsPublicTrue(owner, PageRequest.of(0, 10)))
+                .getTotalElements()).isEqualTo(2);
+        // 식별자 조회는 필터 대상이 아니므로 서비스에서 삭제 여부를 직접 확인 (checkDeleted*)
+        assertThat(storeRepository.findById(deletedStoreId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("음식: 메뉴 조회는 삭제 제외, includeDeleted 후 필터 다시 적용")
+    void product() {
+        assertThat(productRepository.findAllByStoreStoreIdAndIsPublicTrue(storeId))
+                .extracting(Product::getName).containsExactly("filter_food");
+
+        assertThat(softDeleteFilter.includeDeleted(() -> productRepository.findAllByStoreStoreIdAndIsPublicTrue(storeId)))
+                .extracting(Product::getName).containsExactlyInAnyOrder("filter_food", "filter_food_deleted");
+        assertThat(softDeleteFilter.includeDeleted(() -> productRepository.findAllNamesByStoreId(storeId)))
+                .containsExactlyInAnyOrder("filter_food", "filter_food_deleted");
+        assertThat(productRepository.findAllByStoreStoreIdAndIsPublicTrue(storeId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("장바구니: 사용자 장바구니는 삭제 제외")
+    void basket() {
+        assertThat(basketRepository.findAllByUserAndNotDeleted(user)).hasSize(1);
+        assertThat(basketRepository.findAllByUserAndNotDeletedWithProduct(user)).hasSize(1);
+        assertThat(basketRepository.findAllByUserAndNotDeleted(user, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+
+        assertThat(softDeleteFilter.includeDeleted(() -> basketRepository.findAllByUserAndNotDeleted(user))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("주문: 목록 / count / 커서 / 진행 중 주문 조회는 삭제 제외")
+    void order() {
+        assertThat(orderRepository.findResponsesByUser(user, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+        Store store = entityManager.getReference(Store.class, storeId);
+        assertThat(orderRepository.findResponseSliceByStore(store, PageRequest.of(0, 10)).getContent()).hasSize(2);
+        assertThat(orderRepository.findAllByUserAndCursorDesc(user, LocalDateTime.of(9999, 1, 1, 0, 0), new UUID(-1L, -1L),
+                PageRequest.ofSize(10))).hasSize(2);
+        // 삭제된 CREATE 주문은 진행 중 주문이 아님
+        assertThat(orderRepository.findActiveOrderByUser(user)).isEmpty();
+
+        assertThat(softDeleteFilter.includeDeleted(() -> orderRepository.findResponsesByUser(user, PageRequest.of(0, 10)))
+                .getTotalElements()).isEqualTo(3);
+        assertThat(softDeleteFilter.includeDeleted(() -> orderRepository.findActiveOrderByUser(user))).isPresent();
+    }
+
+    @Test
+    @DisplayName("리뷰: 점포 / 사용자 리뷰 목록은 삭제 제외")
+    void review() {
+        assertThat(reviewRepository.findResponsesByStoreId(storeId, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        assertThat(reviewRepository.findResponseSliceByUsername(user.getUsername(), PageRequest.of(0, 10)).getContent()).hasSize(1);
+
+        assertThat(softDeleteFilter.includeDeleted(() -> reviewRepository.findResponsesByStoreId(storeId, PageRequest.of(0, 10)))
+                .getTotalElements()).isEqualTo(2);
+    }
+
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO p_user (username, email, password, phone_number, role, public_profile, created_date) VALUES"
+                + " ('filter_user', 'filter_user@test.com', 'password', '01090000001', 'CUSTOMER', true, TIMESTAMP '2024-01-01'),"
+                + " ('filter_owner', 'filter_owner@test.com', 'password', '01090000002', 'OWNER', true, TIMESTAMP '2024-01-01')");
+        jdbcTemplate.update("INSERT INTO p_stores (store_id, store_name, phone_number, status, open_time, close_time, rating, review_cnt,"
+                + " zip_num, city, district, street_name, street_number, detail_addr, store_intro, is_public, user_username,"
+                + " created_date, deleted_date, deleted_by)"
+                + " SELECT gen_random_uuid(), s.name, '01012345678', true, TIME '09:00', TIME '21:00', 0, 0,"
+                + " '12345', '서울시', '강남구', '테헤란로', '1', '1층', '소개', true, 'filter_owner', TIMESTAMP '2024-01-01', s.deleted_date, s.deleted_by"
+                + " FROM (VALUES ('filter_store', NULL::timestamp, NULL), ('filter_store_deleted', TIMESTAMP '2024-01-02', 'filter_owner'))"
+                + " s(name, deleted_date, deleted_by)");
+        jdbcTemplate.update("INSERT INTO p_product (product_id, name, price, is_public, img_url, product_intro, search_text, store_store_id,"
+                + " created_date, deleted_date, deleted_by)"
+                + " SELECT gen_random_uuid(), p.name, 10000, true, 'img', '소개', p.name || ' 소개', s.store_id, TIMESTAMP '2024-01-01',"
+                + " p.deleted_date, p.deleted_by"
+                + " FROM p_stores s, (VALUES ('filter_food', NULL::timestamp, NULL), ('filter_food_deleted', TIMESTAMP '2024-01-02', 'filter_owner'))"
+                + " p(name, deleted_date, deleted_by) WHERE s.store_name = 'filter_store'");
+        jdbcTemplate.update("INSERT INTO p_basket (id, user_id, store_id, product_id, quantity, created_date, deleted_date, deleted_by)"
+                + " SELECT gen_random_uuid(), 'filter_user', p.store_store_id, p.product_id, 1, TIMESTAMP '2024-01-01',"
+                + " b.deleted_date, b.deleted_by"
+                + " FROM p_product p, (VALUES (NULL::timestamp, NULL), (TIMESTAMP '2024-01-02', 'filter_user')) b(deleted_date, deleted_by)"
+                + " WHERE p.name = 'filter_food'");
+        // 미삭제 주문 2건 (리뷰 1건은 삭제), 삭제된 CREATE 주문 1건
+        jdbcTemplate.update("INSERT INTO p_order (id, user_id, store_id, final_pay, discount_rate, discount_amount, status, type, tid,"
+                + " created_date, deleted_date, deleted_by)"
+                + " SELECT gen_random_uuid(), 'filter_user', s.store_id, 10000, 0, 0, o.status, 'ONLINE', o.tid,"
+                + " TIMESTAMP '2024-01-01' + o.seq * INTERVAL '1 minute', o.deleted_date, o.deleted_by"
+                + " FROM p_stores s, (VALUES (1, 'COMPLETED', 'filter_tid_1', NULL::timestamp, NULL),"
+                + " (2, 'COMPLETED', 'filter_tid_2', NULL, NULL),"
+                + " (3, 'CREATE', 'filter_tid_3', TIMESTAMP '2024-01-02', 'filter_user')) o(seq, status, tid, deleted_date, deleted_by)"
+                + " WHERE s.store_name = 'filter_store'");
+        jdbcTemplate.update("INSERT INTO p_review (id, order_id, contents, rating, created_date, deleted_date, deleted_by)"
+                + " SELECT gen_random_uuid(), o.id, '맛있어요', 5, o.created_date,"
+                + " CASE WHEN o.tid = 'filter_tid_2' THEN TIMESTAMP '2024-01-02' END,"
+                + " CASE WHEN o.tid = 'filter_tid_2' THEN 'filter_user' END"
+                + " FROM p_order o WHERE o.tid IN ('filter_tid_1', 'filter_tid_2')");
+    }
+}
@@ -0,0 +1,232 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.blackwhitedeliverydriver.dto.CursorResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayGetDetailResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrder;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrderProduct;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedPay;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.PayExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.repository.ArchivedOrderProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.ArchivedOrderRepository;
+import com.sparta.blackwhitedeliverydriver.repository.ArchivedPayRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ArchivedOrderServiceTest {
+    ArchivedOrderService archivedOrderService;
+
+    ArchivedOrderRepository archivedOrderRepository = mock(ArchivedOrderRepository.class);
+    ArchivedOrderProductRepository archivedOrderProductRepository = mock(ArchivedOrderProductRepository.class);
+    ArchivedPayRepository archivedPayRepository = mock(ArchivedPayRepository.class);
+
+    User customer;
+    Store store;
+    ArchivedOrder order;
+    ArchivedOrderProduct orderProduct;
+
+    @BeforeEach
+    public void setUp() {
+        archivedOrderService = new ArchivedOrderService(archivedOrderRepository, archivedOrderProductRepository,
+                archivedPayRepository);
+        customer = User.builder()
+                .username("user1")
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+        store = Store.builder()
+                .storeId(UUID.randomUUID())
+                .storeName("store")
+                .build();
+        order = archivedOrder(LocalDateTime.of(2024, 1, 1, 12, 0));
+        orderProduct = ArchivedOrderProduct.builder()
+                .id(UUID.randomUUID())
+                .order(order)
+                .product(Product.builder()
+                        .productId(UUID.randomUUID())
+                        .name("김밥")
+                        .price(5000)
+                        .build())
+                .quantity(2)
+                .price(5000)
+                .build();
+    }
+
+    @Test
+    @DisplayName("아카이브 주문 상세 조회 성공 : 주문 음식 포함")
+    void findOrderDetail() {
+        //given
+        given(archivedOrderRepository.findById(order.getId())).willReturn(Optional.of(order));
+        given(archivedOrderProductRepository.findAllByOrderAndNotDeleted(order)).willReturn(List.of(orderProduct));
+
+        //when
+        OrderGetDetailResponseDto response = archivedOrderService.findOrderDetail(customer, order.getId()).orElseThrow();
+
+        //then
+        assertEquals(order.getId(), response.getOrderId());
+        assertEquals(store.getStoreId(), response.getStoreId());
+        assertEquals(customer.getUsername(), response.getUsername());
+        assertEquals(OrderStatusEnum.COMPLETED, response.getStatus());
+        assertEquals(1, response.getProducts().size());
+        assertEquals("김밥", response.getProducts().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("아카이브 주문 상세 조회 : 아카이브에도 없으면 empty")
+    void findOrderDetail_notFound() {
+        //given
+        given(archivedOrderRepository.findById(any())).willReturn(Optional.empty());
+
+        //when & then
+        assertTrue(archivedOrderService.findOrderDetail(customer, UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("아카이브 주문 상세 조회 실패 : 삭제된 주문")
+    void findOrderDetail_deleted() {
+        //given
+        order.setDeletedDate(LocalDateTime.of(2024, 1, 2, 0, 0));
+        order.setDeletedBy(customer.getUsername());
+        given(archivedOrderRepository.findById(order.getId())).willReturn(Optional.of(order));
+
+        //when & then
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> archivedOrderService.findOrderDetail(customer, order.getId()));
+        assertEquals(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("아카이브 주문 상세 조회 실패 : CUSTOMER 이지만 자신의 주문이 아닌 경우")
+    void findOrderDetail_otherCustomer() {
+        //given
+        User other = User.builder()
+                .username("user2")
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+        given(archivedOrderRepository.findById(order.getId())).willReturn(Optional.of(order));
+
+        //when & then
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> archivedOrderService.findOrderDetail(other, order.getId()));
+        assertEquals(OrderExceptionMessage.ORDER_USER_NOT_EQUALS.getMessage(), exception.getMessage());
+        verify(archivedOrderProductRepository, never()).findAllByOrderAndNotDeleted(any());
+    }
+
+    @Test
+    @DisplayName("아카이브 결제 상세 조회 성공 : 주문 정보 포함")
+    void findPayDetail() {
+        //given
+        ArchivedPay pay = archivedPay();
+        given(archivedPayRepository.findById(pay.getId())).willReturn(Optional.of(pay));
+        given(archivedOrderProductRepository.findAllByOrderAndNotDeleted(order)).willReturn(List.of(orderProduct));
+
+        //when
+        PayGetDetailResponseDto response = archivedOrderService.findPayDetail(customer, pay.getId()).orElseThrow();
+
+        //then
+        assertEquals(pay.getId(), response.getPayId());
+        assertEquals(PayStatusEnum.REFUND, response.getPayStatus());
+        assertEquals(10000, response.getRefundAmount());
+        assertEquals(order.getId(), response.getOrder().getOrderId());
+        assertEquals(1, response.getOrder().getProducts().size());
+    }
+
+    @Test
+    @DisplayName("아카이브 결제 상세 조회 실패 : 삭제된 결제")
+    void findPayDetail_deleted() {
+        //given
+        ArchivedPay pay = archivedPay();
+        pay.setDeletedDate(LocalDateTime.of(2024, 1, 2, 0, 0));
+        given(archivedPayRepository.findById(pay.getId())).willReturn(Optional.of(pay));
+
+        //when & then
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> archivedOrderService.findPayDetail(customer, pay.getId()));
+        assertEquals(PayExceptionMessage.PAY_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("아카이브 결제 상세 조회 : 관리자는 다른 유저의 결제도 조회")
+    void findPayDetail_manager() {
+        //given
+        User manager = User.builder()
+                .username("manager")
+                .role(UserRoleEnum.MANAGER)
+                .build();
+        ArchivedPay pay = archivedPay();
+        given(archivedPayRepository.findById(pay.getId())).willReturn(Optional.of(pay));
+
+        //when & then
+        assertTrue(archivedOrderService.findPayDetail(manager, pay.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("아카이브 주문 목록 : size + 1 건 조회 후 다음 커서 반환")
+    void getOrdersByCursor() {
+        //given
+        List<ArchivedOrder> rows = List.of(
+                archivedOrder(LocalDateTime.of(2024, 1, 3, 0, 0)),
+                archivedOrder(LocalDateTime.of(2024, 1, 2, 0, 0)),
+                archivedOrder(LocalDateTime.of(2024, 1, 1, 0, 0)));
+        given(archivedOrderRepository.findAllByUserAndCursorDesc(eq(customer), any(), any(), any())).willReturn(rows);
+
+        //when
+        CursorResponseDto<OrderGetResponseDto> response = archivedOrderService.getOrdersByCursor(customer, null, 2, false);
+
+        //then (허용되지 않은 size 2 -> 10 이므로 마지막 페이지)
+        assertFalse(response.isHasNext());
+        assertEquals(3, response.getContent().size());
+        assertEquals(rows.get(0).getId(), response.getContent().get(0).getOrderId());
+        verify(archivedOrderRepository, never()).findAllByUserAndCursorAsc(any(), any(), any(), any());
+    }
+
+    private ArchivedOrder archivedOrder(LocalDateTime createdDate) {
+        ArchivedOrder archivedOrder = ArchivedOrder.builder()
+                .id(UUID.randomUUID())
+                .user(customer)
+                .store(store)
+                .status(OrderStatusEnum.COMPLETED)
+                .finalPay(10000)
+                .discountRate(0)
+                .discountAmount(0)
+                .archivedDate(createdDate.plusMonths(7))
+                .build();
+        archivedOrder.setCreatedDate(createdDate);
+        return archivedOrder;
+    }
+
+    private ArchivedPay archivedPay() {
+        return ArchivedPay.builder()
+                .id(UUID.randomUUID())
+                .order(order)
+                .tid("tid")
+                .itemName("김밥 외 1건")
+                .payStatus(PayStatusEnum.REFUND)
+                .payAmount(10000)
+                .refundAmount(10000)
+                .build();
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.sparta.blackwhitedeliverydriver.cache.RowCountEstimateCache;
 import com.sparta.blackwhitedeliverydriver.dto.BasketAddRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.BasketResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Basket;
@@ -39,10 +40,12 @@ class BasketServiceTest {
     StoreRepository storeRepository = mock(StoreRepository.class);
     ProductRepository productRepository = mock(ProductRepository.class);
     OrderRepository orderRepository = mock(OrderRepository.class);
+    RowCountEstimateCache rowCountEstimateCache = mock(RowCountEstimateCache.class);
 
     @BeforeEach
     public void setUp() {
-        basketService = new BasketService(basketRepository, userRepository, productRepository, orderRepository);
+        basketService = new BasketService(basketRepository, userRepository, productRepository, orderRepository,
+                rowCountEstimateCache);
     }
 
     @Test
@@ -0,0 +1,189 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.blackwhitedeliverydriver.entity.Basket;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
+import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+// 목록 / 상세 조회의 SQL 문 수가 행 수와 무관하게 고정인지 확인 (N+1 방지)
+// 한 페이지(10건)보다 많은 행을 만들어 count 쿼리까지 포함해서 셈
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class FetchPlanStatementCountTest {
+    private static final int ROW_CNT = 15;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    OrderService orderService;
+    @Autowired
+    BasketService basketService;
+    @Autowired
+    PayService payService;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    User customer;
+    User owner;
+    Store store;
+    UUID orderId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        customer = persist(user("customer" + suffix, "0101" + suffix, UserRoleEnum.CUSTOMER));
+        owner = persist(user("owner" + suffix, "0102" + suffix, UserRoleEnum.OWNER));
+        store = persist(store("store" + suffix, owner));
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            products.add(persist(Product.builder()
+                    .name("food" + i)
+                    .price(10000)
+                    .isPublic(true)
+                    .imgUrl("img")
+                    .productIntro("소개")
+                    .store(store)
+                    .build()));
+        }
+
+        for (int i = 0; i < ROW_CNT; i++) {
+            Product product = products.get(i % products.size());
+            persist(Basket.builder().user(customer).store(store).product(product).quantity(1).build());
+
+            Order order = persist(Order.ofUserAndStore(customer, store, OrderTypeEnum.ONLINE));
+            for (Product orderedProduct : products) {
+                persist(OrderProduct.builder().order(order).product(orderedProduct).quantity(1).price(10000).build());
+            }
+            persist(Pay.builder()
+                    .order(order)
+                    .tid("tid" + suffix + i)
+                    .itemName("음식")
+                    .payStatus(PayStatusEnum.SUCCESS)
+                    .payAmount(30000)
+                    .build());
+            orderId = order.getId();
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("주문 목록: 사용자 + 목록 + count")
+    void getOrders() {
+        assertEquals(3, countStatements(() -> orderService.getOrders(customer.getUsername(), 0, PAGE_SIZE, "createdDate", false)));
+    }
+
+    @Test
+    @DisplayName("주문 목록 slice: 사용자 + 목록 (count 없음)")
+    void getOrdersSlice() {
+        assertEquals(2, countStatements(() -> orderService.getOrdersSlice(customer.getUsername(), 0, PAGE_SIZE, "createdDate", false)));
+    }
+
+    @Test
+    @DisplayName("점포 주문 목록: 사용자 + 점포 + 목록 + count")
+    void getOrdersByStore() {
+        assertEquals(4, countStatements(() -> orderService.getOrdersByStore(owner.getUsername(), 0, PAGE_SIZE, "createdDate", false,
+                store.getStoreId())));
+    }
+
+    @Test
+    @DisplayName("주문 상세: 사용자 + 주문 + 주문 음식(음식 포함)")
+    void getOrderDetail() {
+        assertEquals(3, countStatements(() -> orderService.getOrderDetail(customer.getUsername(), orderId)));
+    }
+
+    @Test
+    @DisplayName("장바구니 목록: 사용자 + 목록(점포, 음식 포함) + count")
+    void getBaskets() {
+        assertEquals(3, countStatements(() -> basketService.getBaskets(customer.getUsername(), 0, PAGE_SIZE, "createdDate", false)));
+    }
+
+    @Test
+    @DisplayName("결제 목록: 사용자 + 목록 + count")
+    void getPays() {
+        assertEquals(3, countStatements(() -> payService.getPays(customer.getUsername(), 0, PAGE_SIZE, "createdDate", false)));
+    }
+
+    @Test
+    @DisplayName("결제 목록 slice: 사용자 + 목록 (count 없음)")
+    void getPaysSlice() {
+        assertEquals(2, countStatements(() -> payService.getPaysSlice(customer.getUsername(), 0, PAGE_SIZE, "createdDate", false)));
+    }
+
+    private long countStatements(Runnable runnable) {
+        entityManager.clear();
+        statistics.clear();
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private static User user(String username, String phoneNumber, UserRoleEnum role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .phoneNumber(phoneNumber)
+                .role(role)
+                .publicProfile(true)
+                .build();
+    }
+
+    private static Store store(String storeName, User owner) {
+        return Store.builder()
+                .storeName(storeName)
+                .phoneNumber("01012345678")
+                .status(true)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .zipNum("12345")
+                .city("서울시")
+                .district("강남구")
+                .streetName("테헤란로")
+                .streetNumber("1")
+                .detailAddr("1층")
+                .storeIntro("소개")
+                .isPublic(true)
+                .rating(0)
+                .reviewCnt(0)
+                .oneStarCnt(0)
+                .twoStarCnt(0)
+                .threeStarCnt(0)
+                .fourStarCnt(0)
+                .fiveStarCnt(0)
+                .avgRating(0.0)
+                .user(owner)
+                .build();
+    }
+}
@@ -6,13 +6,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sparta.blackwhitedeliverydriver.cache.RowCountEstimateCache;
+import com.sparta.blackwhitedeliverydriver.config.SoftDeleteFilter;
 import com.sparta.blackwhitedeliverydriver.dto.OrderAddRequestDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetDetailResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderGetResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderResponseDto;
 import com.sparta.blackwhitedeliverydriver.dto.OrderUpdateRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.SliceResponseDto;
 import com.sparta.blackwhitedeliverydriver.entity.Basket;
 import com.sparta.blackwhitedeliverydriver.entity.Order;
 import com.sparta.blackwhitedeliverydriver.entity.OrderProduct;
@@ -29,14 +35,19 @@ import com.sparta.blackwhitedeliverydriver.repository.OrderProductRepository;
 import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
 import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
 import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 class OrderServiceTest {
     OrderService orderService;
@@ -47,11 +58,17 @@ class OrderServiceTest {
     UserRepository userRepository = mock(UserRepository.class);
     StoreRepository storeRepository = mock(StoreRepository.class);
     PayService payService = mock(PayService.class);
+    ArchivedOrderService archivedOrderService = mock(ArchivedOrderService.class);
+    SoftDeleteFilter softDeleteFilter = mock(SoftDeleteFilter.class);
+    OrderArchiveService orderArchiveService = mock(OrderArchiveService.class);
+    RowCountEstimateCache rowCountEstimateCache = mock(RowCountEstimateCache.class);
 
     @BeforeEach
     public void setUp() {
         orderService = new OrderService(basketRepository, orderRepository, orderProductRepository, userRepository,
-                storeRepository, payService);
+                storeRepository, payService, archivedOrderService, softDeleteFilter, orderArchiveService, rowCountEstimateCache);
+        // 필터 해제 후 조회 -> 그대로 실행
+        given(softDeleteFilter.includeDeleted(any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
     }
 
     @Test
@@ -103,16 +120,20 @@ class OrderServiceTest {
         OrderAddRequestDto request = new OrderAddRequestDto(OrderTypeEnum.ONLINE);
 
         given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
-        given(basketRepository.findAllByUser(any())).willReturn(List.of(basket));
+        given(basketRepository.findAllByUserAndNotDeletedWithProduct(any())).willReturn(List.of(basket));
         given(orderRepository.save(any())).willReturn(order);
         when(orderProductRepository.saveAll(any())).thenReturn(List.of(orderProduct));
-        doNothing().when(basketRepository).deleteAll(any());
+        given(basketRepository.softDeleteAllByUser(any(), any(), any())).willReturn(1);
 
         //when
         OrderResponseDto response = orderService.createOrder(username, request);
 
         //then
-        Assertions.assertEquals(10000, order.getFinalPay());
+        ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository, times(1)).save(orderCaptor.capture());
+        verify(basketRepository, times(1)).softDeleteAllByUser(any(), any(), any());
+        verify(basketRepository, never()).save(any());
+        Assertions.assertEquals(10000, orderCaptor.getValue().getFinalPay());
         Assertions.assertEquals(orderId, response.getOrderId());
     }
 
@@ -224,6 +245,34 @@ class OrderServiceTest {
         assertEquals(OrderExceptionMessage.ORDER_NOT_FOUND.getMessage(), exception.getMessage());
     }
 
+    @Test
+    @DisplayName("주문 상세 조회 성공 : 보관 기간이 지나 주문 테이블에 없으면 아카이브에서 조회")
+    void getOrderDetail_archived() {
+        //given
+        UUID orderId = UUID.randomUUID();
+        String username = "user1";
+        User user = User.builder()
+                .username(username)
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+        OrderGetDetailResponseDto archived = OrderGetDetailResponseDto.builder()
+                .orderId(orderId)
+                .username(username)
+                .status(OrderStatusEnum.COMPLETED)
+                .build();
+
+        given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
+        given(orderRepository.findById(any())).willReturn(Optional.empty());
+        given(archivedOrderService.findOrderDetail(user, orderId)).willReturn(Optional.of(archived));
+
+        //when
+        OrderGetDetailResponseDto response = orderService.getOrderDetail(username, orderId);
+
+        //then
+        assertEquals(archived, response);
+        verify(orderProductRepository, never()).findAllByOrderAndNotDeleted(any());
+    }
+
     @Test
     @DisplayName("주문 상세 조회 실패3 : 권한은 CUSTOMER이지만 자신의 주문서가 아닌 경우")
     void getOrderDetail_fail3() {
@@ -361,6 +410,45 @@ class OrderServiceTest {
         assertEquals(orderId, response.getOrderId());
     }
 
+    @Test
+    @DisplayName("주문 거절 성공 : 환불은 요청만 기록")
+    void updateOrderStatus_reject() {
+        //given
+        UUID orderId = UUID.randomUUID();
+        String username = "owner";
+        User user = User.builder()
+                .username(username)
+                .role(UserRoleEnum.OWNER)
+                .build();
+        Store store = Store.builder()
+                .storeId(UUID.randomUUID())
+                .user(user)
+                .storeName("store")
+                .build();
+        Order order = Order.builder()
+                .id(orderId)
+                .user(user)
+                .store(store)
+                .status(OrderStatusEnum.PENDING)
+                .type(OrderTypeEnum.ONLINE)
+                .discountAmount(0)
+                .discountRate(0)
+                .finalPay(10000)
+                .build();
+        OrderUpdateRequestDto request = new OrderUpdateRequestDto(orderId, OrderStatusEnum.REJECTED);
+
+        given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
+        given(orderRepository.findById(any())).willReturn(Optional.ofNullable(order));
+
+        //when
+        OrderResponseDto response = orderService.updateOrderStatus(username, request);
+
+        //then
+        verify(payService, times(1)).requestRefundByReject(order);
+        assertEquals(OrderStatusEnum.REJECTED, order.getStatus());
+        assertEquals(orderId, response.getOrderId());
+    }
+
     @Test
     @DisplayName("주문 상태 수정 실패1 : 유저가 없는 경우")
     void updateOrderStatus_fail1() {
@@ -602,4 +690,36 @@ class OrderServiceTest {
                 () -> orderService.deleteOrder(username, orderId));
         assertEquals(OrderExceptionMessage.ORDER_UNABLE_DELETE_STATUS.getMessage(), exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("관리자 주문 목록 slice 조회 : count 쿼리 없이 다음 페이지 여부 + 추정 건수")
+    void getOrdersSlice_admin() {
+        //given
+        String username = "manager";
+        User user = User.builder()
+                .username(username)
+                .role(UserRoleEnum.MANAGER)
+                .build();
+        OrderGetResponseDto order = OrderGetResponseDto.builder()
+                .orderId(UUID.randomUUID())
+                .status(OrderStatusEnum.CREATE)
+                .build();
+        LocalDateTime since = LocalDateTime.now().minusMonths(6);
+
+        given(userRepository.findById(any())).willReturn(Optional.ofNullable(user));
+        given(orderArchiveService.getHotWindowStart()).willReturn(since);
+        given(orderRepository.findResponseSliceSince(any(), any()))
+                .willReturn(new SliceImpl<>(List.of(order), PageRequest.of(0, 10), true));
+        given(rowCountEstimateCache.get("p_order")).willReturn(12345L);
+
+        //when
+        SliceResponseDto<OrderGetResponseDto> response = orderService.getOrdersSlice(username, 0, 10, "createdDate", false);
+
+        //then
+        assertEquals(1, response.getContent().size());
+        assertEquals(1, response.getPage());
+        assertEquals(true, response.isHasNext());
+        assertEquals(12345L, response.getEstimatedTotal());
+        verify(orderRepository, never()).findResponsesSince(any(), any());
+    }
+}
@@ -0,0 +1,232 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.blackwhitedeliverydriver.dto.PayRequestDto;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
+import com.sparta.blackwhitedeliverydriver.repository.PaymentAttemptRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCardRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 게이트웨이가 느릴 때 DB 커넥션 풀 점유 비교 (./gradlew benchmark)
+// 기존: 결제 준비 전체가 한 트랜잭션 -> 게이트웨이 응답을 기다리는 동안 커넥션 점유 (바깥 트랜잭션으로 감싸 재현)
+// 변경: 검증 / 결과 반영만 짧은 트랜잭션 -> 대기 중에는 커넥션을 잡지 않음
+@Tag("benchmark")
+@SpringBootTest
+class PayConnectionHoldBenchmarkTest {
+    private static final int THREADS = 32;
+    private static final int ORDER_CNT = 128;
+    private static final long GATEWAY_DELAY_MS = 300;
+    private static final String READY_BODY = "{\"tid\":\"T0000000001\",\"next_redirect_pc_url\":\"http://localhost/redirect\"}";
+
+    static HttpServer server;
+    static ExecutorService serverExecutor;
+
+    @Autowired
+    PayService payService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    StoreCardRepository storeCardRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    PaymentAttemptRepository paymentAttemptRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    DataSource dataSource;
+
+    User customer;
+    User owner;
+    Store store;
+    List<UUID> orderIds = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void gatewayProperties(DynamicPropertyRegistry registry) throws IOException {
+        // 느린 카카오페이 스텁
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/payment/ready", PayConnectionHoldBenchmarkTest::respondSlowly);
+        serverExecutor = Executors.newFixedThreadPool(THREADS * 2);
+        server.setExecutor(serverExecutor);
+        server.start();
+        registry.add("pay.client.base-url", () -> "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopGateway() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        customer = userRepository.save(User.builder()
+                .username("paybench" + suffix)
+                .email("paybench" + suffix + "@test.com")
+                .password("password")
+                .phoneNumber("0105" + suffix)
+                .role(UserRoleEnum.CUSTOMER)
+                .publicProfile(true)
+                .build());
+        owner = userRepository.save(User.builder()
+                .username("payowner" + suffix)
+                .email("payowner" + suffix + "@test.com")
+                .password("password")
+                .phoneNumber("0106" + suffix)
+                .role(UserRoleEnum.OWNER)
+                .publicProfile(true)
+                .build());
+        store = storeRepository.save(Store.builder()
+                .storeName("paystore" + suffix)
+                .phoneNumber("01012345678")
+                .status(true)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .zipNum("12345")
+                .city("서울시")
+                .district("강남구")
+                .streetName("테헤란로")
+                .streetNumber("1")
+                .detailAddr("1층")
+                .storeIntro("소개")
+                .isPublic(true)
+                .rating(0)
+                .reviewCnt(0)
+                .oneStarCnt(0)
+                .twoStarCnt(0)
+                .threeStarCnt(0)
+                .fourStarCnt(0)
+                .fiveStarCnt(0)
+                .avgRating(0.0)
+                .user(owner)
+                .build());
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_CNT; i++) {
+            Order order = Order.ofUserAndStore(customer, store, OrderTypeEnum.ONLINE);
+            order.updateFinalPay(10000);
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders).forEach(order -> orderIds.add(order.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentAttemptRepository.deleteAll(paymentAttemptRepository.findAll().stream()
+                .filter(attempt -> orderIds.contains(attempt.getOrderId()))
+                .toList());
+        orderRepository.deleteAllById(orderIds);
+        storeCardRepository.deleteById(store.getStoreId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(customer.getUsername());
+        userRepository.deleteById(owner.getUsername());
+    }
+
+    @Test
+    @DisplayName("게이트웨이 대기 중에는 DB 커넥션을 잡지 않음")
+    void compareConnectionHold() throws Exception {
+        HikariPoolMXBean pool = hikariPool();
+
+        Result held = run(pool, orderId -> transactionTemplate.executeWithoutResult(
+                status -> payService.readyToPay(customer.getUsername(), new PayRequestDto(orderId))));
+        Result released = run(pool, orderId -> payService.readyToPay(customer.getUsername(), new PayRequestDto(orderId)));
+
+        System.out.printf("transaction around call: peak active %d, peak waiting %d, %,d ms%n",
+                held.peakActive(), held.peakWaiting(), held.elapsedMillis());
+        System.out.printf("short transactions:      peak active %d, peak waiting %d, %,d ms%n",
+                released.peakActive(), released.peakWaiting(), released.elapsedMillis());
+        assertThat(released.peakActive()).isLessThan(held.peakActive());
+        assertThat(released.elapsedMillis()).isLessThan(held.elapsedMillis());
+    }
+
+    private Result run(HikariPoolMXBean pool, Consumer<UUID> call) throws Exception {
+        AtomicInteger peakActive = new AtomicInteger();
+        AtomicInteger peakWaiting = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+            peakWaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+        }, 0, 5, TimeUnit.MILLISECONDS);
+        ExecutorService clients = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (UUID orderId : orderIds) {
+                futures.add(clients.submit(() -> call.accept(orderId)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            return new Result(peakActive.get(), peakWaiting.get(), elapsedMillis);
+        } finally {
+            clients.shutdownNow();
+            sampler.shutdownNow();
+        }
+    }
+
+    private HikariPoolMXBean hikariPool() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+
+    private static void respondSlowly(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(GATEWAY_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = READY_BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private record Result(int peakActive, int peakWaiting, long elapsedMillis) {
+    }
+}
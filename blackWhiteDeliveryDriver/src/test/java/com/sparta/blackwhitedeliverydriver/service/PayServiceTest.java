@@ -0,0 +1,435 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.blackwhitedeliverydriver.cache.RowCountEstimateCache;
+import com.sparta.blackwhitedeliverydriver.client.KakaoPayClient;
+import com.sparta.blackwhitedeliverydriver.dto.Amount;
+import com.sparta.blackwhitedeliverydriver.dto.PayOrderResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.PayRequestDto;
+import com.sparta.blackwhitedeliverydriver.dto.RefundStatusResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.ArchivedOrder;
+import com.sparta.blackwhitedeliverydriver.entity.Order;
+import com.sparta.blackwhitedeliverydriver.entity.OrderStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.OrderTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Pay;
+import com.sparta.blackwhitedeliverydriver.entity.PayStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttempt;
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttemptStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttemptTypeEnum;
+import com.sparta.blackwhitedeliverydriver.entity.RefundOutbox;
+import com.sparta.blackwhitedeliverydriver.entity.RefundOutboxStatusEnum;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.exception.OrderExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.PayExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.repository.OrderProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.OrderRepository;
+import com.sparta.blackwhitedeliverydriver.repository.PayRepository;
+import com.sparta.blackwhitedeliverydriver.repository.PaymentAttemptRepository;
+import com.sparta.blackwhitedeliverydriver.repository.RefundOutboxRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.util.PayUtil;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+// 결제 시도 반영 (reconcile / applyApprove / applyRefund), 게이트웨이 호출 실패 분류 (callGateway), 환불 상태 조회
+// TransactionTemplate 은 mock 트랜잭션 매니저로 콜백만 그대로 실행
+class PayServiceTest {
+    PayService payService;
+
+    UserRepository userRepository = mock(UserRepository.class);
+    OrderRepository orderRepository = mock(OrderRepository.class);
+    PayRepository payRepository = mock(PayRepository.class);
+    OrderProductRepository orderProductRepository = mock(OrderProductRepository.class);
+    PaymentAttemptRepository paymentAttemptRepository = mock(PaymentAttemptRepository.class);
+    RefundOutboxRepository refundOutboxRepository = mock(RefundOutboxRepository.class);
+    PayUtil payUtil = mock(PayUtil.class);
+    KakaoPayClient kakaoPayClient = mock(KakaoPayClient.class);
+    OrderArchiveService orderArchiveService = mock(OrderArchiveService.class);
+    ArchivedOrderService archivedOrderService = mock(ArchivedOrderService.class);
+    RowCountEstimateCache rowCountEstimateCache = mock(RowCountEstimateCache.class);
+
+    User user;
+    User owner;
+    Order order;
+    // 요청 흐름에서 저장된 시도 (save 시 id 부여)
+    PaymentAttempt savedAttempt;
+
+    @BeforeEach
+    public void setUp() {
+        payService = new PayService(userRepository, orderRepository, payRepository, orderProductRepository,
+                paymentAttemptRepository, refundOutboxRepository, payUtil, kakaoPayClient, orderArchiveService,
+                archivedOrderService, rowCountEstimateCache, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        user = User.builder()
+                .username("user1")
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+        owner = User.builder()
+                .username("owner")
+                .role(UserRoleEnum.OWNER)
+                .build();
+        order = Order.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .store(Store.builder()
+                        .storeId(UUID.randomUUID())
+                        .storeName("store")
+                        .user(owner)
+                        .build())
+                .status(OrderStatusEnum.CREATE)
+                .type(OrderTypeEnum.ONLINE)
+                .tid("tid")
+                .finalPay(10000)
+                .build();
+
+        given(userRepository.findById(user.getUsername())).willReturn(Optional.of(user));
+        given(orderRepository.findById(order.getId())).willReturn(Optional.of(order));
+        given(orderRepository.findByTid("tid")).willReturn(Optional.of(order));
+        given(paymentAttemptRepository.save(any())).willAnswer(invocation -> {
+            PaymentAttempt attempt = invocation.getArgument(0);
+            savedAttempt = PaymentAttempt.builder()
+                    .id(UUID.randomUUID())
+                    .orderId(attempt.getOrderId())
+                    .type(attempt.getType())
+                    .status(attempt.getStatus())
+                    .tid(attempt.getTid())
+                    .amount(attempt.getAmount())
+                    .build();
+            return savedAttempt;
+        });
+        given(paymentAttemptRepository.findByIdForUpdate(any())).willAnswer(invocation -> Optional.ofNullable(savedAttempt));
+    }
+
+    @Test
+    @DisplayName("결제 시도 정리 : 승인 응답 유실 + 게이트웨이 승인 완료 -> 결제 생성, 주문 PENDING, 시도 SUCCEEDED")
+    void reconcile_approve() {
+        //given
+        PaymentAttempt attempt = pendingAttempt(PaymentAttemptTypeEnum.APPROVE);
+        PayOrderResponseDto orderResponse = orderResponse("SUCCESS_PAYMENT");
+        given(kakaoPayClient.order(any())).willReturn(orderResponse);
+
+        //when
+        payService.reconcile(attempt.getId());
+
+        //then
+        ArgumentCaptor<Pay> payCaptor = ArgumentCaptor.forClass(Pay.class);
+        verify(payRepository).save(payCaptor.capture());
+        assertEquals("tid", payCaptor.getValue().getTid());
+        assertEquals(10000, payCaptor.getValue().getPayAmount());
+        assertEquals(PayStatusEnum.SUCCESS, payCaptor.getValue().getPayStatus());
+        assertEquals(OrderStatusEnum.PENDING, order.getStatus());
+        assertEquals(PaymentAttemptStatusEnum.SUCCEEDED, attempt.getStatus());
+    }
+
+    @Test
+    @DisplayName("결제 시도 정리 : 게이트웨이에서 승인되지 않은 결제 -> 시도 FAILED (게이트웨이 상태 기록)")
+    void reconcile_approveNotPaid() {
+        //given
+        PaymentAttempt attempt = pendingAttempt(PaymentAttemptTypeEnum.APPROVE);
+        PayOrderResponseDto orderResponse = orderResponse("QUIT_PAYMENT");
+        given(kakaoPayClient.order(any())).willReturn(orderResponse);
+
+        //when
+        payService.reconcile(attempt.getId());
+
+        //then
+        verify(payRepository, never()).save(any());
+        assertEquals(OrderStatusEnum.CREATE, order.getStatus());
+        assertEquals(PaymentAttemptStatusEnum.FAILED, attempt.getStatus());
+        assertEquals("QUIT_PAYMENT", attempt.getFailReason());
+    }
+
+    @Test
+    @DisplayName("결제 시도 정리 : 환불 응답 유실 + 게이트웨이 취소 완료 -> 결제 REFUND, 주문 CANCEL")
+    void reconcile_refund() {
+        //given
+        PaymentAttempt attempt = pendingAttempt(PaymentAttemptTypeEnum.REFUND);
+        Pay pay = pay();
+        given(payRepository.findByOrder(order)).willReturn(Optional.of(pay));
+        PayOrderResponseDto orderResponse = orderResponse("CANCEL_PAYMENT");
+        given(kakaoPayClient.order(any())).willReturn(orderResponse);
+
+        //when
+        payService.reconcile(attempt.getId());
+
+        //then
+        assertEquals(PayStatusEnum.REFUND, pay.getPayStatus());
+        assertEquals(10000, pay.getRefundAmount());
+        assertEquals(OrderStatusEnum.CANCEL, order.getStatus());
+        assertEquals(PaymentAttemptStatusEnum.SUCCEEDED, attempt.getStatus());
+    }
+
+    @Test
+    @DisplayName("결제 시도 정리 : 결제 준비는 게이트웨이 조회 없이 FAILED")
+    void reconcile_ready() {
+        //given
+        PaymentAttempt attempt = pendingAttempt(PaymentAttemptTypeEnum.READY);
+
+        //when
+        payService.reconcile(attempt.getId());
+
+        //then
+        verify(kakaoPayClient, never()).order(any());
+        assertEquals(PaymentAttemptStatusEnum.FAILED, attempt.getStatus());
+    }
+
+    @Test
+    @DisplayName("결제 시도 정리 : 이미 확정된 시도는 건너뜀")
+    void reconcile_notPending() {
+        //given
+        PaymentAttempt attempt = pendingAttempt(PaymentAttemptTypeEnum.APPROVE);
+        attempt.succeed("tid");
+
+        //when
+        payService.reconcile(attempt.getId());
+
+        //then
+        verify(kakaoPayClient, never()).order(any());
+        verify(payRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("승인 반영 : 잠근 뒤 보니 요청 스레드가 먼저 반영 -> 결제를 다시 만들지 않음")
+    void applyApprove_alreadyApplied() {
+        //given
+        PaymentAttempt attempt = pendingAttempt(PaymentAttemptTypeEnum.APPROVE);
+        PaymentAttempt locked = PaymentAttempt.builder()
+                .id(attempt.getId())
+                .orderId(order.getId())
+                .type(PaymentAttemptTypeEnum.APPROVE)
+                .status(PaymentAttemptStatusEnum.SUCCEEDED)
+                .tid("tid")
+                .build();
+        given(paymentAttemptRepository.findByIdForUpdate(attempt.getId())).willReturn(Optional.of(locked));
+        PayOrderResponseDto orderResponse = orderResponse("SUCCESS_PAYMENT");
+        given(kakaoPayClient.order(any())).willReturn(orderResponse);
+
+        //when
+        payService.reconcile(attempt.getId());
+
+        //then
+        verify(payRepository, never()).save(any());
+        assertEquals(OrderStatusEnum.CREATE, order.getStatus());
+    }
+
+    @Test
+    @DisplayName("승인 반영 : 주문에 결제가 이미 있으면 새로 저장하지 않고 시도만 확정")
+    void applyApprove_existingPay() {
+        //given
+        PaymentAttempt attempt = pendingAttempt(PaymentAttemptTypeEnum.APPROVE);
+        given(payRepository.findByOrder(order)).willReturn(Optional.of(pay()));
+        PayOrderResponseDto orderResponse = orderResponse("SUCCESS_PAYMENT");
+        given(kakaoPayClient.order(any())).willReturn(orderResponse);
+
+        //when
+        payService.reconcile(attempt.getId());
+
+        //then
+        verify(payRepository, never()).save(any());
+        assertEquals(OrderStatusEnum.PENDING, order.getStatus());
+        assertEquals(PaymentAttemptStatusEnum.SUCCEEDED, attempt.getStatus());
+    }
+
+    @Test
+    @DisplayName("게이트웨이 호출 : 게이트웨이가 거절(4xx) -> 결과 확정, 시도 FAILED")
+    void callGateway_rejected() {
+        //given
+        given(kakaoPayClient.approve(any())).willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        //when & then
+        assertThrows(HttpClientErrorException.class, () -> payService.approvePay(user.getUsername(), "pgToken", "tid"));
+        assertEquals(PaymentAttemptStatusEnum.FAILED, savedAttempt.getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST.toString(), savedAttempt.getFailReason());
+        verify(payRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("게이트웨이 호출 : 승인 타임아웃 -> 결과를 모르므로 PENDING 유지 (정리 작업이 확정)")
+    void callGateway_approveTimeout() {
+        //given
+        given(kakaoPayClient.approve(any())).willThrow(new ResourceAccessException("Read timed out"));
+
+        //when & then
+        assertThrows(ResourceAccessException.class, () -> payService.approvePay(user.getUsername(), "pgToken", "tid"));
+        assertEquals(PaymentAttemptStatusEnum.PENDING, savedAttempt.getStatus());
+        assertEquals(OrderStatusEnum.CREATE, order.getStatus());
+    }
+
+    @Test
+    @DisplayName("게이트웨이 호출 : 결제 준비 타임아웃 -> 금액 이동이 없으므로 바로 FAILED")
+    void callGateway_readyTimeout() {
+        //given
+        given(kakaoPayClient.ready(any())).willThrow(new ResourceAccessException("Read timed out"));
+
+        //when & then
+        assertThrows(ResourceAccessException.class,
+                () -> payService.readyToPay(user.getUsername(), new PayRequestDto(order.getId())));
+        assertEquals(PaymentAttemptTypeEnum.READY, savedAttempt.getType());
+        assertEquals(PaymentAttemptStatusEnum.FAILED, savedAttempt.getStatus());
+    }
+
+    @Test
+    @DisplayName("환불 상태 조회 성공 : 주문 유저는 재시도 횟수 / 마지막 오류까지 확인")
+    void getRefundStatus() {
+        //given
+        RefundOutbox refundOutbox = refundOutbox();
+        refundOutbox.retry("Read timed out", LocalDateTime.now().plusSeconds(5));
+        given(refundOutboxRepository.findByOrderId(order.getId())).willReturn(Optional.of(refundOutbox));
+
+        //when
+        RefundStatusResponseDto response = payService.getRefundStatus(user.getUsername(), order.getId());
+
+        //then
+        assertEquals(order.getId(), response.getOrderId());
+        assertEquals(RefundOutboxStatusEnum.PENDING, response.getStatus());
+        assertEquals(10000, response.getAmount());
+        assertEquals(1, response.getAttemptCount());
+        assertEquals("Read timed out", response.getLastError());
+    }
+
+    @Test
+    @DisplayName("환불 상태 조회 성공 : 점포 주인")
+    void getRefundStatus_owner() {
+        //given
+        given(userRepository.findById(owner.getUsername())).willReturn(Optional.of(owner));
+        given(refundOutboxRepository.findByOrderId(order.getId())).willReturn(Optional.of(refundOutbox()));
+
+        //when
+        RefundStatusResponseDto response = payService.getRefundStatus(owner.getUsername(), order.getId());
+
+        //then
+        assertEquals(RefundOutboxStatusEnum.PROCESSING, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("환불 상태 조회 실패 : 다른 유저의 주문 / 다른 점포 주인")
+    void getRefundStatus_notAllowed() {
+        //given
+        User other = User.builder()
+                .username("user2")
+                .role(UserRoleEnum.CUSTOMER)
+                .build();
+        User otherOwner = User.builder()
+                .username("owner2")
+                .role(UserRoleEnum.OWNER)
+                .build();
+        given(userRepository.findById(other.getUsername())).willReturn(Optional.of(other));
+        given(userRepository.findById(otherOwner.getUsername())).willReturn(Optional.of(otherOwner));
+        given(refundOutboxRepository.findByOrderId(order.getId())).willReturn(Optional.of(refundOutbox()));
+
+        //when & then
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> payService.getRefundStatus(other.getUsername(), order.getId()));
+        assertEquals(OrderExceptionMessage.ORDER_USER_NOT_EQUALS.getMessage(), exception.getMessage());
+        exception = assertThrows(IllegalArgumentException.class,
+                () -> payService.getRefundStatus(otherOwner.getUsername(), order.getId()));
+        assertEquals(OrderExceptionMessage.ORDER_USER_NOT_EQUALS.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("환불 상태 조회 실패 : 환불 요청이 없는 주문")
+    void getRefundStatus_notFound() {
+        //given
+        given(refundOutboxRepository.findByOrderId(order.getId())).willReturn(Optional.empty());
+
+        //when & then
+        Exception exception = assertThrows(NullPointerException.class,
+                () -> payService.getRefundStatus(user.getUsername(), order.getId()));
+        assertEquals(PayExceptionMessage.REFUND_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("환불 상태 조회 성공 : 보관 기간이 지나 아카이브로 옮겨진 주문")
+    void getRefundStatus_archived() {
+        //given
+        UUID archivedOrderId = UUID.randomUUID();
+        ArchivedOrder archivedOrder = ArchivedOrder.builder()
+                .id(archivedOrderId)
+                .user(user)
+                .store(order.getStore())
+                .status(OrderStatusEnum.REJECTED)
+                .build();
+        given(orderRepository.findById(archivedOrderId)).willReturn(Optional.empty());
+        given(archivedOrderService.findOrder(archivedOrderId)).willReturn(Optional.of(archivedOrder));
+        RefundOutbox refundOutbox = refundOutbox();
+        refundOutbox.succeed();
+        given(refundOutboxRepository.findByOrderId(archivedOrderId)).willReturn(Optional.of(refundOutbox));
+
+        //when
+        RefundStatusResponseDto response = payService.getRefundStatus(user.getUsername(), archivedOrderId);
+
+        //then
+        assertEquals(RefundOutboxStatusEnum.SUCCEEDED, response.getStatus());
+        assertNotNull(response.getCompletedAt());
+    }
+
+    // 워커가 점유 중인 환불 요청
+    private RefundOutbox refundOutbox() {
+        return RefundOutbox.builder()
+                .orderId(order.getId())
+                .tid("tid")
+                .amount(10000)
+                .status(RefundOutboxStatusEnum.PROCESSING)
+                .attemptCount(0)
+                .nextAttemptAt(LocalDateTime.now().plusSeconds(75))
+                .build();
+    }
+
+    private PaymentAttempt pendingAttempt(PaymentAttemptTypeEnum type) {
+        PaymentAttempt attempt = PaymentAttempt.builder()
+                .id(UUID.randomUUID())
+                .orderId(order.getId())
+                .type(type)
+                .status(PaymentAttemptStatusEnum.PENDING)
+                .tid("tid")
+                .amount(10000)
+                .build();
+        savedAttempt = attempt;
+        given(paymentAttemptRepository.findById(attempt.getId())).willReturn(Optional.of(attempt));
+        return attempt;
+    }
+
+    private Pay pay() {
+        return Pay.builder()
+                .order(order)
+                .tid("tid")
+                .itemName("김밥")
+                .payStatus(PayStatusEnum.SUCCESS)
+                .payAmount(10000)
+                .build();
+    }
+
+    // 게이트웨이 결제 상태 조회 응답 (setter 없는 DTO -> mock)
+    private PayOrderResponseDto orderResponse(String status) {
+        Amount amount = mock(Amount.class);
+        given(amount.getTotal()).willReturn(10000);
+        PayOrderResponseDto response = mock(PayOrderResponseDto.class);
+        given(response.getStatus()).willReturn(status);
+        given(response.getTid()).willReturn("tid");
+        given(response.getItem_name()).willReturn("김밥");
+        given(response.getAmount()).willReturn(amount);
+        given(response.getCanceled_amount()).willReturn(amount);
+        given(response.getApproved_at()).willReturn("2024-01-01T12:00:00");
+        given(response.getCanceled_at()).willReturn("2024-01-01T12:10:00");
+        return response;
+    }
+}
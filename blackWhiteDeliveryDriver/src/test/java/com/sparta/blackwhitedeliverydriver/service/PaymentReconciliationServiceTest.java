@@ -0,0 +1,60 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.blackwhitedeliverydriver.entity.PaymentAttemptStatusEnum;
+import com.sparta.blackwhitedeliverydriver.repository.PaymentAttemptRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+class PaymentReconciliationServiceTest {
+    PaymentAttemptRepository paymentAttemptRepository = mock(PaymentAttemptRepository.class);
+    PayService payService = mock(PayService.class);
+
+    List<UUID> attemptIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    @BeforeEach
+    public void setUp() {
+        given(paymentAttemptRepository.findIdsByStatusAndCreatedDateBefore(eq(PaymentAttemptStatusEnum.PENDING), any(), any()))
+                .willReturn(attemptIds);
+    }
+
+    @Test
+    @DisplayName("결제 시도 정리 : 한 건이 실패해도 나머지 시도는 계속 정리")
+    void reconcile() {
+        //given
+        PaymentReconciliationService reconciliationService =
+                new PaymentReconciliationService(paymentAttemptRepository, payService, 60, 100, 30);
+        willThrow(new ResourceAccessException("Read timed out")).given(payService).reconcile(attemptIds.get(0));
+
+        //when
+        reconciliationService.reconcile();
+
+        //then
+        attemptIds.forEach(attemptId -> verify(payService).reconcile(attemptId));
+    }
+
+    @Test
+    @DisplayName("결제 시도 정리 : 한 주기 처리 시간을 넘기면 남은 시도는 다음 주기로")
+    void reconcile_maxPass() {
+        //given
+        PaymentReconciliationService reconciliationService =
+                new PaymentReconciliationService(paymentAttemptRepository, payService, 60, 100, 0);
+
+        //when
+        reconciliationService.reconcile();
+
+        //then
+        verify(payService, never()).reconcile(any());
+    }
+}
@@ -0,0 +1,242 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.blackwhitedeliverydriver.cache.MenuCache;
+import com.sparta.blackwhitedeliverydriver.config.SoftDeleteFilter;
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportErrorDto;
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportResponseDto;
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportRowDto;
+import com.sparta.blackwhitedeliverydriver.entity.Product;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.exception.ProductExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.exception.StoreExceptionMessage;
+import com.sparta.blackwhitedeliverydriver.repository.ProductRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import com.sparta.blackwhitedeliverydriver.security.UserDetailsImpl;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductServiceTest {
+    ProductService productService;
+
+    StoreRepository storeRepository = mock(StoreRepository.class);
+    ProductRepository productRepository = mock(ProductRepository.class);
+    UserRepository userRepository = mock(UserRepository.class);
+    MenuCache menuCache = mock(MenuCache.class);
+    EntityManager entityManager = mock(EntityManager.class);
+    SoftDeleteFilter softDeleteFilter = mock(SoftDeleteFilter.class);
+
+    User owner;
+    Store store;
+    // saveAll 에 넘긴 목록은 호출 후 비워지므로 호출 시점에 기록
+    List<Integer> savedChunkSizes = new ArrayList<>();
+    List<String> savedNames = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        productService = new ProductService(storeRepository, productRepository, userRepository, menuCache, entityManager,
+                softDeleteFilter);
+        owner = User.builder()
+                .username("owner")
+                .role(UserRoleEnum.OWNER)
+                .build();
+        store = Store.builder()
+                .storeId(UUID.randomUUID())
+                .storeName("store")
+                .user(owner)
+                .build();
+
+        given(softDeleteFilter.includeDeleted(any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        given(userRepository.findById(owner.getUsername())).willReturn(Optional.of(owner));
+        given(storeRepository.findById(store.getStoreId())).willReturn(Optional.of(store));
+        given(productRepository.findAllNamesByStoreId(store.getStoreId())).willReturn(new HashSet<>());
+        given(productRepository.saveAll(any())).willAnswer(invocation -> {
+            List<Product> chunk = invocation.getArgument(0);
+            savedChunkSizes.add(chunk.size());
+            chunk.forEach(product -> savedNames.add(product.getName()));
+            return chunk;
+        });
+    }
+
+    @Test
+    @DisplayName("음식 일괄 등록 성공 : 배치 단위 저장 후 영속성 컨텍스트 비움, 메뉴 캐시 제거")
+    void importProducts() {
+        //given
+        List<ProductImportRowDto> rows = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            rows.add(row("음식" + i, 1000));
+        }
+
+        //when
+        ProductImportResponseDto response = productService.importProducts(store.getStoreId(), rows, new UserDetailsImpl(owner));
+
+        //then
+        assertEquals(250, response.getTotalCnt());
+        assertEquals(250, response.getImportedCnt());
+        assertEquals(0, response.getErrors().size());
+        assertEquals(List.of(100, 100, 50), savedChunkSizes);
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+        verify(menuCache).evictAfterCommit(store.getStoreId());
+    }
+
+    @Test
+    @DisplayName("음식 일괄 등록 : 잘못된 행만 행 번호와 함께 오류로 보고하고 나머지는 등록")
+    void importProducts_rowErrors() {
+        //given
+        List<ProductImportRowDto> rows = List.of(
+                row("김밥", 8000),
+                ProductImportRowDto.builder().productName("라면").price(9000).imgUrl(" ").productIntro("소개").build(),
+                row("떡볶이", null),
+                row("순대", -1),
+                ProductImportRowDto.builder().price(1000).imgUrl("img.png").productIntro("소개").build(),
+                row("튀김", 0));
+
+        //when
+        ProductImportResponseDto response = productService.importProducts(store.getStoreId(), rows, new UserDetailsImpl(owner));
+
+        //then
+        assertEquals(6, response.getTotalCnt());
+        assertEquals(2, response.getImportedCnt());
+        assertEquals(List.of("김밥", "튀김"), savedNames);
+        List<ProductImportErrorDto> errors = response.getErrors();
+        assertEquals(4, errors.size());
+        assertError(errors.get(0), 2, "라면", ProductExceptionMessage.REQUIRED_FIELD_MISSING);
+        assertError(errors.get(1), 3, "떡볶이", ProductExceptionMessage.INVALID_PRICE);
+        assertError(errors.get(2), 4, "순대", ProductExceptionMessage.INVALID_PRICE);
+        assertError(errors.get(3), 5, null, ProductExceptionMessage.REQUIRED_FIELD_MISSING);
+    }
+
+    @Test
+    @DisplayName("음식 일괄 등록 : 파일 안에서 중복된 이름은 첫 행만 등록")
+    void importProducts_duplicateInFile() {
+        //given
+        List<ProductImportRowDto> rows = List.of(row("김밥", 8000), row("라면", 9000), row("김밥", 7000));
+
+        //when
+        ProductImportResponseDto response = productService.importProducts(store.getStoreId(), rows, new UserDetailsImpl(owner));
+
+        //then
+        assertEquals(2, response.getImportedCnt());
+        assertEquals(List.of("김밥", "라면"), savedNames);
+        assertEquals(1, response.getErrors().size());
+        assertError(response.getErrors().get(0), 3, "김밥", ProductExceptionMessage.DUPLICATED_STORE_NAME);
+    }
+
+    @Test
+    @DisplayName("음식 일괄 등록 : 삭제된 음식 이름과도 중복 검사 (삭제 필터 해제 후 조회)")
+    void importProducts_duplicateDeletedName() {
+        //given
+        given(productRepository.findAllNamesByStoreId(store.getStoreId())).willReturn(new HashSet<>(Set.of("삭제된 김밥")));
+        List<ProductImportRowDto> rows = List.of(row("삭제된 김밥", 8000), row("라면", 9000));
+
+        //when
+        ProductImportResponseDto response = productService.importProducts(store.getStoreId(), rows, new UserDetailsImpl(owner));
+
+        //then
+        verify(softDeleteFilter).includeDeleted(any());
+        assertEquals(1, response.getImportedCnt());
+        assertEquals(List.of("라면"), savedNames);
+        assertError(response.getErrors().get(0), 1, "삭제된 김밥", ProductExceptionMessage.DUPLICATED_STORE_NAME);
+    }
+
+    @Test
+    @DisplayName("음식 일괄 등록 실패 : 최대 행 수 초과 -> 조회 없이 거절")
+    void importProducts_rowLimit() {
+        //given
+        List<ProductImportRowDto> rows = Collections.nCopies(ProductService.MAX_IMPORT_ROWS + 1, row("김밥", 8000));
+
+        //when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> productService.importProducts(store.getStoreId(), rows, new UserDetailsImpl(owner)));
+        assertEquals(ProductExceptionMessage.IMPORT_ROW_LIMIT_EXCEEDED.getMessage(), exception.getMessage());
+        verify(userRepository, never()).findById(any());
+        verify(productRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("음식 일괄 등록 실패 : 최대 행 수까지는 허용")
+    void importProducts_rowLimitBoundary() {
+        //given
+        List<ProductImportRowDto> rows = new ArrayList<>();
+        for (int i = 0; i < ProductService.MAX_IMPORT_ROWS; i++) {
+            rows.add(row("음식" + i, 1000));
+        }
+
+        //when
+        ProductImportResponseDto response = productService.importProducts(store.getStoreId(), rows, new UserDetailsImpl(owner));
+
+        //then
+        assertEquals(ProductService.MAX_IMPORT_ROWS, response.getImportedCnt());
+    }
+
+    @Test
+    @DisplayName("음식 일괄 등록 실패 : 다른 점주의 가게")
+    void importProducts_notOwner() {
+        //given
+        User otherOwner = User.builder()
+                .username("other")
+                .role(UserRoleEnum.OWNER)
+                .build();
+        given(userRepository.findById(otherOwner.getUsername())).willReturn(Optional.of(otherOwner));
+
+        //when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> productService.importProducts(store.getStoreId(), List.of(row("김밥", 8000)), new UserDetailsImpl(otherOwner)));
+        assertEquals(StoreExceptionMessage.FORBIDDEN_ACCESS.getMessage(), exception.getMessage());
+        verify(productRepository, never()).saveAll(any());
+        verify(menuCache, never()).evictAfterCommit(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("음식 일괄 등록 실패 : 점주가 아닌 관리자")
+    void importProducts_notOwnerRole() {
+        //given
+        User master = User.builder()
+                .username("owner")
+                .role(UserRoleEnum.MASTER)
+                .build();
+        given(userRepository.findById(master.getUsername())).willReturn(Optional.of(master));
+
+        //when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.importProducts(store.getStoreId(), List.of(row("김밥", 8000)), new UserDetailsImpl(master)));
+        verify(productRepository, never()).saveAll(any());
+    }
+
+    private ProductImportRowDto row(String productName, Integer price) {
+        return ProductImportRowDto.builder()
+                .productName(productName)
+                .price(price)
+                .imgUrl("img.png")
+                .productIntro("소개")
+                .build();
+    }
+
+    private void assertError(ProductImportErrorDto error, int rowNum, String productName, ProductExceptionMessage message) {
+        assertEquals(rowNum, error.getRowNum());
+        assertEquals(productName, error.getProductName());
+        assertEquals(message.getMessage(), error.getMessage());
+    }
+}
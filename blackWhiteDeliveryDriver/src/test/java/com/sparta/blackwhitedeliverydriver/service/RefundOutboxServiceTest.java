@@ -0,0 +1,193 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.blackwhitedeliverydriver.entity.RefundOutbox;
+import com.sparta.blackwhitedeliverydriver.entity.RefundOutboxStatusEnum;
+import com.sparta.blackwhitedeliverydriver.repository.RefundOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+// 워커 1개 -> drain 후 destroy(워커 종료 대기)로 처리 완료를 기다림
+// 배치 2, 환불 1건 점유 15초, 최대 5회, 백오프 5초 ~ 8초
+class RefundOutboxServiceTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 5;
+
+    RefundOutboxService refundOutboxService;
+
+    RefundOutboxRepository refundOutboxRepository = mock(RefundOutboxRepository.class);
+    PayService payService = mock(PayService.class);
+
+    RefundOutbox outbox;
+
+    @BeforeEach
+    public void setUp() {
+        refundOutboxService = new RefundOutboxService(refundOutboxRepository, payService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 1, BATCH_SIZE, 15, MAX_ATTEMPTS, 5, 8);
+        outbox = processing(0);
+        given(refundOutboxRepository.claimDue(any(), any(), anyInt())).willReturn(List.of(outbox.getId()), List.of());
+        given(refundOutboxRepository.findById(outbox.getId())).willReturn(Optional.of(outbox));
+    }
+
+    @Test
+    @DisplayName("환불 처리 성공 : SUCCEEDED, 완료 시각 기록")
+    void drain() throws InterruptedException {
+        //when
+        drainAndWait();
+
+        //then
+        verify(payService).refundPaymentByReject(outbox.getOrderId());
+        assertEquals(RefundOutboxStatusEnum.SUCCEEDED, outbox.getStatus());
+        assertNotNull(outbox.getCompletedAt());
+    }
+
+    @Test
+    @DisplayName("점유 만료 = 배치 크기 x 환불 1건 점유 시간")
+    void drain_lease() throws InterruptedException {
+        //when
+        drainAndWait();
+
+        //then
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(refundOutboxRepository).claimDue(now.capture(), leaseUntil.capture(), eq(BATCH_SIZE));
+        assertEquals(Duration.ofSeconds(15L * BATCH_SIZE), Duration.between(now.getValue(), leaseUntil.getValue()));
+    }
+
+    @Test
+    @DisplayName("환불 실패 : PENDING 으로 되돌리고 백오프 후 다시 시도")
+    void drain_retry() throws InterruptedException {
+        //given
+        willThrow(new ResourceAccessException("Read timed out")).given(payService).refundPaymentByReject(outbox.getOrderId());
+        LocalDateTime before = LocalDateTime.now();
+
+        //when
+        drainAndWait();
+
+        //then
+        assertEquals(RefundOutboxStatusEnum.PENDING, outbox.getStatus());
+        assertEquals(1, outbox.getAttemptCount());
+        assertEquals("Read timed out", outbox.getLastError());
+        assertBackoff(before, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("환불 실패 : 백오프는 backoff-max 를 넘지 않음 (3번째 시도 20초 -> 8초)")
+    void drain_backoffMax() throws InterruptedException {
+        //given
+        outbox = processing(2);
+        given(refundOutboxRepository.claimDue(any(), any(), anyInt())).willReturn(List.of(outbox.getId()), List.of());
+        given(refundOutboxRepository.findById(outbox.getId())).willReturn(Optional.of(outbox));
+        willThrow(new ResourceAccessException("Read timed out")).given(payService).refundPaymentByReject(outbox.getOrderId());
+        LocalDateTime before = LocalDateTime.now();
+
+        //when
+        drainAndWait();
+
+        //then
+        assertEquals(RefundOutboxStatusEnum.PENDING, outbox.getStatus());
+        assertEquals(3, outbox.getAttemptCount());
+        assertBackoff(before, Duration.ofSeconds(8));
+    }
+
+    @Test
+    @DisplayName("환불 실패 : 최대 시도 횟수에 도달하면 FAILED")
+    void drain_maxAttempts() throws InterruptedException {
+        //given
+        outbox = processing(MAX_ATTEMPTS - 1);
+        given(refundOutboxRepository.claimDue(any(), any(), anyInt())).willReturn(List.of(outbox.getId()), List.of());
+        given(refundOutboxRepository.findById(outbox.getId())).willReturn(Optional.of(outbox));
+        willThrow(new ResourceAccessException("Read timed out")).given(payService).refundPaymentByReject(outbox.getOrderId());
+
+        //when
+        drainAndWait();
+
+        //then
+        assertEquals(RefundOutboxStatusEnum.FAILED, outbox.getStatus());
+        assertEquals(MAX_ATTEMPTS, outbox.getAttemptCount());
+        assertNotNull(outbox.getCompletedAt());
+    }
+
+    @Test
+    @DisplayName("점유 후 이미 처리된 요청 (다른 노드가 완료) -> 게이트웨이 호출 없음")
+    void drain_notProcessing() throws InterruptedException {
+        //given
+        outbox.succeed();
+
+        //when
+        drainAndWait();
+
+        //then
+        verify(payService, never()).refundPaymentByReject(any());
+    }
+
+    @Test
+    @DisplayName("환불 실패 후 결과 반영 시점에 점유를 잃은 요청 (점유 만료 후 다시 가져감) -> 상태를 바꾸지 않음")
+    void drain_leaseLost() throws InterruptedException {
+        //given
+        RefundOutbox requeued = RefundOutbox.builder()
+                .id(outbox.getId())
+                .orderId(outbox.getOrderId())
+                .tid(outbox.getTid())
+                .amount(outbox.getAmount())
+                .status(RefundOutboxStatusEnum.PENDING)
+                .attemptCount(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        given(refundOutboxRepository.findById(outbox.getId())).willReturn(Optional.of(outbox), Optional.of(requeued));
+        willThrow(new ResourceAccessException("Read timed out")).given(payService).refundPaymentByReject(outbox.getOrderId());
+
+        //when
+        drainAndWait();
+
+        //then
+        assertEquals(RefundOutboxStatusEnum.PENDING, requeued.getStatus());
+        assertEquals(0, requeued.getAttemptCount());
+        assertNull(requeued.getLastError());
+    }
+
+    private void drainAndWait() throws InterruptedException {
+        refundOutboxService.drain();
+        refundOutboxService.destroy();
+    }
+
+    private void assertBackoff(LocalDateTime before, Duration backoff) {
+        LocalDateTime nextAttemptAt = outbox.getNextAttemptAt();
+        assertTrue(!nextAttemptAt.isBefore(before.plus(backoff)));
+        assertTrue(!nextAttemptAt.isAfter(LocalDateTime.now().plus(backoff)));
+    }
+
+    private RefundOutbox processing(int attemptCount) {
+        return RefundOutbox.builder()
+                .id(UUID.randomUUID())
+                .orderId(UUID.randomUUID())
+                .tid("tid")
+                .amount(10000)
+                .status(RefundOutboxStatusEnum.PROCESSING)
+                .attemptCount(attemptCount)
+                .nextAttemptAt(LocalDateTime.now().plusSeconds(30))
+                .build();
+    }
+}
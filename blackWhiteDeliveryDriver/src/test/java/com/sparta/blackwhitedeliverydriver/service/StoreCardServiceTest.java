@@ -0,0 +1,99 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.blackwhitedeliverydriver.cache.CategoryDictionary;
+import com.sparta.blackwhitedeliverydriver.config.SoftDeleteFilter;
+import com.sparta.blackwhitedeliverydriver.entity.Category;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.StoreCategory;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCardRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCategoryRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StoreCardServiceTest {
+    StoreCardService storeCardService;
+
+    StoreCardRepository storeCardRepository = mock(StoreCardRepository.class);
+    StoreRepository storeRepository = mock(StoreRepository.class);
+    StoreCategoryRepository storeCategoryRepository = mock(StoreCategoryRepository.class);
+    CategoryDictionary categoryDictionary = mock(CategoryDictionary.class);
+    SoftDeleteFilter softDeleteFilter = mock(SoftDeleteFilter.class);
+
+    @BeforeEach
+    public void setUp() {
+        storeCardService = new StoreCardService(storeCardRepository, storeRepository, storeCategoryRepository,
+                categoryDictionary, softDeleteFilter);
+    }
+
+    @Test
+    @DisplayName("카테고리 이름 조회 성공 : 연결 순서와 관계없이 이름순 (SQL 재계산과 같은 문자열)")
+    void getCategoryNames_sorted() {
+        //given
+        Store store1 = Store.builder().storeId(UUID.randomUUID()).build();
+        Store store2 = Store.builder().storeId(UUID.randomUUID()).build();
+        Category chicken = category("치킨");
+        Category pizza = category("피자");
+        Category korean = category("한식");
+        Category burger = category("Burger");
+
+        given(storeCategoryRepository.findAllByStoreIds(any())).willReturn(List.of(
+                StoreCategory.from(store1, korean),
+                StoreCategory.from(store1, pizza),
+                StoreCategory.from(store2, pizza),
+                StoreCategory.from(store1, chicken),
+                StoreCategory.from(store2, burger)));
+
+        //when
+        Map<UUID, String> categoryNames = storeCardService.getCategoryNames(List.of(store1.getStoreId(), store2.getStoreId()));
+
+        //then
+        assertEquals("치킨, 피자, 한식", categoryNames.get(store1.getStoreId()));
+        assertEquals("Burger, 피자", categoryNames.get(store2.getStoreId()));
+    }
+
+    @Test
+    @DisplayName("카테고리 이름 조회 성공 : 점포가 없으면 조회하지 않음")
+    void getCategoryNames_empty() {
+        //when
+        Map<UUID, String> categoryNames = storeCardService.getCategoryNames(List.of());
+
+        //then
+        assertTrue(categoryNames.isEmpty());
+        verify(storeCategoryRepository, never()).findAllByStoreIds(any());
+    }
+
+    @Test
+    @DisplayName("카테고리 이름 조회 실패 : 사전에 없는 카테고리")
+    void getCategoryNames_fail() {
+        //given
+        Store store = Store.builder().storeId(UUID.randomUUID()).build();
+        Category category = Category.builder().categoryId(UUID.randomUUID()).name("치킨").build();
+
+        given(storeCategoryRepository.findAllByStoreIds(any())).willReturn(List.of(StoreCategory.from(store, category)));
+        given(categoryDictionary.findNameById(category.getCategoryId())).willReturn(Optional.empty());
+
+        //when & then
+        assertThrows(NullPointerException.class, () -> storeCardService.getCategoryNames(List.of(store.getStoreId())));
+    }
+
+    private Category category(String name) {
+        Category category = Category.builder().categoryId(UUID.randomUUID()).name(name).build();
+        given(categoryDictionary.findNameById(category.getCategoryId())).willReturn(Optional.of(name));
+        return category;
+    }
+}
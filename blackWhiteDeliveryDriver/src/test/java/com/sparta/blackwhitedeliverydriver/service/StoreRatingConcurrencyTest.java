@@ -0,0 +1,139 @@
+package com.sparta.blackwhitedeliverydriver.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sparta.blackwhitedeliverydriver.dto.StoreRatingResponseDto;
+import com.sparta.blackwhitedeliverydriver.entity.Store;
+import com.sparta.blackwhitedeliverydriver.entity.User;
+import com.sparta.blackwhitedeliverydriver.entity.UserRoleEnum;
+import com.sparta.blackwhitedeliverydriver.repository.StoreCardRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRatingDeltaRepository;
+import com.sparta.blackwhitedeliverydriver.repository.StoreRepository;
+import com.sparta.blackwhitedeliverydriver.repository.UserRepository;
+import java.time.LocalTime;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class StoreRatingConcurrencyTest {
+    private static final int REVIEW_CNT = 2000;
+    private static final int THREAD_CNT = 32;
+
+    @Autowired
+    StoreRatingService storeRatingService;
+    @Autowired
+    StoreRatingDeltaRepository storeRatingDeltaRepository;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    StoreCardRepository storeCardRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    User owner;
+    Store store;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = userRepository.save(User.builder()
+                .username("owner" + suffix)
+                .email("owner" + suffix + "@test.com")
+                .password("password")
+                .phoneNumber("010" + suffix)
+                .role(UserRoleEnum.OWNER)
+                .publicProfile(true)
+                .build());
+        store = storeRepository.save(Store.builder()
+                .storeName("store" + suffix)
+                .phoneNumber("01012345678")
+                .status(true)
+                .openTime(LocalTime.of(9, 0))
+                .closeTime(LocalTime.of(21, 0))
+                .zipNum("12345")
+                .city("서울시")
+                .district("강남구")
+                .streetName("테헤란로")
+                .streetNumber("1")
+                .detailAddr("1층")
+                .storeIntro("소개")
+                .isPublic(true)
+                .rating(0)
+                .reviewCnt(0)
+                .oneStarCnt(0)
+                .twoStarCnt(0)
+                .threeStarCnt(0)
+                .fourStarCnt(0)
+                .fiveStarCnt(0)
+                .avgRating(0.0)
+                .user(owner)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        storeCardRepository.deleteById(store.getStoreId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUsername());
+    }
+
+    @Test
+    @DisplayName("동시 리뷰 평점 집계 성공")
+    void addRatingConcurrently() throws InterruptedException {
+        //given
+        UUID storeId = store.getStoreId();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_CNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(REVIEW_CNT);
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        //when
+        for (int i = 0; i < REVIEW_CNT; i++) {
+            int rating = i % 5 + 1;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    storeRatingService.addRating(storeId, rating);
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        Assertions.assertTrue(doneLatch.await(60, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        // 스케줄러가 잠근 변경분은 건너뛰므로 모두 합산될 때까지 반복
+        for (int i = 0; i < 100 && storeRatingDeltaRepository.count() > 0; i++) {
+            storeRatingService.foldDeltas();
+        }
+
+        //then
+        Assertions.assertTrue(errors.isEmpty());
+        assertEquals(0, storeRatingDeltaRepository.count());
+        StoreRatingResponseDto rating = storeRatingService.getRating(storeId);
+        int perStar = REVIEW_CNT / 5;
+        assertEquals(REVIEW_CNT, rating.getReviewCnt());
+        assertEquals(perStar, rating.getOneStarCnt());
+        assertEquals(perStar, rating.getTwoStarCnt());
+        assertEquals(perStar, rating.getThreeStarCnt());
+        assertEquals(perStar, rating.getFourStarCnt());
+        assertEquals(perStar, rating.getFiveStarCnt());
+        assertEquals(3.0, rating.getAvgRating(), 0.0001);
+        assertEquals(perStar * 15, storeRepository.findById(storeId).orElseThrow().getRating());
+    }
+}
@@ -0,0 +1,97 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sparta.blackwhitedeliverydriver.exception.ExceptionMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CursorUtilTest {
+
+    @Test
+    @DisplayName("encode -> decode 시 정렬 키 그대로 복원 (나노초, 방향 무관)")
+    void roundTrip() {
+        LocalDateTime createdDate = LocalDateTime.of(2024, 10, 3, 12, 30, 15, 123_456_789);
+        UUID id = UuidV7.generate();
+
+        String cursor = CursorUtil.encode(createdDate, id);
+
+        for (boolean isAsc : new boolean[]{true, false}) {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor, isAsc);
+            assertThat(decoded.getCreatedDate()).isEqualTo(createdDate);
+            assertThat(decoded.getId()).isEqualTo(id);
+        }
+    }
+
+    @Test
+    @DisplayName("커서는 URL 에 그대로 넣을 수 있는 문자만 사용")
+    void urlSafe() {
+        String cursor = CursorUtil.encode(LocalDateTime.of(2024, 1, 1, 0, 0), new UUID(-1L, -1L));
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  "})
+    @DisplayName("커서 없음 + 오름차순 -> 모든 행보다 작은 경계값")
+    void emptyCursorAsc(String cursor) {
+        CursorUtil.Cursor bound = CursorUtil.decode(cursor, true);
+
+        // (createdDate, id) > 경계값 이 모든 행에 참이어야 함 (id 는 PostgreSQL uuid 처럼 부호 없는 바이트 순서로 비교)
+        assertThat(bound.getCreatedDate()).isBefore(LocalDateTime.of(2000, 1, 1, 0, 0));
+        assertThat(bound.getId().toString()).isEqualTo("00000000-0000-0000-0000-000000000000");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  "})
+    @DisplayName("커서 없음 + 내림차순 -> 모든 행보다 큰 경계값")
+    void emptyCursorDesc(String cursor) {
+        CursorUtil.Cursor bound = CursorUtil.decode(cursor, false);
+
+        assertThat(bound.getCreatedDate()).isAfter(LocalDateTime.of(9000, 1, 1, 0, 0));
+        assertThat(bound.getId().toString()).isEqualTo("ffffffff-ffff-ffff-ffff-ffffffffffff");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "!!!not-base64!!!",
+            "bm8tZGVsaW1pdGVy", // "no-delimiter"
+            "bm90LWEtZGF0ZXwxMjM", // "not-a-date|123"
+    })
+    @DisplayName("잘못된 커서 -> INVALID_CURSOR")
+    void invalidCursor(String cursor) {
+        assertThatThrownBy(() -> CursorUtil.decode(cursor, true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ExceptionMessage.INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("날짜는 맞고 id 가 UUID 가 아닌 커서 -> INVALID_CURSOR")
+    void invalidId() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-01-01T00:00|not-a-uuid".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CursorUtil.decode(cursor, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ExceptionMessage.INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 size 는 10")
+    void normalizeSize() {
+        assertThat(CursorUtil.normalizeSize(30)).isEqualTo(30);
+        assertThat(CursorUtil.normalizeSize(50)).isEqualTo(50);
+        assertThat(CursorUtil.normalizeSize(0)).isEqualTo(10);
+        assertThat(CursorUtil.normalizeSize(1000)).isEqualTo(10);
+    }
+}
@@ -0,0 +1,132 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sparta.blackwhitedeliverydriver.dto.ProductImportRowDto;
+import com.sparta.blackwhitedeliverydriver.exception.ProductExceptionMessage;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductCsvReaderTest {
+    private static final String HEADER = "productName,price,imgUrl,productIntro\n";
+
+    @Test
+    @DisplayName("기본 레코드 + 헤더 순서 / 대소문자 무관")
+    void read() {
+        List<ProductImportRowDto> rows = ProductCsvReader.read(csv(
+                "PRICE,productname,productIntro,IMGURL\n"
+                        + "8000,김밥,맛있는 김밥,img/1.png\n"
+                        + "9000,라면,얼큰한 라면,img/2.png\n"), 10);
+
+        assertThat(rows).hasSize(2);
+        assertRow(rows.get(0), "김밥", 8000, "img/1.png", "맛있는 김밥");
+        assertRow(rows.get(1), "라면", 9000, "img/2.png", "얼큰한 라면");
+    }
+
+    @Test
+    @DisplayName("따옴표 필드: 쉼표, 이스케이프된 따옴표(\"\"), 줄바꿈 포함")
+    void quotedFields() {
+        List<ProductImportRowDto> rows = ProductCsvReader.read(csv(HEADER
+                + "\"떡볶이, 순대\",7000,img/1.png,\"\"\"국민\"\" 분식\"\n"
+                + "튀김,3000,img/2.png,\"바삭한\n모둠 튀김\"\n"), 10);
+
+        assertThat(rows).hasSize(2);
+        assertRow(rows.get(0), "떡볶이, 순대", 7000, "img/1.png", "\"국민\" 분식");
+        assertRow(rows.get(1), "튀김", 3000, "img/2.png", "바삭한\n모둠 튀김");
+    }
+
+    @Test
+    @DisplayName("BOM, CRLF 줄바꿈, 빈 줄")
+    void bomCrlfAndBlankLines() {
+        List<ProductImportRowDto> rows = ProductCsvReader.read(csv("\uFEFF"
+                + "productName,price,imgUrl,productIntro\r\n"
+                + "\r\n"
+                + "김밥,8000,img/1.png,소개\r\n"
+                + "\n"
+                + "라면,9000,img/2.png,\"줄\r\n바꿈\"\r\n"
+                + "\r\n"), 10);
+
+        assertThat(rows).hasSize(2);
+        assertRow(rows.get(0), "김밥", 8000, "img/1.png", "소개");
+        assertRow(rows.get(1), "라면", 9000, "img/2.png", "줄\r\n바꿈");
+    }
+
+    @Test
+    @DisplayName("비어 있거나 숫자가 아닌 값은 null -> 행 검증에서 오류로 보고")
+    void emptyAndInvalidValues() {
+        List<ProductImportRowDto> rows = ProductCsvReader.read(csv(HEADER
+                + "김밥,비쌈,img/1.png,  \n"
+                + "라면,9000\n"), 10);
+
+        assertThat(rows).hasSize(2);
+        assertRow(rows.get(0), "김밥", null, "img/1.png", null);
+        assertRow(rows.get(1), "라면", 9000, null, null);
+    }
+
+    @Test
+    @DisplayName("필수 헤더 컬럼이 없으면 INVALID_IMPORT_FILE")
+    void missingHeaderColumn() {
+        assertThatThrownBy(() -> ProductCsvReader.read(csv("productName,price,imgUrl\n김밥,8000,img/1.png\n"), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ProductExceptionMessage.INVALID_IMPORT_FILE.getMessage());
+    }
+
+    @Test
+    @DisplayName("빈 파일이면 INVALID_IMPORT_FILE")
+    void emptyFile() {
+        assertThatThrownBy(() -> ProductCsvReader.read(csv(""), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ProductExceptionMessage.INVALID_IMPORT_FILE.getMessage());
+    }
+
+    @Test
+    @DisplayName("maxRows 를 넘으면 maxRows + 1 행까지만 읽고 중단")
+    void stopsAfterMaxRowsPlusOne() {
+        StringBuilder body = new StringBuilder(HEADER);
+        for (int i = 0; i < 5000; i++) {
+            body.append("음식").append(i).append(",1000,img.png,소개\n");
+        }
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        CountingInputStream inputStream = new CountingInputStream(bytes);
+
+        List<ProductImportRowDto> rows = ProductCsvReader.read(inputStream, 5);
+
+        assertThat(rows).hasSize(6);
+        assertThat(rows.get(5).getProductName()).isEqualTo("음식5");
+        // 나머지 행은 읽지 않음 (리더 버퍼만큼만 소비)
+        assertThat(inputStream.readBytes).isLessThan(bytes.length / 2);
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertRow(ProductImportRowDto row, String productName, Integer price, String imgUrl, String productIntro) {
+        assertThat(row.getProductName()).isEqualTo(productName);
+        assertThat(row.getPrice()).isEqualTo(price);
+        assertThat(row.getImgUrl()).isEqualTo(imgUrl);
+        assertThat(row.getProductIntro()).isEqualTo(productIntro);
+    }
+
+    private static class CountingInputStream extends ByteArrayInputStream {
+        int readBytes;
+
+        CountingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                readBytes += read;
+            }
+            return read;
+        }
+    }
+}
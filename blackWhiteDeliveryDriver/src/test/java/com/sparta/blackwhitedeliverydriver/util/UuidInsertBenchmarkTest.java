@@ -0,0 +1,62 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+// v4(무작위) vs v7(시간 순) PK 삽입 처리량 / PK 인덱스 크기 비교 (./gradlew benchmark)
+// p_order 와 같은 형태의 임시 테이블에 같은 행 수를 같은 배치 크기로 삽입
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class UuidInsertBenchmarkTest {
+    private static final int ROW_CNT = 500_000;
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("v7 PK 삽입이 v4 보다 인덱스가 작음")
+    void compareInsert() {
+        Result v4 = insert("bench_uuid_v4", UUID::randomUUID);
+        Result v7 = insert("bench_uuid_v7", UuidV7::generate);
+
+        System.out.printf("v4: %,d rows/s, pkey %,d bytes%n", v4.rowsPerSecond(), v4.indexBytes());
+        System.out.printf("v7: %,d rows/s, pkey %,d bytes%n", v7.rowsPerSecond(), v7.indexBytes());
+        assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+    }
+
+    private Result insert(String table, Supplier<UUID> idSupplier) {
+        jdbcTemplate.execute("CREATE TEMP TABLE " + table + " (id uuid PRIMARY KEY, user_id varchar(255),"
+                + " final_pay integer NOT NULL, status varchar(255) NOT NULL, created_date timestamp(6)) ON COMMIT DROP");
+        String sql = "INSERT INTO " + table + " (id, user_id, final_pay, status, created_date)"
+                + " VALUES (?, ?, ?, 'CREATE', now())";
+
+        long start = System.nanoTime();
+        for (int inserted = 0; inserted < ROW_CNT; inserted += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch.add(new Object[]{idSupplier.get(), "user" + (i % 100), 10000});
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Long indexBytes = jdbcTemplate.queryForObject("SELECT pg_relation_size('" + table + "_pkey')", Long.class);
+        return new Result(ROW_CNT * 1_000_000_000L / elapsedNanos, indexBytes);
+    }
+
+    private record Result(long rowsPerSecond, long indexBytes) {
+    }
+}
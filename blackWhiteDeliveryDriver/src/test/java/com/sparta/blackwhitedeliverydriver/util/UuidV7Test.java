@@ -0,0 +1,49 @@
+package com.sparta.blackwhitedeliverydriver.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("버전 7, RFC 변형 비트")
+    void versionAndVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("생성 시각이 앞 48비트에 들어감")
+    void timestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(UuidV7.timestampOf(uuid)).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("같은 ms 안에서도 바이트 순서(PostgreSQL uuid 비교)로 항상 증가")
+    void monotonic() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7.generate());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(compareUnsigned(uuids.get(i - 1), uuids.get(i))).isNegative();
+        }
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}